@@ -0,0 +1,99 @@
+package com.zoo.hsezoorest.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zoo.hsezoorest.HseZooRestApplication;
+import com.zoo.hsezoorest.domain.repository.AnimalRepository;
+import com.zoo.hsezoorest.presentation.controller.AnimalController;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of GET /api/animals/{id} with the previous synchronous DEBUG logging and with the
+ * async, sampled configuration. Console output goes to a file, as it would to a pipe in a container.
+ * With a file that keeps up, both configurations score the same within error: the async setup only
+ * pays off when the console sink stalls, which this benchmark does not simulate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class AnimalEndpointLoggingBenchmark {
+
+    @Param({"sync-debug", "async-sampled"})
+    public String logging;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+    private AnimalController controller;
+    private ObjectMapper objectMapper;
+    private String animalId;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws IOException {
+        System.setOut(new PrintStream(new FileOutputStream("target/benchmark-console-" + logging + ".log"), false));
+
+        // System properties, so that they win over application.properties
+        System.setProperty("server.port", "0");
+        System.setProperty("spring.shell.interactive.enabled", "false");
+        System.setProperty("spring.security.user.name", "bench");
+        System.setProperty("spring.security.user.password", "bench");
+        if (logging.equals("sync-debug")) {
+            System.setProperty("logging.config", "classpath:logback-benchmark-sync.xml");
+            System.setProperty("logging.level.com.zoo", "DEBUG");
+        }
+
+        context = SpringApplication.run(HseZooRestApplication.class);
+
+        String port = context.getEnvironment().getProperty("local.server.port");
+        animalId = context.getBean(AnimalRepository.class).findAll().get(0).getId().getValue();
+        controller = context.getBean(AnimalController.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        String credentials = Base64.getEncoder().encodeToString("bench:bench".getBytes(StandardCharsets.UTF_8));
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/zoo/api/animals/" + animalId))
+                .header("Authorization", "Basic " + credentials)
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    // Full HTTP round trip, including Basic authentication
+    @Benchmark
+    public int getAnimalById() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.body().length;
+    }
+
+    // Handler plus JSON serialization, without the servlet container and the security filter chain
+    @Benchmark
+    public int handleGetAnimalById() throws IOException {
+        ServletWebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+        return objectMapper.writeValueAsBytes(controller.getAnimalById(animalId, webRequest)).length;
+    }
+}
@@ -0,0 +1,80 @@
+package com.zoo.hsezoorest.benchmark;
+
+import com.zoo.hsezoorest.HseZooRestApplication;
+import com.zoo.hsezoorest.infrastructure.security.TokenService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Requests per second on cheap, cached endpoints when authenticating with HTTP Basic
+ * (BCrypt on every request) and with a signed bearer token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class AuthenticationBenchmark {
+
+    @Param({"basic", "bearer"})
+    public String authentication;
+
+    @Param({"/api/enclosures/available", "/api/statistics"})
+    public String endpoint;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest request;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws IOException {
+        System.setOut(new PrintStream(new FileOutputStream("target/benchmark-console-auth.log"), false));
+
+        // System properties, so that they win over application.properties
+        System.setProperty("server.port", "0");
+        System.setProperty("spring.shell.interactive.enabled", "false");
+        System.setProperty("spring.security.user.name", "bench");
+        System.setProperty("spring.security.user.password", "bench");
+
+        context = SpringApplication.run(HseZooRestApplication.class);
+
+        String port = context.getEnvironment().getProperty("local.server.port");
+        String authorization = authentication.equals("bearer")
+                ? "Bearer " + context.getBean(TokenService.class).issue("bench", Instant.now())
+                : "Basic " + Base64.getEncoder().encodeToString("bench:bench".getBytes(StandardCharsets.UTF_8));
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/zoo" + endpoint))
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public int get() throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.body().length;
+    }
+}
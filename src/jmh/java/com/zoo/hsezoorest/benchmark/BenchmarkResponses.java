@@ -0,0 +1,74 @@
+package com.zoo.hsezoorest.benchmark;
+
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.animal.HealthStatus;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import com.zoo.hsezoorest.presentation.response.AnimalResponse;
+import com.zoo.hsezoorest.presentation.response.EnclosureResponse;
+import com.zoo.hsezoorest.presentation.response.FeedingResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+// Response DTOs shaped like the sample data, for the serialization benchmarks
+final class BenchmarkResponses {
+
+    private BenchmarkResponses() {
+    }
+
+    static AnimalResponse animal(int i) {
+        return AnimalResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .name("Animal " + i)
+                .species(i % 2 == 0 ? "Lion" : "Elephant")
+                .isPredator(i % 2 == 0)
+                .birthDate(LocalDate.of(2015, 1, 1).plusDays(i % 3000))
+                .gender(i % 2 == 0 ? Gender.MALE : Gender.FEMALE)
+                .favoriteFood(i % 2 == 0 ? "Meat" : "Fruits")
+                .healthStatus(HealthStatus.HEALTHY)
+                .currentEnclosure(AnimalResponse.EnclosureInfo.builder()
+                        .id(UUID.randomUUID().toString())
+                        .type(i % 2 == 0 ? "PREDATOR" : "HERBIVORE")
+                        .build())
+                .build();
+    }
+
+    static FeedingResponse feeding(int i, AnimalResponse animal) {
+        return FeedingResponse.builder()
+                .id(UUID.randomUUID().toString())
+                .animal(FeedingResponse.AnimalInfo.builder()
+                        .id(animal.getId())
+                        .name(animal.getName())
+                        .species(animal.getSpecies())
+                        .enclosureId(animal.getCurrentEnclosure().getId())
+                        .build())
+                .feedingTime(LocalTime.of(8 + i % 10, 0))
+                .foodType(i % 2 == 0 ? FoodType.MEAT : FoodType.FRUITS)
+                .isCompleted(i % 3 == 0)
+                .lastFedTime(LocalDateTime.of(2025, 1, 1, 8, 0).plusMinutes(i))
+                .feedingHistory(List.of("2025-01-01", "2025-01-02", "2025-01-03"))
+                .build();
+    }
+
+    static EnclosureResponse enclosure(int i, AnimalResponse animal) {
+        return EnclosureResponse.builder()
+                .id(animal.getCurrentEnclosure().getId())
+                .type(i % 2 == 0 ? EnclosureType.PREDATOR : EnclosureType.HERBIVORE)
+                .capacity(10)
+                .currentAnimalCount(1)
+                .remainingCapacity(9)
+                .isClean(i % 4 != 0)
+                .lastCleaningTime(LocalDateTime.of(2025, 1, 1, 7, 0).plusMinutes(i))
+                .animals(List.of(EnclosureResponse.AnimalInfo.builder()
+                        .id(animal.getId())
+                        .name(animal.getName())
+                        .species(animal.getSpecies())
+                        .status(EnclosureResponse.AnimalInfo.HealthStatus.HEALTHY)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.zoo.hsezoorest.benchmark;
+
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.shared.TimeOrderedIds;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Identifier generation throughput with eight threads creating ids at once: random UUIDs drawn
+ * from the shared SecureRandom against the thread-confined time-ordered generator, and the
+ * entity id factory built on it. Run with -t to compare other thread counts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class IdGenerationBenchmark {
+
+    @Benchmark
+    public UUID randomUuid() {
+        return UUID.randomUUID();
+    }
+
+    @Benchmark
+    public UUID timeOrdered() {
+        return TimeOrderedIds.next();
+    }
+
+    @Benchmark
+    public AnimalId animalId() {
+        return AnimalId.create();
+    }
+}
@@ -0,0 +1,63 @@
+package com.zoo.hsezoorest.benchmark;
+
+import com.zoo.hsezoorest.application.exception.AnimalNotFoundException;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.presentation.advice.GlobalExceptionHandler;
+import com.zoo.hsezoorest.presentation.response.ApiResponse;
+import org.openjdk.jmh.annotations.*;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A lookup of an unknown animal, thrown {@code depth} frames below the handler as a request
+ * thread would be: a plain EntityNotFoundException with an eagerly built message and a filled-in
+ * stack trace against the stackless AnimalNotFoundException, both answered by GlobalExceptionHandler.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class NotFoundPathBenchmark {
+
+    @Param({"0", "20", "120"})
+    public int depth;
+
+    private GlobalExceptionHandler handler;
+    private AnimalId animalId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        handler = new GlobalExceptionHandler(Duration.ofSeconds(10));
+        animalId = AnimalId.create();
+    }
+
+    @Benchmark
+    public ApiResponse<Object> entityNotFoundException() {
+        try {
+            return lookUp(depth, false);
+        } catch (EntityNotFoundException e) {
+            return handler.handleEntityNotFound(e);
+        }
+    }
+
+    @Benchmark
+    public ApiResponse<Object> animalNotFoundException() {
+        try {
+            return lookUp(depth, true);
+        } catch (EntityNotFoundException e) {
+            return handler.handleEntityNotFound(e);
+        }
+    }
+
+    private ApiResponse<Object> lookUp(int remaining, boolean typed) {
+        if (remaining > 0) {
+            return lookUp(remaining - 1, typed);
+        }
+        throw typed
+                ? new AnimalNotFoundException(animalId)
+                : new EntityNotFoundException("Animal not found with ID: " + animalId.getValue());
+    }
+}
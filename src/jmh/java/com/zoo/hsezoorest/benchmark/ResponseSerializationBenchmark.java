@@ -0,0 +1,77 @@
+package com.zoo.hsezoorest.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.zoo.hsezoorest.presentation.response.AnimalResponse;
+import com.zoo.hsezoorest.presentation.response.EnclosureResponse;
+import com.zoo.hsezoorest.presentation.response.FeedingResponse;
+import com.zoo.hsezoorest.presentation.serialization.AnimalResponseSerializer;
+import com.zoo.hsezoorest.presentation.serialization.EnclosureResponseSerializer;
+import com.zoo.hsezoorest.presentation.serialization.FeedingResponseSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON serialization of 10k-element response lists with Jackson's bean serializers
+ * and with the hand-written {@code @JsonComponent} serializers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class ResponseSerializationBenchmark {
+
+    private static final int SIZE = 10_000;
+
+    @Param({"bean", "custom"})
+    public String serializers;
+
+    private ObjectMapper mapper;
+    private List<AnimalResponse> animals;
+    private List<FeedingResponse> feedings;
+    private List<EnclosureResponse> enclosures;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        if (serializers.equals("custom")) {
+            builder.serializers(new AnimalResponseSerializer(), new EnclosureResponseSerializer(),
+                    new FeedingResponseSerializer());
+        }
+        mapper = builder.build();
+
+        animals = new ArrayList<>(SIZE);
+        feedings = new ArrayList<>(SIZE);
+        enclosures = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            AnimalResponse animal = BenchmarkResponses.animal(i);
+            animals.add(animal);
+            feedings.add(BenchmarkResponses.feeding(i, animal));
+            enclosures.add(BenchmarkResponses.enclosure(i, animal));
+        }
+    }
+
+    @Benchmark
+    public byte[] writeAnimals() throws IOException {
+        return mapper.writeValueAsBytes(animals);
+    }
+
+    @Benchmark
+    public byte[] writeFeedings() throws IOException {
+        return mapper.writeValueAsBytes(feedings);
+    }
+
+    @Benchmark
+    public byte[] writeEnclosures() throws IOException {
+        return mapper.writeValueAsBytes(enclosures);
+    }
+}
@@ -0,0 +1,82 @@
+package com.zoo.hsezoorest.benchmark;
+
+import com.zoo.hsezoorest.HseZooRestApplication;
+import com.zoo.hsezoorest.infrastructure.security.TokenService;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the Spring Security filter chain alone, without Tomcat, the dispatcher servlet or a handler,
+ * for the previous default chain and for the stateless chain with the health/metrics fast lane.
+ * Authenticated routes use a bearer token so that BCrypt does not hide the filter overhead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(1)
+@Warmup(iterations = 6, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class SecurityFilterChainBenchmark {
+
+    private static final FilterChain HANDLER = (request, response) -> { };
+
+    @Param({"default", "stateless"})
+    public String chain;
+
+    @Param({"/api/enclosures/available", "/actuator/health"})
+    public String path;
+
+    private ConfigurableApplicationContext context;
+    private Filter springSecurityFilterChain;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void startApplication() throws IOException {
+        System.setOut(new PrintStream(new FileOutputStream("target/benchmark-console-security.log"), false));
+
+        // System properties, so that they win over application.properties
+        System.setProperty("server.port", "0");
+        System.setProperty("spring.shell.interactive.enabled", "false");
+        System.setProperty("spring.security.user.name", "bench");
+        System.setProperty("spring.security.user.password", "bench");
+        System.setProperty("zoo.security.stateless", String.valueOf(chain.equals("stateless")));
+        System.setProperty("zoo.security.fast-lane.enabled", String.valueOf(chain.equals("stateless")));
+
+        context = SpringApplication.run(HseZooRestApplication.class);
+
+        springSecurityFilterChain = context.getBean("springSecurityFilterChain", Filter.class);
+        authorization = "Bearer " + context.getBean(TokenService.class).issue("bench", Instant.now());
+    }
+
+    @TearDown(Level.Trial)
+    public void stopApplication() {
+        context.close();
+    }
+
+    @Benchmark
+    public int doFilter() throws IOException, ServletException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/zoo" + path);
+        request.setContextPath("/zoo");
+        request.setServletPath(path);
+        request.addHeader("Authorization", authorization);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        springSecurityFilterChain.doFilter(request, response, HANDLER);
+        if (response.getStatus() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.getStatus());
+        }
+        return response.getHeaderNames().size();
+    }
+}
@@ -0,0 +1,115 @@
+package com.zoo.hsezoorest.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.zoo.hsezoorest.presentation.response.AnimalResponse;
+import com.zoo.hsezoorest.presentation.response.EnclosureResponse;
+import com.zoo.hsezoorest.presentation.response.FeedingResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding 100k-element response lists as JSON, CBOR and Smile. The mappers are
+ * configured like the application's (see spring.jackson.* in application.properties); payload
+ * sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class WireFormatBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private List<AnimalResponse> animals;
+    private List<FeedingResponse> feedings;
+    private List<EnclosureResponse> enclosures;
+    private byte[] encodedAnimals;
+    private byte[] encodedFeedings;
+    private byte[] encodedEnclosures;
+    private JavaType animalListType;
+    private JavaType feedingListType;
+    private JavaType enclosureListType;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        mapper = new Jackson2ObjectMapperBuilder()
+                .factory(factory(format))
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .build();
+
+        animals = new ArrayList<>(SIZE);
+        feedings = new ArrayList<>(SIZE);
+        enclosures = new ArrayList<>(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            AnimalResponse animal = BenchmarkResponses.animal(i);
+            animals.add(animal);
+            feedings.add(BenchmarkResponses.feeding(i, animal));
+            enclosures.add(BenchmarkResponses.enclosure(i, animal));
+        }
+
+        encodedAnimals = mapper.writeValueAsBytes(animals);
+        encodedFeedings = mapper.writeValueAsBytes(feedings);
+        encodedEnclosures = mapper.writeValueAsBytes(enclosures);
+        animalListType = mapper.getTypeFactory().constructCollectionType(List.class, AnimalResponse.class);
+        feedingListType = mapper.getTypeFactory().constructCollectionType(List.class, FeedingResponse.class);
+        enclosureListType = mapper.getTypeFactory().constructCollectionType(List.class, EnclosureResponse.class);
+
+        System.out.printf("%s payload bytes: animals=%d feedings=%d enclosures=%d%n",
+                format, encodedAnimals.length, encodedFeedings.length, encodedEnclosures.length);
+    }
+
+    @Benchmark
+    public byte[] writeAnimals() throws IOException {
+        return mapper.writeValueAsBytes(animals);
+    }
+
+    @Benchmark
+    public byte[] writeFeedings() throws IOException {
+        return mapper.writeValueAsBytes(feedings);
+    }
+
+    @Benchmark
+    public byte[] writeEnclosures() throws IOException {
+        return mapper.writeValueAsBytes(enclosures);
+    }
+
+    @Benchmark
+    public List<AnimalResponse> readAnimals() throws IOException {
+        return mapper.readValue(encodedAnimals, animalListType);
+    }
+
+    @Benchmark
+    public List<FeedingResponse> readFeedings() throws IOException {
+        return mapper.readValue(encodedFeedings, feedingListType);
+    }
+
+    @Benchmark
+    public List<EnclosureResponse> readEnclosures() throws IOException {
+        return mapper.readValue(encodedEnclosures, enclosureListType);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+}
@@ -120,7 +120,7 @@ public class HseZooRestApplication {
 
             Animal parrot = new Animal(
                     AnimalId.create(),
-                    Species.herbivore("Parrot"),
+                    Species.avianHerbivore("Parrot"),
                     "Rio",
                     LocalDate.of(2020, 2, 14),
                     Gender.MALE,
@@ -0,0 +1,37 @@
+package com.zoo.hsezoorest.application.dto.enclosure;
+
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Value
+@Builder
+public class EnclosureDashboard {
+    Enclosure enclosure;
+    List<Resident> residents;
+    long sickAnimals;
+    long pendingFeedings;
+    long completedFeedings;
+    LocalDateTime generatedAt;
+
+    @Value
+    public static class Resident {
+        Animal animal;
+        List<ScheduledFeeding> feedings;
+    }
+
+    @Value
+    public static class ScheduledFeeding {
+        Feeding feeding;
+        FeedingStatus status;
+    }
+
+    public enum FeedingStatus {
+        COMPLETED, PENDING, UPCOMING
+    }
+}
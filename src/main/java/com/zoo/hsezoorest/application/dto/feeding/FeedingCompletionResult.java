@@ -0,0 +1,24 @@
+package com.zoo.hsezoorest.application.dto.feeding;
+
+import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class FeedingCompletionResult {
+    List<Item> items;
+    int completed;
+    int alreadyCompleted;
+    int notFound;
+
+    @Value
+    public static class Item {
+        FeedingId feedingId;
+        Outcome outcome;
+    }
+
+    public enum Outcome {
+        COMPLETED, ALREADY_COMPLETED, NOT_FOUND
+    }
+}
@@ -0,0 +1,33 @@
+package com.zoo.hsezoorest.application.dto.feeding;
+
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+@Value
+@Builder
+public class FeedingRoundPlan {
+    LocalTime plannedFor;
+    List<Round> rounds;
+    Map<FoodType, Integer> foodTotals;
+    int totalFeedings;
+
+    // One stop of a keeper round: every due feeding of one food type in one enclosure
+    @Value
+    public static class Round {
+        Enclosure enclosure;
+        FoodType foodType;
+        LocalTime startTime;
+        List<Feeding> feedings;
+
+        public int getPortions() {
+            return feedings.size();
+        }
+    }
+}
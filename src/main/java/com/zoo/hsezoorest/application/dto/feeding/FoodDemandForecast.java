@@ -0,0 +1,26 @@
+package com.zoo.hsezoorest.application.dto.feeding;
+
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Value
+@Builder
+public class FoodDemandForecast {
+    LocalDateTime from;
+    LocalDateTime to;
+    Map<FoodType, Long> totals;
+    long totalPortions;
+    List<DailyDemand> days;
+
+    @Value
+    public static class DailyDemand {
+        LocalDate date;
+        Map<FoodType, Long> portions;
+    }
+}
@@ -0,0 +1,67 @@
+package com.zoo.hsezoorest.application.dto.statistics;
+
+import lombok.Getter;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Getter
+public enum StatisticsMetric {
+    TOTAL_ANIMALS("totalAnimals", Source.ANIMALS, Kind.COUNT),
+    HEALTHY_ANIMALS("healthyAnimals", Source.ANIMALS, Kind.COUNT),
+    SICK_ANIMALS("sickAnimals", Source.ANIMALS, Kind.COUNT),
+    PREDATORS("predators", Source.ANIMALS, Kind.COUNT),
+    HERBIVORES("herbivores", Source.ANIMALS, Kind.COUNT),
+    ANIMALS_BY_SPECIES("animalsBySpecies", Source.ANIMALS, Kind.BREAKDOWN),
+    TOTAL_ENCLOSURES("totalEnclosures", Source.ENCLOSURES, Kind.COUNT),
+    EMPTY_ENCLOSURES("emptyEnclosures", Source.ENCLOSURES, Kind.COUNT),
+    ENCLOSURES_BY_TYPE("enclosuresByType", Source.ENCLOSURES, Kind.BREAKDOWN),
+    TOTAL_CAPACITY("totalCapacity", Source.ENCLOSURES, Kind.COUNT),
+    USED_CAPACITY("usedCapacity", Source.ENCLOSURES, Kind.COUNT),
+    AVAILABLE_CAPACITY("availableCapacity", Source.ENCLOSURES, Kind.COUNT),
+    OCCUPANCY_RATE("occupancyRate", Source.ENCLOSURES, Kind.RATE),
+    TOTAL_FEEDING_SCHEDULES("totalFeedingSchedules", Source.FEEDINGS, Kind.COUNT),
+    PENDING_FEEDINGS("pendingFeedings", Source.FEEDINGS, Kind.COUNT),
+    COMPLETED_FEEDINGS("completedFeedings", Source.FEEDINGS, Kind.COUNT),
+    FEEDINGS_BY_FOOD_TYPE("feedingsByFoodType", Source.FEEDINGS, Kind.BREAKDOWN);
+
+    public enum Source {
+        ANIMALS, ENCLOSURES, FEEDINGS
+    }
+
+    public enum Kind {
+        COUNT, BREAKDOWN, RATE
+    }
+
+    private final String key;
+    private final Source source;
+    private final Kind kind;
+
+    StatisticsMetric(String key, Source source, Kind kind) {
+        this.key = key;
+        this.source = source;
+        this.kind = kind;
+    }
+
+    public static StatisticsMetric fromKey(String key) {
+        for (StatisticsMetric metric : values()) {
+            if (metric.key.equalsIgnoreCase(key) || metric.name().equalsIgnoreCase(key)) {
+                return metric;
+            }
+        }
+        throw new IllegalArgumentException("Unknown statistics metric: " + key);
+    }
+
+    public static boolean anyFrom(Set<StatisticsMetric> metrics, Source source) {
+        for (StatisticsMetric metric : metrics) {
+            if (metric.source == source) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static Set<StatisticsMetric> all() {
+        return EnumSet.allOf(StatisticsMetric.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.zoo.hsezoorest.application.dto.statistics;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The metrics computed for one statistics query, readable by kind without casting.
+ */
+public final class StatisticsResult {
+
+    private final Set<StatisticsMetric> metrics;
+    private final Map<StatisticsMetric, Long> counts;
+    private final Map<StatisticsMetric, Map<String, Long>> breakdowns;
+    private final double occupancyRate;
+
+    private StatisticsResult(Builder builder) {
+        this.metrics = Collections.unmodifiableSet(EnumSet.copyOf(builder.computed));
+        this.counts = Collections.unmodifiableMap(builder.counts);
+        this.breakdowns = Collections.unmodifiableMap(builder.breakdowns);
+        this.occupancyRate = builder.occupancyRate;
+    }
+
+    public static Builder builder(Set<StatisticsMetric> requested) {
+        return new Builder(requested);
+    }
+
+    public Set<StatisticsMetric> getMetrics() {
+        return metrics;
+    }
+
+    public long getCount(StatisticsMetric metric) {
+        require(metric, StatisticsMetric.Kind.COUNT);
+        return counts.get(metric);
+    }
+
+    public Map<String, Long> getBreakdown(StatisticsMetric metric) {
+        require(metric, StatisticsMetric.Kind.BREAKDOWN);
+        return breakdowns.get(metric);
+    }
+
+    public double getOccupancyRate() {
+        require(StatisticsMetric.OCCUPANCY_RATE, StatisticsMetric.Kind.RATE);
+        return occupancyRate;
+    }
+
+    private void require(StatisticsMetric metric, StatisticsMetric.Kind kind) {
+        if (metric.getKind() != kind) {
+            throw new IllegalArgumentException(metric + " is not a " + kind.name().toLowerCase() + " metric");
+        }
+        if (!metrics.contains(metric)) {
+            throw new IllegalArgumentException(metric + " was not requested");
+        }
+    }
+
+    public static final class Builder {
+
+        private final Set<StatisticsMetric> requested;
+        private final Set<StatisticsMetric> computed = EnumSet.noneOf(StatisticsMetric.class);
+        private final Map<StatisticsMetric, Long> counts = new EnumMap<>(StatisticsMetric.class);
+        private final Map<StatisticsMetric, Map<String, Long>> breakdowns = new EnumMap<>(StatisticsMetric.class);
+        private double occupancyRate;
+
+        private Builder(Set<StatisticsMetric> requested) {
+            this.requested = requested;
+        }
+
+        public boolean isRequested(StatisticsMetric metric) {
+            return requested.contains(metric);
+        }
+
+        public Builder count(StatisticsMetric metric, long value) {
+            if (accept(metric, StatisticsMetric.Kind.COUNT)) {
+                counts.put(metric, value);
+            }
+            return this;
+        }
+
+        public Builder breakdown(StatisticsMetric metric, Map<String, Long> value) {
+            if (accept(metric, StatisticsMetric.Kind.BREAKDOWN)) {
+                breakdowns.put(metric, Collections.unmodifiableMap(value));
+            }
+            return this;
+        }
+
+        public Builder occupancyRate(double value) {
+            if (accept(StatisticsMetric.OCCUPANCY_RATE, StatisticsMetric.Kind.RATE)) {
+                occupancyRate = value;
+            }
+            return this;
+        }
+
+        public StatisticsResult build() {
+            return new StatisticsResult(this);
+        }
+
+        private boolean accept(StatisticsMetric metric, StatisticsMetric.Kind kind) {
+            if (metric.getKind() != kind) {
+                throw new IllegalArgumentException(metric + " is not a " + kind.name().toLowerCase() + " metric");
+            }
+            if (!requested.contains(metric)) {
+                return false;
+            }
+            computed.add(metric);
+            return true;
+        }
+    }
+}
@@ -1,4 +1,8 @@
 package com.zoo.hsezoorest.application.exception;
 
-public class AnimalNotFoundException {
+public class AnimalNotFoundException extends NotFoundException {
+
+    public AnimalNotFoundException(Object animalId) {
+        super(ErrorCode.ANIMAL_NOT_FOUND, "Animal", animalId);
+    }
 }
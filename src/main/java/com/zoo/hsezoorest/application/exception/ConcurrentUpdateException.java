@@ -0,0 +1,9 @@
+package com.zoo.hsezoorest.application.exception;
+
+public class ConcurrentUpdateException extends RejectedOperationException {
+
+    public ConcurrentUpdateException(String entityName, Object id, long expectedVersion, long actualVersion) {
+        super(ErrorCode.CONFLICT, entityName + " " + id + " was modified concurrently (expected version " +
+                expectedVersion + ", found " + actualVersion + ")");
+    }
+}
@@ -0,0 +1,12 @@
+package com.zoo.hsezoorest.application.exception;
+
+/**
+ * Expected failures that clients trigger routinely, such as unknown ids or rejected transfers.
+ * Implementations skip the stack trace and keep the JDK or JPA supertype callers already catch.
+ */
+public interface DomainError {
+
+    ErrorCode getErrorCode();
+
+    String getMessage();
+}
@@ -1,4 +1,8 @@
 package com.zoo.hsezoorest.application.exception;
 
-public class EnclosureFullExpection {
+public class EnclosureFullExpection extends RejectedOperationException {
+
+    public EnclosureFullExpection() {
+        super(ErrorCode.ENCLOSURE_FULL, "Target enclosure is at full capacity");
+    }
 }
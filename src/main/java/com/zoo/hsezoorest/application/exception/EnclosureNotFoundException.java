@@ -0,0 +1,8 @@
+package com.zoo.hsezoorest.application.exception;
+
+public class EnclosureNotFoundException extends NotFoundException {
+
+    public EnclosureNotFoundException(Object enclosureId) {
+        super(ErrorCode.ENCLOSURE_NOT_FOUND, "Enclosure", enclosureId);
+    }
+}
@@ -0,0 +1,10 @@
+package com.zoo.hsezoorest.application.exception;
+
+public enum ErrorCode {
+    ANIMAL_NOT_FOUND,
+    ENCLOSURE_NOT_FOUND,
+    FEEDING_NOT_FOUND,
+    ENCLOSURE_FULL,
+    INCOMPATIBLE_ENCLOSURE_TYPE,
+    CONFLICT
+}
@@ -0,0 +1,8 @@
+package com.zoo.hsezoorest.application.exception;
+
+public class FeedingNotFoundException extends NotFoundException {
+
+    public FeedingNotFoundException(Object feedingId) {
+        super(ErrorCode.FEEDING_NOT_FOUND, "Feeding schedule", feedingId);
+    }
+}
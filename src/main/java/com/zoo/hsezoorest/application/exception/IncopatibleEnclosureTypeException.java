@@ -1,4 +1,12 @@
 package com.zoo.hsezoorest.application.exception;
 
-public class IncopatibleEnclosureTypeException {
+import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+
+public class IncopatibleEnclosureTypeException extends RejectedOperationException {
+
+    public IncopatibleEnclosureTypeException(Species species, Enclosure enclosure) {
+        super(ErrorCode.INCOMPATIBLE_ENCLOSURE_TYPE, "Animal type " + species.getValue() +
+                " is not compatible with enclosure type " + enclosure.getType());
+    }
 }
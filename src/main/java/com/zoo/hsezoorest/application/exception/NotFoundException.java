@@ -0,0 +1,32 @@
+package com.zoo.hsezoorest.application.exception;
+
+import javax.persistence.EntityNotFoundException;
+
+public abstract class NotFoundException extends EntityNotFoundException implements DomainError {
+
+    private final ErrorCode errorCode;
+    private final String entityName;
+    private final Object id;
+
+    protected NotFoundException(ErrorCode errorCode, String entityName, Object id) {
+        this.errorCode = errorCode;
+        this.entityName = entityName;
+        this.id = id;
+    }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    // Built on demand: most of these are answered without the message ever being logged
+    @Override
+    public String getMessage() {
+        return entityName + " not found with ID: " + id;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
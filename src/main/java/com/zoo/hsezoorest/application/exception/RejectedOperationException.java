@@ -0,0 +1,21 @@
+package com.zoo.hsezoorest.application.exception;
+
+public abstract class RejectedOperationException extends IllegalArgumentException implements DomainError {
+
+    private final ErrorCode errorCode;
+
+    protected RejectedOperationException(ErrorCode errorCode, String message) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+
+    @Override
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -1,17 +1,25 @@
 package com.zoo.hsezoorest.application.service;
 
+import com.zoo.hsezoorest.application.exception.AnimalNotFoundException;
+import com.zoo.hsezoorest.application.exception.EnclosureFullExpection;
+import com.zoo.hsezoorest.application.exception.EnclosureNotFoundException;
+import com.zoo.hsezoorest.application.exception.IncopatibleEnclosureTypeException;
 import com.zoo.hsezoorest.domain.event.AnimalMovedEvent;
 import com.zoo.hsezoorest.domain.model.animal.Animal;
 import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.animal.FavoriteFood;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.animal.Species;
 import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
 import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
 import com.zoo.hsezoorest.domain.repository.AnimalRepository;
 import com.zoo.hsezoorest.domain.repository.EnclosureRepository;
 import com.zoo.hsezoorest.infrastructure.event.EventPublisher;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import javax.persistence.EntityNotFoundException;
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -30,35 +38,86 @@ public class AnimalTransferService {
         this.eventPublisher = eventPublisher;
     }
 
+    @Timed(value = "zoo.transfer", description = "Animal transfers, tagged with the failure type", histogram = true)
     public Animal transferAnimal(AnimalId animalId, EnclosureId targetEnclosureId, String reason) {
         log.info("Transferring animal {} to enclosure {}", animalId.getValue(), targetEnclosureId.getValue());
 
         Animal animal = animalRepository.findById(animalId)
-                .orElseThrow(() -> new EntityNotFoundException("Animal not found: " + animalId.getValue()));
+                .orElseThrow(() -> new AnimalNotFoundException(animalId));
+        return move(animal, animal.getVersion(), targetEnclosureId, null, reason);
+    }
 
+    /**
+     * Applies new details and, when the target differs from the current enclosure, the move to it as one
+     * version-checked change: a rejected move leaves the details untouched. The species is checked against
+     * the enclosure the animal ends up in.
+     */
+    public Animal updateAnimal(AnimalId animalId, long expectedVersion, Species species, String name,
+                               LocalDate birthDate, Gender gender, FavoriteFood favoriteFood,
+                               EnclosureId targetEnclosureId) {
+        Animal animal = animalRepository.findById(animalId)
+                .orElseThrow(() -> new AnimalNotFoundException(animalId));
+        Details details = new Details(species, name, birthDate, gender, favoriteFood);
+
+        Enclosure currentEnclosure = animal.getCurrentEnclosure();
+        if (targetEnclosureId == null
+                || (currentEnclosure != null && currentEnclosure.getId().equals(targetEnclosureId))) {
+            return animalRepository.update(animalId, expectedVersion, details::applyTo)
+                    .orElseThrow(() -> new AnimalNotFoundException(animalId));
+        }
+        return move(animal, expectedVersion, targetEnclosureId, details, "Update requested");
+    }
+
+    private Animal move(Animal animal, long animalVersion, EnclosureId targetEnclosureId, Details details,
+                        String reason) {
+        AnimalId animalId = animal.getId();
         Enclosure targetEnclosure = enclosureRepository.findById(targetEnclosureId)
-                .orElseThrow(() -> new EntityNotFoundException("Enclosure not found: " + targetEnclosureId.getValue()));
+                .orElseThrow(() -> new EnclosureNotFoundException(targetEnclosureId));
 
         Enclosure sourceEnclosure = animal.getCurrentEnclosure();
         EnclosureId sourceEnclosureId = sourceEnclosure != null ? sourceEnclosure.getId() : null;
 
+        if (targetEnclosureId.equals(sourceEnclosureId)) {
+            log.info("Animal {} is already in enclosure {}", animalId.getValue(), targetEnclosureId.getValue());
+            return animal;
+        }
+
+        long targetVersion = targetEnclosure.getVersion();
+        long sourceVersion = sourceEnclosure != null ? sourceEnclosure.getVersion() : 0;
+        Species species = details != null ? details.species() : animal.getSpecies();
+
         if (!targetEnclosure.hasAvailableSpace()) {
-            throw new IllegalArgumentException("Target enclosure is at full capacity");
+            throw new EnclosureFullExpection();
         }
 
-        if (!targetEnclosure.canHouseAnimal(animal)) {
-            throw new IllegalArgumentException(
-                    "Animal type " + animal.getSpecies().getValue() +
-                            " is not compatible with enclosure type " + targetEnclosure.getType());
+        if (!targetEnclosure.canHouse(species)) {
+            throw new IncopatibleEnclosureTypeException(species, targetEnclosure);
         }
 
-        animal.moveToEnclosure(targetEnclosure);
-        animalRepository.save(animal);
+        // Each entity changes inside its own version-checked update, so a concurrent edit of any
+        // of the three since they were read above fails the whole transfer. The animal itself is
+        // only changed once both enclosures have been updated.
+        Animal movedAnimal = animalRepository.update(animalId, animalVersion, moving -> {
+            enclosureRepository.update(targetEnclosureId, targetVersion, target -> target.addAnimal(moving, species))
+                    .orElseThrow(() -> new EnclosureNotFoundException(targetEnclosureId));
+            if (sourceEnclosureId != null) {
+                try {
+                    enclosureRepository.update(sourceEnclosureId, sourceVersion, source -> source.removeAnimal(moving));
+                } catch (RuntimeException e) {
+                    enclosureRepository.update(targetEnclosureId, target -> target.removeAnimal(moving));
+                    throw e;
+                }
+            }
+            if (details != null) {
+                details.applyTo(moving, targetEnclosure);
+            }
+            moving.relocateTo(targetEnclosure);
+        }).orElseThrow(() -> new AnimalNotFoundException(animalId));
 
         AnimalMovedEvent event = new AnimalMovedEvent(
-                animal.getId(),
-                animal.getName(),
-                animal.getSpecies().getValue(),
+                movedAnimal.getId(),
+                movedAnimal.getName(),
+                movedAnimal.getSpecies().getValue(),
                 sourceEnclosureId,
                 targetEnclosure.getId(),
                 reason
@@ -66,7 +125,7 @@ public class AnimalTransferService {
         eventPublisher.publish(event);
 
         log.info("Animal transferred successfully: {}", event.getDescription());
-        return animal;
+        return movedAnimal;
     }
 
     public Animal assignToEnclosure(AnimalId animalId, EnclosureId enclosureId) {
@@ -75,9 +134,21 @@ public class AnimalTransferService {
 
     public List<Enclosure> findSuitableEnclosures(AnimalId animalId) {
         Animal animal = animalRepository.findById(animalId)
-                .orElseThrow(() -> new EntityNotFoundException("Animal not found: " + animalId.getValue()));
+                .orElseThrow(() -> new AnimalNotFoundException(animalId));
 
         String animalType = animal.getSpecies().isPredator() ? "predator" : "herbivore";
         return enclosureRepository.findSuitableForAnimalType(animalType);
     }
+
+    private record Details(Species species, String name, LocalDate birthDate, Gender gender,
+                           FavoriteFood favoriteFood) {
+
+        void applyTo(Animal animal) {
+            animal.updateDetails(species, name, birthDate, gender, favoriteFood);
+        }
+
+        void applyTo(Animal animal, Enclosure housing) {
+            animal.updateDetails(species, name, birthDate, gender, favoriteFood, housing);
+        }
+    }
 }
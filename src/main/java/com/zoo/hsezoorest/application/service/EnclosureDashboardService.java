@@ -0,0 +1,97 @@
+package com.zoo.hsezoorest.application.service;
+
+import com.zoo.hsezoorest.application.dto.enclosure.EnclosureDashboard;
+import com.zoo.hsezoorest.application.exception.EnclosureNotFoundException;
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.animal.HealthStatus;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.repository.EnclosureRepository;
+import com.zoo.hsezoorest.domain.repository.FeedingRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+public class EnclosureDashboardService {
+
+    private static final Comparator<EnclosureDashboard.ScheduledFeeding> BY_FEEDING_TIME =
+            Comparator.comparing(scheduled -> scheduled.getFeeding().getFeedingTime().getTime());
+
+    private final EnclosureRepository enclosureRepository;
+    private final FeedingRepository feedingScheduleRepository;
+
+    public EnclosureDashboardService(EnclosureRepository enclosureRepository,
+                                     FeedingRepository feedingScheduleRepository) {
+        this.enclosureRepository = enclosureRepository;
+        this.feedingScheduleRepository = feedingScheduleRepository;
+    }
+
+    public EnclosureDashboard getDashboard(EnclosureId enclosureId) {
+        log.info("Assembling dashboard for enclosure {}", enclosureId.getValue());
+
+        Enclosure enclosure = enclosureRepository.findById(enclosureId)
+                .orElseThrow(() -> new EnclosureNotFoundException(enclosureId));
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalTime currentTime = now.toLocalTime();
+        LocalDate today = now.toLocalDate();
+
+        List<Animal> animals = enclosure.getAnimals();
+        List<AnimalId> animalIds = new ArrayList<>(animals.size());
+        for (Animal animal : animals) {
+            animalIds.add(animal.getId());
+        }
+
+        Map<AnimalId, List<EnclosureDashboard.ScheduledFeeding>> feedingsByAnimal = new HashMap<>(animals.size() * 2);
+        long pendingFeedings = 0;
+        long completedFeedings = 0;
+        for (Feeding feeding : feedingScheduleRepository.findByAnimalIds(animalIds)) {
+            EnclosureDashboard.FeedingStatus status;
+            if (feeding.isCompleted() && feeding.wasFedOn(today)) {
+                status = EnclosureDashboard.FeedingStatus.COMPLETED;
+                completedFeedings++;
+            } else if (feeding.isTimeToFeed(currentTime)) {
+                status = EnclosureDashboard.FeedingStatus.PENDING;
+                pendingFeedings++;
+            } else {
+                status = EnclosureDashboard.FeedingStatus.UPCOMING;
+            }
+            feedingsByAnimal.computeIfAbsent(feeding.getAnimal().getId(), id -> new ArrayList<>())
+                    .add(new EnclosureDashboard.ScheduledFeeding(feeding, status));
+        }
+
+        List<EnclosureDashboard.Resident> residents = new ArrayList<>(animals.size());
+        long sickAnimals = 0;
+        for (Animal animal : animals) {
+            if (animal.getHealthStatus() == HealthStatus.SICK) {
+                sickAnimals++;
+            }
+            List<EnclosureDashboard.ScheduledFeeding> feedings = feedingsByAnimal.getOrDefault(animal.getId(), List.of());
+            if (feedings.size() > 1) {
+                feedings.sort(BY_FEEDING_TIME);
+            }
+            residents.add(new EnclosureDashboard.Resident(animal, feedings));
+        }
+
+        return EnclosureDashboard.builder()
+                .enclosure(enclosure)
+                .residents(residents)
+                .sickAnimals(sickAnimals)
+                .pendingFeedings(pendingFeedings)
+                .completedFeedings(completedFeedings)
+                .generatedAt(now)
+                .build();
+    }
+}
@@ -1,6 +1,10 @@
 package com.zoo.hsezoorest.application.service;
 
+import com.zoo.hsezoorest.application.dto.feeding.FeedingCompletionResult;
+import com.zoo.hsezoorest.application.exception.AnimalNotFoundException;
+import com.zoo.hsezoorest.application.exception.FeedingNotFoundException;
 import com.zoo.hsezoorest.domain.event.FeedingTimeEvent;
+import com.zoo.hsezoorest.domain.event.FeedingsCompletedEvent;
 import com.zoo.hsezoorest.domain.model.animal.Animal;
 import com.zoo.hsezoorest.domain.model.animal.AnimalId;
 import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
@@ -10,14 +14,20 @@ import com.zoo.hsezoorest.domain.model.feeding.FoodType;
 import com.zoo.hsezoorest.domain.repository.AnimalRepository;
 import com.zoo.hsezoorest.domain.repository.FeedingRepository;
 import com.zoo.hsezoorest.infrastructure.event.EventPublisher;
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import javax.persistence.EntityNotFoundException;
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -39,7 +49,7 @@ public class FeedingOrganizationService {
         log.info("Creating feeding schedule for animal {} at {}", animalId.getValue(), feedingTime.toString());
 
         Animal animal = animalRepository.findById(animalId)
-                .orElseThrow(() -> new EntityNotFoundException("Animal not found: " + animalId.getValue()));
+                .orElseThrow(() -> new AnimalNotFoundException(animalId));
 
         FeedingId feedingId = FeedingId.create();
         Feeding feedingSchedule = new Feeding(feedingId, animal, feedingTime, foodType);
@@ -56,7 +66,7 @@ public class FeedingOrganizationService {
         log.info("Marking feeding schedule {} as completed", feedingId.getValue());
 
         Feeding feedingSchedule = feedingScheduleRepository.findById(feedingId)
-                .orElseThrow(() -> new EntityNotFoundException("Feeding schedule not found: " + feedingId.getValue()));
+                .orElseThrow(() -> new FeedingNotFoundException(feedingId));
 
         boolean success = feedingSchedule.markAsCompleted();
         if (success) {
@@ -72,6 +82,50 @@ public class FeedingOrganizationService {
         return success;
     }
 
+    public FeedingCompletionResult completeFeedingSchedules(Collection<FeedingId> feedingIds) {
+        log.info("Marking {} feeding schedules as completed", feedingIds.size());
+
+        Set<FeedingId> requestedIds = new LinkedHashSet<>(feedingIds);
+        Map<FeedingId, Feeding> schedules = new HashMap<>(requestedIds.size() * 2);
+        for (Feeding schedule : feedingScheduleRepository.findAllById(requestedIds)) {
+            schedules.put(schedule.getId(), schedule);
+        }
+
+        List<FeedingCompletionResult.Item> items = new ArrayList<>(requestedIds.size());
+        List<Feeding> completed = new ArrayList<>();
+        int alreadyCompleted = 0;
+        for (FeedingId feedingId : requestedIds) {
+            Feeding schedule = schedules.get(feedingId);
+            FeedingCompletionResult.Outcome outcome;
+            if (schedule == null) {
+                outcome = FeedingCompletionResult.Outcome.NOT_FOUND;
+            } else if (schedule.markAsCompleted()) {
+                schedule.getAnimal().feed(schedule.getFoodType().getDisplayName());
+                completed.add(schedule);
+                outcome = FeedingCompletionResult.Outcome.COMPLETED;
+            } else {
+                alreadyCompleted++;
+                outcome = FeedingCompletionResult.Outcome.ALREADY_COMPLETED;
+            }
+            items.add(new FeedingCompletionResult.Item(feedingId, outcome));
+        }
+        int notFound = requestedIds.size() - schedules.size();
+
+        if (!completed.isEmpty()) {
+            feedingScheduleRepository.saveAll(completed);
+
+            List<FeedingId> completedIds = new ArrayList<>(completed.size());
+            for (Feeding schedule : completed) {
+                completedIds.add(schedule.getId());
+            }
+            FeedingsCompletedEvent event = new FeedingsCompletedEvent(completedIds, alreadyCompleted, notFound);
+            eventPublisher.publish(event);
+            log.info("Feeding round recorded: {}", event.getDescription());
+        }
+
+        return new FeedingCompletionResult(items, completed.size(), alreadyCompleted, notFound);
+    }
+
     public List<Feeding> getFeedingSchedulesForAnimal(AnimalId animalId) {
         return feedingScheduleRepository.findByAnimalId(animalId);
     }
@@ -85,6 +139,7 @@ public class FeedingOrganizationService {
     }
 
     @Scheduled(cron = "0 * * * * *")
+    @Timed(value = "zoo.feeding.check", description = "Duration of the scheduled feeding time check")
     public void checkFeedingTimes() {
         log.debug("Checking for feeding times...");
 
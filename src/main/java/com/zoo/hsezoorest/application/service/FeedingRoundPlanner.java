@@ -0,0 +1,160 @@
+package com.zoo.hsezoorest.application.service;
+
+import com.zoo.hsezoorest.application.dto.feeding.FeedingRoundPlan;
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import com.zoo.hsezoorest.domain.repository.FeedingRepository;
+import com.zoo.hsezoorest.infrastructure.persistence.EntityChangeListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Keeps the incomplete feedings grouped by scheduled time, enclosure and food type as the repositories
+ * report changes, so a plan is read off in time order instead of scanning and sorting every schedule.
+ * Rounds of feedings due at the same time are ordered by enclosure, with unassigned animals last.
+ */
+@Service
+public class FeedingRoundPlanner implements EntityChangeListener {
+
+    private static final Comparator<EnclosureId> ENCLOSURE_ORDER = Comparator
+            .comparingLong(EnclosureId::getMostSignificantBits)
+            .thenComparingLong(EnclosureId::getLeastSignificantBits);
+    private static final Comparator<RoundKey> ROUND_ORDER = Comparator
+            .comparing(RoundKey::enclosureId, Comparator.nullsLast(ENCLOSURE_ORDER))
+            .thenComparing(RoundKey::foodType);
+
+    private record RoundKey(EnclosureId enclosureId, FoodType foodType) {
+    }
+
+    private record Slot(Feeding feeding, LocalTime time, RoundKey key) {
+    }
+
+    private final NavigableMap<LocalTime, NavigableMap<RoundKey, Map<FeedingId, Feeding>>> due =
+            new ConcurrentSkipListMap<>();
+    private final Map<FeedingId, Slot> slots = new ConcurrentHashMap<>();
+    private final Map<AnimalId, Set<FeedingId>> byAnimal = new ConcurrentHashMap<>();
+
+    public FeedingRoundPlanner(FeedingRepository feedingScheduleRepository) {
+        feedingScheduleRepository.findAll().forEach(this::track);
+    }
+
+    public FeedingRoundPlan plan(LocalTime currentTime) {
+        Map<RoundKey, FeedingRoundPlan.Round> rounds = new LinkedHashMap<>();
+        Map<FoodType, Integer> foodTotals = new EnumMap<>(FoodType.class);
+        int totalFeedings = 0;
+
+        for (Map.Entry<LocalTime, NavigableMap<RoundKey, Map<FeedingId, Feeding>>> slot :
+                due.headMap(currentTime, true).entrySet()) {
+            for (Map.Entry<RoundKey, Map<FeedingId, Feeding>> group : slot.getValue().entrySet()) {
+                List<Feeding> feedings = new ArrayList<>(group.getValue().values());
+                if (feedings.isEmpty()) {
+                    continue;
+                }
+                RoundKey key = group.getKey();
+                FeedingRoundPlan.Round round = rounds.get(key);
+                if (round == null) {
+                    round = new FeedingRoundPlan.Round(
+                            feedings.get(0).getAnimal().getCurrentEnclosure(), key.foodType(), slot.getKey(),
+                            new ArrayList<>());
+                    rounds.put(key, round);
+                }
+                round.getFeedings().addAll(feedings);
+                foodTotals.merge(key.foodType(), feedings.size(), Integer::sum);
+                totalFeedings += feedings.size();
+            }
+        }
+
+        return FeedingRoundPlan.builder()
+                .plannedFor(currentTime)
+                .rounds(new ArrayList<>(rounds.values()))
+                .foodTotals(foodTotals)
+                .totalFeedings(totalFeedings)
+                .build();
+    }
+
+    @Override
+    public void onFeedingSaved(Feeding previous, Feeding current) {
+        track(current);
+    }
+
+    @Override
+    public void onFeedingDeleted(Feeding feeding) {
+        untrack(feeding.getId());
+    }
+
+    // A transfer moves the animal's due feedings to the rounds of its new enclosure
+    @Override
+    public void onAnimalSaved(Animal previous, Animal current) {
+        Set<FeedingId> feedingIds = byAnimal.get(current.getId());
+        if (feedingIds == null) {
+            return;
+        }
+
+        EnclosureId enclosureId = enclosureIdOf(current);
+        for (FeedingId feedingId : List.copyOf(feedingIds)) {
+            Slot slot = slots.get(feedingId);
+            if (slot != null && !Objects.equals(slot.key().enclosureId(), enclosureId)) {
+                track(slot.feeding());
+            }
+        }
+    }
+
+    private synchronized void track(Feeding feeding) {
+        untrack(feeding.getId());
+        if (feeding.isCompleted()) {
+            return;
+        }
+
+        Animal animal = feeding.getAnimal();
+        Slot slot = new Slot(feeding, feeding.getFeedingTime().getTime(),
+                new RoundKey(enclosureIdOf(animal), feeding.getFoodType()));
+        slots.put(feeding.getId(), slot);
+        byAnimal.computeIfAbsent(animal.getId(), id -> ConcurrentHashMap.newKeySet()).add(feeding.getId());
+        due.computeIfAbsent(slot.time(), time -> new ConcurrentSkipListMap<>(ROUND_ORDER))
+                .computeIfAbsent(slot.key(), key -> new ConcurrentHashMap<>())
+                .put(feeding.getId(), feeding);
+    }
+
+    private synchronized void untrack(FeedingId feedingId) {
+        Slot slot = slots.remove(feedingId);
+        if (slot == null) {
+            return;
+        }
+
+        byAnimal.computeIfPresent(slot.feeding().getAnimal().getId(), (animalId, ids) -> {
+            ids.remove(feedingId);
+            return ids.isEmpty() ? null : ids;
+        });
+        NavigableMap<RoundKey, Map<FeedingId, Feeding>> groups = due.get(slot.time());
+        Map<FeedingId, Feeding> group = groups.get(slot.key());
+        group.remove(feedingId);
+        if (group.isEmpty()) {
+            groups.remove(slot.key());
+            if (groups.isEmpty()) {
+                due.remove(slot.time());
+            }
+        }
+    }
+
+    private static EnclosureId enclosureIdOf(Animal animal) {
+        Enclosure enclosure = animal.getCurrentEnclosure();
+        return enclosure != null ? enclosure.getId() : null;
+    }
+}
@@ -0,0 +1,134 @@
+package com.zoo.hsezoorest.application.service;
+
+import com.zoo.hsezoorest.application.dto.feeding.FoodDemandForecast;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import com.zoo.hsezoorest.domain.repository.FeedingRepository;
+import com.zoo.hsezoorest.infrastructure.persistence.EntityChangeListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Daily food demand, one portion per schedule and day, kept per food type in Fenwick trees over the
+ * minutes of the day. Any window of a day is two prefix sums, so a forecast costs a few lookups per
+ * food type and day however many schedules there are.
+ */
+@Service
+public class FoodDemandForecastService implements EntityChangeListener {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    private record Slot(FoodType foodType, int minute) {
+
+        static Slot of(Feeding feeding) {
+            LocalTime time = feeding.getFeedingTime().getTime();
+            return new Slot(feeding.getFoodType(), time.getHour() * 60 + time.getMinute());
+        }
+    }
+
+    private final Map<FeedingId, Slot> slots = new ConcurrentHashMap<>();
+    private final Map<FoodType, long[]> demand = new EnumMap<>(FoodType.class);
+
+    public FoodDemandForecastService(FeedingRepository feedingScheduleRepository) {
+        for (FoodType foodType : FoodType.values()) {
+            demand.put(foodType, new long[MINUTES_PER_DAY + 1]);
+        }
+        feedingScheduleRepository.findAll().forEach(this::track);
+    }
+
+    public synchronized FoodDemandForecast forecast(LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("Forecast window must end after it starts");
+        }
+
+        Map<FoodType, Long> totals = new EnumMap<>(FoodType.class);
+        List<FoodDemandForecast.DailyDemand> days = new ArrayList<>();
+        LocalDateTime dayStart = from;
+        while (dayStart.isBefore(to)) {
+            LocalDateTime nextDay = dayStart.toLocalDate().plusDays(1).atStartOfDay();
+            LocalDateTime dayEnd = nextDay.isBefore(to) ? nextDay : to;
+            int startMinute = minuteAtOrAfter(dayStart.toLocalTime());
+            int endMinute = dayEnd.equals(nextDay) ? MINUTES_PER_DAY : minuteAtOrAfter(dayEnd.toLocalTime());
+
+            Map<FoodType, Long> portions = new EnumMap<>(FoodType.class);
+            for (Map.Entry<FoodType, long[]> entry : demand.entrySet()) {
+                long[] tree = entry.getValue();
+                long count = prefixSum(tree, endMinute) - prefixSum(tree, startMinute);
+                if (count > 0) {
+                    portions.put(entry.getKey(), count);
+                    totals.merge(entry.getKey(), count, Long::sum);
+                }
+            }
+            days.add(new FoodDemandForecast.DailyDemand(dayStart.toLocalDate(), portions));
+            dayStart = nextDay;
+        }
+
+        long totalPortions = 0;
+        for (long count : totals.values()) {
+            totalPortions += count;
+        }
+
+        return FoodDemandForecast.builder()
+                .from(from)
+                .to(to)
+                .totals(totals)
+                .totalPortions(totalPortions)
+                .days(days)
+                .build();
+    }
+
+    @Override
+    public void onFeedingSaved(Feeding previous, Feeding current) {
+        track(current);
+    }
+
+    @Override
+    public synchronized void onFeedingDeleted(Feeding feeding) {
+        Slot slot = slots.remove(feeding.getId());
+        if (slot != null) {
+            add(slot, -1);
+        }
+    }
+
+    // Food type and time change in place, so the slot recorded at the last save is what gets moved
+    private synchronized void track(Feeding feeding) {
+        Slot current = Slot.of(feeding);
+        Slot previous = slots.put(feeding.getId(), current);
+        if (current.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            add(previous, -1);
+        }
+        add(current, 1);
+    }
+
+    private void add(Slot slot, long delta) {
+        long[] tree = demand.get(slot.foodType());
+        for (int i = slot.minute() + 1; i <= MINUTES_PER_DAY; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // Portions scheduled in the first {@code minutes} minutes of the day
+    private static long prefixSum(long[] tree, int minutes) {
+        long sum = 0;
+        for (int i = minutes; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private static int minuteAtOrAfter(LocalTime time) {
+        int minute = time.getHour() * 60 + time.getMinute();
+        return time.getSecond() > 0 || time.getNano() > 0 ? minute + 1 : minute;
+    }
+}
@@ -1,137 +1,246 @@
 package com.zoo.hsezoorest.application.service;
 
 import com.zoo.hsezoorest.application.dto.statistics.StatisticsDto;
+import com.zoo.hsezoorest.application.dto.statistics.StatisticsMetric;
+import com.zoo.hsezoorest.application.dto.statistics.StatisticsResult;
 import com.zoo.hsezoorest.domain.model.animal.Animal;
 import com.zoo.hsezoorest.domain.model.animal.HealthStatus;
+import com.zoo.hsezoorest.domain.model.animal.Species;
 import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
-import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import com.zoo.hsezoorest.domain.model.shared.InternPool;
 import com.zoo.hsezoorest.domain.repository.AnimalRepository;
+import com.zoo.hsezoorest.domain.repository.ConsistentReader;
 import com.zoo.hsezoorest.domain.repository.EnclosureRepository;
 import com.zoo.hsezoorest.domain.repository.FeedingRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDate;
-import java.time.LocalTime;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j
 @Service
 public class ZooStatisticsService {
 
+    // Metrics that need every entity of their source rather than a repository counter
+    private static final Set<StatisticsMetric> ANIMAL_SCAN_METRICS = EnumSet.of(
+            StatisticsMetric.HEALTHY_ANIMALS, StatisticsMetric.PREDATORS, StatisticsMetric.HERBIVORES,
+            StatisticsMetric.ANIMALS_BY_SPECIES);
+    private static final Set<StatisticsMetric> ENCLOSURE_SCAN_METRICS = EnumSet.of(
+            StatisticsMetric.TOTAL_CAPACITY, StatisticsMetric.USED_CAPACITY,
+            StatisticsMetric.AVAILABLE_CAPACITY, StatisticsMetric.OCCUPANCY_RATE);
+
     private final AnimalRepository animalRepository;
     private final EnclosureRepository enclosureRepository;
     private final FeedingRepository feedingScheduleRepository;
+    private final ConsistentReader consistentReader;
 
     public ZooStatisticsService(AnimalRepository animalRepository,
                                 EnclosureRepository enclosureRepository,
-                                FeedingRepository feedingScheduleRepository) {
+                                FeedingRepository feedingScheduleRepository,
+                                ConsistentReader consistentReader) {
         this.animalRepository = animalRepository;
         this.enclosureRepository = enclosureRepository;
         this.feedingScheduleRepository = feedingScheduleRepository;
+        this.consistentReader = consistentReader;
     }
 
     public StatisticsDto getZooStatistics() {
         log.info("Generating zoo statistics");
 
-        List<Animal> allAnimals = animalRepository.findAll();
-        List<Enclosure> allEnclosures = enclosureRepository.findAll();
-        List<Feeding> allFeedingSchedules = feedingScheduleRepository.findAll();
-
-        long totalAnimals = allAnimals.size();
-        long healthyAnimals = allAnimals.stream()
-                .filter(animal -> animal.getHealthStatus() == HealthStatus.HEALTHY)
-                .count();
-        long sickAnimals = allAnimals.stream()
-                .filter(animal -> animal.getHealthStatus() == HealthStatus.SICK)
-                .count();
-        long predators = allAnimals.stream()
-                .filter(animal -> animal.getSpecies().isPredator())
-                .count();
-        long herbivores = totalAnimals - predators;
-
-        Map<String, Long> animalsBySpecies = allAnimals.stream()
-                .collect(Collectors.groupingBy(
-                        animal -> animal.getSpecies().getValue(),
-                        Collectors.counting()));
-
-        long totalEnclosures = allEnclosures.size();
-        long emptyEnclosures = enclosureRepository.countEmpty();
-        Map<String, Long> enclosuresByType = allEnclosures.stream()
-                .collect(Collectors.groupingBy(
-                        enclosure -> enclosure.getType().getDisplayName(),
-                        Collectors.counting()));
-
-        int totalCapacity = allEnclosures.stream()
-                .mapToInt(enclosure -> enclosure.getCapacity().getMaximum())
-                .sum();
-        int usedCapacity = allEnclosures.stream()
-                .mapToInt(Enclosure::getCurrentAnimalCount)
-                .sum();
-        double occupancyRate = totalCapacity > 0 ?
-                (double) usedCapacity / totalCapacity * 100 : 0;
-
-        long totalFeedingSchedules = allFeedingSchedules.size();
-        long pendingFeedings = feedingScheduleRepository.findPendingFeedings(LocalTime.now()).size();
-        long completedFeedingsToday = feedingScheduleRepository.findCompletedFeedingsByDate(LocalDate.now()).size();
-        Map<String, Long> feedingsByFoodType = allFeedingSchedules.stream()
-                .collect(Collectors.groupingBy(
-                        schedule -> schedule.getFoodType().getDisplayName(),
-                        Collectors.counting()));
+        StatisticsResult result = query(StatisticsMetric.all());
 
         return StatisticsDto.builder()
-                .totalAnimals(totalAnimals)
-                .totalEnclosures(totalEnclosures)
-                .emptyEnclosures(emptyEnclosures)
-                .totalFeedingSchedules(totalFeedingSchedules)
-                .healthyAnimals(healthyAnimals)
-                .sickAnimals(sickAnimals)
-                .predators(predators)
-                .herbivores(herbivores)
-                .animalsBySpecies(animalsBySpecies)
-                .enclosuresByType(enclosuresByType)
-                .totalCapacity(totalCapacity)
-                .usedCapacity(usedCapacity)
-                .occupancyRate(occupancyRate)
-                .pendingFeedings(pendingFeedings)
-                .completedFeedings(completedFeedingsToday)
-                .feedingsByFoodType(feedingsByFoodType)
+                .totalAnimals(result.getCount(StatisticsMetric.TOTAL_ANIMALS))
+                .totalEnclosures(result.getCount(StatisticsMetric.TOTAL_ENCLOSURES))
+                .emptyEnclosures(result.getCount(StatisticsMetric.EMPTY_ENCLOSURES))
+                .totalFeedingSchedules(result.getCount(StatisticsMetric.TOTAL_FEEDING_SCHEDULES))
+                .healthyAnimals(result.getCount(StatisticsMetric.HEALTHY_ANIMALS))
+                .sickAnimals(result.getCount(StatisticsMetric.SICK_ANIMALS))
+                .predators(result.getCount(StatisticsMetric.PREDATORS))
+                .herbivores(result.getCount(StatisticsMetric.HERBIVORES))
+                .animalsBySpecies(result.getBreakdown(StatisticsMetric.ANIMALS_BY_SPECIES))
+                .enclosuresByType(result.getBreakdown(StatisticsMetric.ENCLOSURES_BY_TYPE))
+                .totalCapacity((int) result.getCount(StatisticsMetric.TOTAL_CAPACITY))
+                .usedCapacity((int) result.getCount(StatisticsMetric.USED_CAPACITY))
+                .occupancyRate(result.getOccupancyRate())
+                .pendingFeedings(result.getCount(StatisticsMetric.PENDING_FEEDINGS))
+                .completedFeedings(result.getCount(StatisticsMetric.COMPLETED_FEEDINGS))
+                .feedingsByFoodType(result.getBreakdown(StatisticsMetric.FEEDINGS_BY_FOOD_TYPE))
                 .build();
     }
 
-    public long getTotalAnimalCount() {
-        return animalRepository.count();
-    }
-
-    public long getTotalEnclosureCount() {
-        return enclosureRepository.count();
+    /**
+     * Computes only the requested metrics. Counts and per-type breakdowns come from the repository
+     * counters; a repository is scanned only when a requested metric needs per-entity detail. All of
+     * them are read through the {@link ConsistentReader}, so every figure in the result reflects the
+     * same repository state, across animals, enclosures and feedings alike.
+     */
+    public StatisticsResult query(Set<StatisticsMetric> metrics) {
+        log.debug("Computing statistics {}", metrics);
+        return consistentReader.read(() -> compute(metrics));
     }
 
-    public long getEmptyEnclosureCount() {
-        return enclosureRepository.countEmpty();
+    private StatisticsResult compute(Set<StatisticsMetric> metrics) {
+        StatisticsResult.Builder result = StatisticsResult.builder(metrics);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (!Collections.disjoint(metrics, ANIMAL_SCAN_METRICS)) {
+            aggregateAnimals(animalRepository.findAll(), result);
+        } else if (StatisticsMetric.anyFrom(metrics, StatisticsMetric.Source.ANIMALS)) {
+            if (result.isRequested(StatisticsMetric.TOTAL_ANIMALS)) {
+                result.count(StatisticsMetric.TOTAL_ANIMALS, animalRepository.count());
+            }
+            if (result.isRequested(StatisticsMetric.SICK_ANIMALS)) {
+                result.count(StatisticsMetric.SICK_ANIMALS, animalRepository.countSickAnimals());
+            }
+        }
+
+        if (!Collections.disjoint(metrics, ENCLOSURE_SCAN_METRICS)) {
+            aggregateEnclosures(enclosureRepository.findAll(), result);
+        } else if (StatisticsMetric.anyFrom(metrics, StatisticsMetric.Source.ENCLOSURES)) {
+            if (result.isRequested(StatisticsMetric.TOTAL_ENCLOSURES)) {
+                result.count(StatisticsMetric.TOTAL_ENCLOSURES, enclosureRepository.count());
+            }
+            if (result.isRequested(StatisticsMetric.EMPTY_ENCLOSURES)) {
+                result.count(StatisticsMetric.EMPTY_ENCLOSURES, enclosureRepository.countEmpty());
+            }
+            if (result.isRequested(StatisticsMetric.ENCLOSURES_BY_TYPE)) {
+                Map<String, Long> enclosuresByType = new HashMap<>();
+                for (EnclosureType type : EnclosureType.values()) {
+                    long count = enclosureRepository.countByType(type);
+                    if (count > 0) {
+                        enclosuresByType.put(type.getDisplayName(), count);
+                    }
+                }
+                result.breakdown(StatisticsMetric.ENCLOSURES_BY_TYPE, enclosuresByType);
+            }
+        }
+
+        if (StatisticsMetric.anyFrom(metrics, StatisticsMetric.Source.FEEDINGS)) {
+            countFeedings(now, result);
+        }
+
+        return result.build();
     }
 
-    public double getOccupancyRate() {
-        List<Enclosure> allEnclosures = enclosureRepository.findAll();
-
-        int totalCapacity = allEnclosures.stream()
-                .mapToInt(enclosure -> enclosure.getCapacity().getMaximum())
-                .sum();
+    private void aggregateAnimals(List<Animal> allAnimals, StatisticsResult.Builder result) {
+        boolean bySpecies = result.isRequested(StatisticsMetric.ANIMALS_BY_SPECIES);
 
-        int usedCapacity = allEnclosures.stream()
-                .mapToInt(Enclosure::getCurrentAnimalCount)
-                .sum();
-
-        return totalCapacity > 0 ? (double) usedCapacity / totalCapacity * 100 : 0;
+        long totalAnimals = allAnimals.size();
+        long healthyAnimals = 0;
+        long sickAnimals = 0;
+        long predators = 0;
+        long[] speciesCounts = new long[bySpecies ? Species.registeredCount() : 0];
+        Species[] speciesByOrdinal = new Species[speciesCounts.length];
+        // Predator and avian variants of the same name are reported together, as before
+        Map<String, Long> animalsBySpecies = new HashMap<>();
+        for (Animal animal : allAnimals) {
+            if (animal.getHealthStatus() == HealthStatus.HEALTHY) {
+                healthyAnimals++;
+            } else if (animal.getHealthStatus() == HealthStatus.SICK) {
+                sickAnimals++;
+            }
+
+            Species species = animal.getSpecies();
+            if (species.isPredator()) {
+                predators++;
+            }
+
+            if (bySpecies) {
+                int ordinal = species.getOrdinal();
+                if (ordinal == InternPool.UNPOOLED) {
+                    // Beyond the pool's capacity, counted by name instead
+                    animalsBySpecies.merge(species.getValue(), 1L, Long::sum);
+                } else {
+                    if (ordinal >= speciesCounts.length) {
+                        // Registered after the arrays were sized
+                        speciesCounts = Arrays.copyOf(speciesCounts, Species.registeredCount());
+                        speciesByOrdinal = Arrays.copyOf(speciesByOrdinal, speciesCounts.length);
+                    }
+                    speciesCounts[ordinal]++;
+                    speciesByOrdinal[ordinal] = species;
+                }
+            }
+        }
+
+        result.count(StatisticsMetric.TOTAL_ANIMALS, totalAnimals)
+                .count(StatisticsMetric.HEALTHY_ANIMALS, healthyAnimals)
+                .count(StatisticsMetric.SICK_ANIMALS, sickAnimals)
+                .count(StatisticsMetric.PREDATORS, predators)
+                .count(StatisticsMetric.HERBIVORES, totalAnimals - predators);
+
+        if (bySpecies) {
+            for (int ordinal = 0; ordinal < speciesCounts.length; ordinal++) {
+                if (speciesCounts[ordinal] > 0) {
+                    animalsBySpecies.merge(speciesByOrdinal[ordinal].getValue(), speciesCounts[ordinal], Long::sum);
+                }
+            }
+            result.breakdown(StatisticsMetric.ANIMALS_BY_SPECIES, animalsBySpecies);
+        }
     }
 
-    public long getSickAnimalCount() {
-        return animalRepository.findSickAnimals().size();
+    private void aggregateEnclosures(List<Enclosure> allEnclosures, StatisticsResult.Builder result) {
+        long emptyEnclosures = 0;
+        int totalCapacity = 0;
+        int usedCapacity = 0;
+        long[] enclosureTypeCounts = new long[EnclosureType.values().length];
+        for (Enclosure enclosure : allEnclosures) {
+            int animalCount = enclosure.getCurrentAnimalCount();
+            if (animalCount == 0) {
+                emptyEnclosures++;
+            }
+            totalCapacity += enclosure.getCapacity().getMaximum();
+            usedCapacity += animalCount;
+            enclosureTypeCounts[enclosure.getType().ordinal()]++;
+        }
+
+        result.count(StatisticsMetric.TOTAL_ENCLOSURES, allEnclosures.size())
+                .count(StatisticsMetric.EMPTY_ENCLOSURES, emptyEnclosures)
+                .count(StatisticsMetric.TOTAL_CAPACITY, totalCapacity)
+                .count(StatisticsMetric.USED_CAPACITY, usedCapacity)
+                .count(StatisticsMetric.AVAILABLE_CAPACITY, totalCapacity - usedCapacity)
+                .occupancyRate(totalCapacity > 0 ? (double) usedCapacity / totalCapacity * 100 : 0.0);
+
+        if (result.isRequested(StatisticsMetric.ENCLOSURES_BY_TYPE)) {
+            Map<String, Long> enclosuresByType = new HashMap<>();
+            for (EnclosureType type : EnclosureType.values()) {
+                if (enclosureTypeCounts[type.ordinal()] > 0) {
+                    enclosuresByType.put(type.getDisplayName(), enclosureTypeCounts[type.ordinal()]);
+                }
+            }
+            result.breakdown(StatisticsMetric.ENCLOSURES_BY_TYPE, enclosuresByType);
+        }
     }
 
-    public long getPendingFeedingCount() {
-        return feedingScheduleRepository.findPendingFeedings(LocalTime.now()).size();
+    private void countFeedings(LocalDateTime now, StatisticsResult.Builder result) {
+        if (result.isRequested(StatisticsMetric.TOTAL_FEEDING_SCHEDULES)) {
+            result.count(StatisticsMetric.TOTAL_FEEDING_SCHEDULES, feedingScheduleRepository.count());
+        }
+        if (result.isRequested(StatisticsMetric.PENDING_FEEDINGS)) {
+            result.count(StatisticsMetric.PENDING_FEEDINGS, feedingScheduleRepository.countPending(now.toLocalTime()));
+        }
+        if (result.isRequested(StatisticsMetric.COMPLETED_FEEDINGS)) {
+            result.count(StatisticsMetric.COMPLETED_FEEDINGS,
+                    feedingScheduleRepository.countCompletedOnDate(now.toLocalDate()));
+        }
+        if (result.isRequested(StatisticsMetric.FEEDINGS_BY_FOOD_TYPE)) {
+            Map<String, Long> feedingsByFoodType = new HashMap<>();
+            for (FoodType foodType : FoodType.values()) {
+                long count = feedingScheduleRepository.countByFoodType(foodType);
+                if (count > 0) {
+                    feedingsByFoodType.put(foodType.getDisplayName(), count);
+                }
+            }
+            result.breakdown(StatisticsMetric.FEEDINGS_BY_FOOD_TYPE, feedingsByFoodType);
+        }
     }
 }
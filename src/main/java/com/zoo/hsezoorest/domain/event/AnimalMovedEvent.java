@@ -2,10 +2,10 @@ package com.zoo.hsezoorest.domain.event;
 
 import com.zoo.hsezoorest.domain.model.animal.AnimalId;
 import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import com.zoo.hsezoorest.domain.model.shared.TimeOrderedIds;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 @Getter
 public class AnimalMovedEvent implements DomainEvent {
@@ -27,7 +27,7 @@ public class AnimalMovedEvent implements DomainEvent {
             EnclosureId targetEnclosureId,
             String reason) {
 
-        this.eventId = UUID.randomUUID().toString();
+        this.eventId = TimeOrderedIds.next().toString();
         this.occurredOn = LocalDateTime.now();
         this.animalId = animalId;
         this.animalName = animalName;
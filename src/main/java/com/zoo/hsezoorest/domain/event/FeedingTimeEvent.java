@@ -3,11 +3,11 @@ package com.zoo.hsezoorest.domain.event;
 import com.zoo.hsezoorest.domain.model.animal.AnimalId;
 import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
 import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import com.zoo.hsezoorest.domain.model.shared.TimeOrderedIds;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.UUID;
 
 @Getter
 public class FeedingTimeEvent implements DomainEvent {
@@ -30,7 +30,7 @@ public class FeedingTimeEvent implements DomainEvent {
             FoodType foodType,
             String enclosureId) {
 
-        this.eventId = UUID.randomUUID().toString();
+        this.eventId = TimeOrderedIds.next().toString();
         this.occurredOn = LocalDateTime.now();
         this.feedingId = feedingId;
         this.animalId = animalId;
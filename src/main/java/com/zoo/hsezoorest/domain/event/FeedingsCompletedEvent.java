@@ -0,0 +1,45 @@
+package com.zoo.hsezoorest.domain.event;
+
+import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
+import com.zoo.hsezoorest.domain.model.shared.TimeOrderedIds;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+public class FeedingsCompletedEvent implements DomainEvent {
+    private final String eventId;
+    private final LocalDateTime occurredOn;
+    private final List<FeedingId> completedFeedingIds;
+    private final int alreadyCompletedCount;
+    private final int notFoundCount;
+
+    public FeedingsCompletedEvent(List<FeedingId> completedFeedingIds, int alreadyCompletedCount, int notFoundCount) {
+        this.eventId = TimeOrderedIds.next().toString();
+        this.occurredOn = LocalDateTime.now();
+        this.completedFeedingIds = List.copyOf(completedFeedingIds);
+        this.alreadyCompletedCount = alreadyCompletedCount;
+        this.notFoundCount = notFoundCount;
+    }
+
+    @Override
+    public String getEventId() {
+        return eventId;
+    }
+
+    @Override
+    public LocalDateTime getOccurredOn() {
+        return occurredOn;
+    }
+
+    @Override
+    public String getEventType() {
+        return "FeedingsCompletedEvent";
+    }
+
+    public String getDescription() {
+        return String.format("%d feedings completed (%d already completed, %d not found)",
+                completedFeedingIds.size(), alreadyCompletedCount, notFoundCount);
+    }
+}
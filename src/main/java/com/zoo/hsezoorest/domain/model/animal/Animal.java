@@ -8,13 +8,14 @@ import java.time.LocalDate;
 @Getter
 public class Animal {
     private final AnimalId id;
-    private final Species species;
-    private final String name;
-    private final LocalDate birthDate;
-    private final Gender gender;
+    private Species species;
+    private String name;
+    private LocalDate birthDate;
+    private Gender gender;
     private FavoriteFood favoriteFood;
     private HealthStatus healthStatus;
     private Enclosure currentEnclosure;
+    private long version;
 
     public Animal(AnimalId id, Species species, String name, LocalDate birthDate,
                   Gender gender, FavoriteFood favoriteFood) {
@@ -35,6 +36,7 @@ public class Animal {
     public boolean heal() {
         if (healthStatus == HealthStatus.SICK) {
             this.healthStatus = HealthStatus.HEALTHY;
+            this.version++;
             return true;
         }
         return false;
@@ -42,6 +44,7 @@ public class Animal {
 
     public void markAsSick() {
         this.healthStatus = HealthStatus.SICK;
+        this.version++;
     }
 
     public void moveToEnclosure(Enclosure newEnclosure) {
@@ -59,9 +62,49 @@ public class Animal {
 
         this.currentEnclosure = newEnclosure;
         newEnclosure.addAnimal(this);
+        this.version++;
+    }
+
+    // Records the new enclosure only; the caller updates both enclosures' membership itself
+    public void relocateTo(Enclosure newEnclosure) {
+        if (!newEnclosure.canHouseAnimal(this)) {
+            throw new IllegalArgumentException(
+                    "Cannot move " + species.getValue() + " to enclosure of type " +
+                            newEnclosure.getType()
+            );
+        }
+
+        this.currentEnclosure = newEnclosure;
+        this.version++;
     }
 
     public void changeFavoriteFood(FavoriteFood newFavoriteFood) {
         this.favoriteFood = newFavoriteFood;
+        this.version++;
+    }
+
+    public void updateDetails(Species newSpecies, String newName, LocalDate newBirthDate,
+                              Gender newGender, FavoriteFood newFavoriteFood) {
+        updateDetails(newSpecies, newName, newBirthDate, newGender, newFavoriteFood, currentEnclosure);
+    }
+
+    // Checks the species against the enclosure the animal is about to be relocated to
+    public void updateDetails(Species newSpecies, String newName, LocalDate newBirthDate,
+                              Gender newGender, FavoriteFood newFavoriteFood, Enclosure housing) {
+        Species oldSpecies = this.species;
+        this.species = newSpecies;
+        if (housing != null && !housing.canHouseAnimal(this)) {
+            this.species = oldSpecies;
+            throw new IllegalArgumentException(
+                    "Cannot change species to " + newSpecies.getValue() + " while housed in enclosure of type " +
+                            housing.getType()
+            );
+        }
+
+        this.name = newName;
+        this.birthDate = newBirthDate;
+        this.gender = newGender;
+        this.favoriteFood = newFavoriteFood;
+        this.version++;
     }
 }
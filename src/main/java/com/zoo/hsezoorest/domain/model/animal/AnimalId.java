@@ -1,29 +1,21 @@
 package com.zoo.hsezoorest.domain.model.animal;
 
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
+import com.zoo.hsezoorest.domain.model.shared.CompactId;
+import com.zoo.hsezoorest.domain.model.shared.TimeOrderedIds;
 
 import java.util.UUID;
 
-@Getter
-@EqualsAndHashCode
-public class AnimalId {
-    private final String value;
+public class AnimalId extends CompactId {
 
-    private AnimalId(String value) {
-        this.value = value;
+    private AnimalId(UUID uuid) {
+        super(uuid);
     }
 
     public static AnimalId create() {
-        return new AnimalId(UUID.randomUUID().toString());
+        return new AnimalId(TimeOrderedIds.next());
     }
 
     public static AnimalId of(String id) {
-        return new AnimalId(id);
-    }
-
-    @Override
-    public String toString() {
-        return value;
+        return new AnimalId(parse(id));
     }
 }
@@ -1,22 +1,33 @@
 package com.zoo.hsezoorest.domain.model.animal;
 
+import com.zoo.hsezoorest.domain.model.shared.InternPool;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 @Getter
 @EqualsAndHashCode
 public class FavoriteFood {
+    private static final int POOL_CAPACITY = 1024;
+    private static final InternPool<String, FavoriteFood> POOL = new InternPool<>(POOL_CAPACITY);
+
     private final String value;
+    @EqualsAndHashCode.Exclude
+    private final int ordinal;
 
-    private FavoriteFood(String value) {
-        if (value == null || value.trim().isEmpty()) {
-            throw new IllegalArgumentException("Favorite food cannot be empty");
-        }
+    private FavoriteFood(String value, int ordinal) {
         this.value = value;
+        this.ordinal = ordinal;
     }
 
     public static FavoriteFood of(String food) {
-        return new FavoriteFood(food);
+        if (food == null || food.trim().isEmpty()) {
+            throw new IllegalArgumentException("Favorite food cannot be empty");
+        }
+        return POOL.intern(food, FavoriteFood::new);
+    }
+
+    public static int registeredCount() {
+        return POOL.size();
     }
 
     @Override
@@ -1,38 +1,57 @@
 package com.zoo.hsezoorest.domain.model.animal;
 
+import com.zoo.hsezoorest.domain.model.shared.InternPool;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 
 @Getter
 @EqualsAndHashCode
 public class Species {
+    private static final int POOL_CAPACITY = 1024;
+    private static final InternPool<Key, Species> POOL = new InternPool<>(POOL_CAPACITY);
+
     private final String value;
     private final boolean isPredator;
     private final boolean isAvian;
+    @EqualsAndHashCode.Exclude
+    private final int ordinal;
 
-    private Species(String value, boolean isPredator, boolean isAvian) {
-        if (value == null || value.trim().isEmpty()) {
-            throw new IllegalArgumentException("Species name cannot be empty");
-        }
+    private Species(String value, boolean isPredator, boolean isAvian, int ordinal) {
         this.value = value;
         this.isPredator = isPredator;
         this.isAvian = isAvian;
+        this.ordinal = ordinal;
     }
 
     public static Species predator(String name) {
-        return new Species(name, true, false);
+        return intern(name, true, false);
     }
 
     public static Species herbivore(String name) {
-        return new Species(name, false, false);
+        return intern(name, false, false);
     }
 
     public static Species avianPredator(String name) {
-        return new Species(name, true, true);
+        return intern(name, true, true);
     }
 
     public static Species avianHerbivore(String name) {
-        return new Species(name, false, true);
+        return intern(name, false, true);
+    }
+
+    public static int registeredCount() {
+        return POOL.size();
+    }
+
+    private static Species intern(String name, boolean isPredator, boolean isAvian) {
+        if (name == null || name.trim().isEmpty()) {
+            throw new IllegalArgumentException("Species name cannot be empty");
+        }
+        return POOL.intern(new Key(name, isPredator, isAvian),
+                (key, ordinal) -> new Species(key.name(), key.isPredator(), key.isAvian(), ordinal));
+    }
+
+    private record Key(String name, boolean isPredator, boolean isAvian) {
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.zoo.hsezoorest.domain.model.enclosure;
 
 import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.Species;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -11,11 +12,12 @@ import java.util.List;
 @Getter
 public class Enclosure {
     private final EnclosureId id;
-    private final EnclosureType type;
-    private final Capacity capacity;
+    private EnclosureType type;
+    private Capacity capacity;
     private final List<Animal> animals;
     private LocalDateTime lastCleaningTime;
     private boolean isClean;
+    private long version;
 
     public Enclosure(EnclosureId id, EnclosureType type, Capacity capacity) {
         this.id = id;
@@ -38,19 +40,60 @@ public class Enclosure {
         }
 
         animals.add(animal);
+        this.version++;
+    }
+
+    // The species is the one the animal will have, which differs from its current one while it is being updated
+    public void addAnimal(Animal animal, Species species) {
+        if (!hasAvailableSpace()) {
+            throw new IllegalStateException("Enclosure is at full capacity");
+        }
+
+        if (!canHouse(species)) {
+            throw new IllegalArgumentException(
+                    "This enclosure type is not suitable for " + species.getValue()
+            );
+        }
+
+        animals.add(animal);
+        this.version++;
     }
 
     public void removeAnimal(Animal animal) {
-        animals.remove(animal);
+        if (animals.remove(animal)) {
+            this.version++;
+        }
     }
 
     public void clean() {
         this.lastCleaningTime = LocalDateTime.now();
         this.isClean = true;
+        this.version++;
     }
 
     public void markAsDirty() {
         this.isClean = false;
+        this.version++;
+    }
+
+    public void reconfigure(EnclosureType newType, Capacity newCapacity) {
+        if (animals.size() > newCapacity.getMaximum()) {
+            throw new IllegalArgumentException(
+                    "Capacity " + newCapacity + " is lower than the current number of animals (" + animals.size() + ")"
+            );
+        }
+
+        for (Animal animal : animals) {
+            if (!newType.canHouseAnimal(animal)) {
+                throw new IllegalArgumentException(
+                        "Enclosure type " + newType + " is not suitable for " + animal.getSpecies().getValue()
+                );
+            }
+        }
+
+        this.type = newType;
+        this.capacity = newCapacity;
+        this.version++;
     }
 
     public boolean hasAvailableSpace() {
@@ -72,4 +115,8 @@ public class Enclosure {
     public boolean canHouseAnimal(Animal animal) {
         return type.canHouseAnimal(animal);
     }
+
+    public boolean canHouse(Species species) {
+        return type.canHouse(species);
+    }
 }
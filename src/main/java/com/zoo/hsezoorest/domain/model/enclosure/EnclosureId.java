@@ -1,29 +1,21 @@
 package com.zoo.hsezoorest.domain.model.enclosure;
 
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
+import com.zoo.hsezoorest.domain.model.shared.CompactId;
+import com.zoo.hsezoorest.domain.model.shared.TimeOrderedIds;
 
 import java.util.UUID;
 
-@Getter
-@EqualsAndHashCode
-public class EnclosureId {
-    private final String value;
+public class EnclosureId extends CompactId {
 
-    private EnclosureId(String value) {
-        this.value = value;
+    private EnclosureId(UUID uuid) {
+        super(uuid);
     }
 
     public static EnclosureId create() {
-        return new EnclosureId(UUID.randomUUID().toString());
+        return new EnclosureId(TimeOrderedIds.next());
     }
 
     public static EnclosureId of(String id) {
-        return new EnclosureId(id);
-    }
-
-    @Override
-    public String toString() {
-        return value;
+        return new EnclosureId(parse(id));
     }
 }
@@ -29,8 +29,10 @@ public enum EnclosureType {
     }
 
     public boolean canHouseAnimal(Animal animal) {
-        Species species = animal.getSpecies();
+        return canHouse(animal.getSpecies());
+    }
 
+    public boolean canHouse(Species species) {
         // Handle the special MIXED case first
         if (this == MIXED) {
             // The current MIXED definition is (true, true, false) -> PREDATOR or HERBIVORE, but not AVIAN
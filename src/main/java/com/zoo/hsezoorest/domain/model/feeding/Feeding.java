@@ -18,6 +18,7 @@ public class Feeding {
     private boolean isCompleted;
     private LocalDateTime lastFedTime;
     private final List<LocalDate> feedingHistory;
+    private long version;
 
     public Feeding(FeedingId id, Animal animal, FeedingTime feedingTime, FoodType foodType) {
         this.id = id;
@@ -30,10 +31,18 @@ public class Feeding {
 
     public void changeFeedingTime(FeedingTime newFeedingTime) {
         this.feedingTime = newFeedingTime;
+        this.version++;
     }
 
     public void changeFoodType(FoodType newFoodType) {
         this.foodType = newFoodType;
+        this.version++;
+    }
+
+    public void reschedule(FeedingTime newFeedingTime, FoodType newFoodType) {
+        this.feedingTime = newFeedingTime;
+        this.foodType = newFoodType;
+        this.version++;
     }
 
     public boolean markAsCompleted() {
@@ -44,11 +53,13 @@ public class Feeding {
         this.isCompleted = true;
         this.lastFedTime = LocalDateTime.now();
         this.feedingHistory.add(LocalDate.now());
+        this.version++;
         return true;
     }
 
     public void resetCompletionStatus() {
         this.isCompleted = false;
+        this.version++;
     }
 
     public boolean isTimeToFeed(LocalTime currentTime) {
@@ -59,6 +70,10 @@ public class Feeding {
         return new ArrayList<>(feedingHistory);
     }
 
+    public boolean wasFedOn(LocalDate date) {
+        return feedingHistory.contains(date);
+    }
+
     public boolean isFoodSuitableForAnimal() {
         boolean isPredator = animal.getSpecies().isPredator();
 
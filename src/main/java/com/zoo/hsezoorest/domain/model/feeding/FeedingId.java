@@ -1,29 +1,21 @@
 package com.zoo.hsezoorest.domain.model.feeding;
 
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
+import com.zoo.hsezoorest.domain.model.shared.CompactId;
+import com.zoo.hsezoorest.domain.model.shared.TimeOrderedIds;
 
 import java.util.UUID;
 
-@Getter
-@EqualsAndHashCode
-public class FeedingId {
-    private final String value;
+public class FeedingId extends CompactId {
 
-    private FeedingId(String value) {
-        this.value = value;
+    private FeedingId(UUID uuid) {
+        super(uuid);
     }
 
     public static FeedingId create() {
-        return new FeedingId(UUID.randomUUID().toString());
+        return new FeedingId(TimeOrderedIds.next());
     }
 
     public static FeedingId of(String id) {
-        return new FeedingId(id);
-    }
-
-    @Override
-    public String toString() {
-        return value;
+        return new FeedingId(parse(id));
     }
 }
@@ -0,0 +1,72 @@
+package com.zoo.hsezoorest.domain.model.shared;
+
+import java.util.UUID;
+
+/**
+ * 128-bit identifier held as two longs with a precomputed hash. The textual UUID form is
+ * only produced at the edges, via {@link #getValue()}.
+ */
+public abstract class CompactId {
+    private static final int CANONICAL_LENGTH = 36;
+
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+    private final int hash;
+
+    protected CompactId(long mostSignificantBits, long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
+        long mixed = mostSignificantBits ^ leastSignificantBits;
+        this.hash = (int) (mixed ^ (mixed >>> 32));
+    }
+
+    protected CompactId(UUID uuid) {
+        this(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    protected static UUID parse(String value) {
+        if (value == null || value.length() != CANONICAL_LENGTH) {
+            throw new IllegalArgumentException("Invalid identifier: " + value);
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid identifier: " + value);
+        }
+    }
+
+    public long getMostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    public long getLeastSignificantBits() {
+        return leastSignificantBits;
+    }
+
+    public String getValue() {
+        return new UUID(mostSignificantBits, leastSignificantBits).toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        CompactId other = (CompactId) o;
+        return mostSignificantBits == other.mostSignificantBits &&
+                leastSignificantBits == other.leastSignificantBits;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+}
@@ -0,0 +1,44 @@
+package com.zoo.hsezoorest.domain.model.shared;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Canonicalising registry for immutable value objects. Each distinct key is created once and
+ * assigned the next dense ordinal, so callers can aggregate into arrays indexed by it.
+ * Keys often come straight from requests, so the pool holds at most {@code capacity} of them;
+ * past that, instances are created per call with the ordinal {@link #UNPOOLED}.
+ */
+public final class InternPool<K, V> {
+    public static final int UNPOOLED = -1;
+
+    private final Map<K, V> instances = new ConcurrentHashMap<>();
+    private final AtomicInteger nextOrdinal = new AtomicInteger();
+    private final int capacity;
+
+    public InternPool(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    public V intern(K key, BiFunction<K, Integer, V> factory) {
+        V existing = instances.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        V interned = instances.computeIfAbsent(key, k -> {
+            int ordinal = nextOrdinal.getAndUpdate(next -> next < capacity ? next + 1 : next);
+            return ordinal < capacity ? factory.apply(k, ordinal) : null;
+        });
+        return interned != null ? interned : factory.apply(key, UNPOOLED);
+    }
+
+    // Upper bound (exclusive) of every ordinal handed out so far, never more than the capacity
+    public int size() {
+        return nextOrdinal.get();
+    }
+}
@@ -0,0 +1,50 @@
+package com.zoo.hsezoorest.domain.model.shared;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Version 7 UUIDs: a 48-bit millisecond timestamp, a 12-bit per-thread sequence and 62 random bits.
+ * All state is thread-confined and the random bits come from {@link ThreadLocalRandom}, so callers
+ * never meet on a shared {@code SecureRandom}. Ids sort by creation time across threads and are
+ * strictly increasing within one; a thread that exhausts the sequence borrows the next millisecond.
+ */
+public final class TimeOrderedIds {
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final long VERSION = 7L << SEQUENCE_BITS;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private static final ThreadLocal<State> STATE = ThreadLocal.withInitial(State::new);
+
+    private static final class State {
+        long millis;
+        long sequence;
+    }
+
+    private TimeOrderedIds() {
+    }
+
+    public static UUID next() {
+        State state = STATE.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        long now = System.currentTimeMillis();
+        if (now > state.millis) {
+            state.millis = now;
+            // Start low in the sequence so a burst has room before borrowing from the next millisecond
+            state.sequence = random.nextLong(MAX_SEQUENCE >> 1);
+        } else if (state.sequence < MAX_SEQUENCE) {
+            state.sequence++;
+        } else {
+            state.millis++;
+            state.sequence = 0;
+        }
+
+        long mostSignificantBits = state.millis << 16 | VERSION | state.sequence;
+        long leastSignificantBits = VARIANT | random.nextLong() & RANDOM_MASK;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+}
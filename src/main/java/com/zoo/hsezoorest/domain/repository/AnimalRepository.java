@@ -3,23 +3,44 @@ package com.zoo.hsezoorest.domain.repository;
 import com.zoo.hsezoorest.domain.model.animal.Animal;
 import com.zoo.hsezoorest.domain.model.animal.AnimalId;
 import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface AnimalRepository {
     Animal save(Animal animal);
 
+    Optional<Animal> update(AnimalId id, Consumer<Animal> changes);
+
+    Optional<Animal> update(AnimalId id, long expectedVersion, Consumer<Animal> changes);
+
     Optional<Animal> findById(AnimalId id);
 
     List<Animal> findAll();
 
+    List<Animal> findAllById(Collection<AnimalId> ids);
+
     List<Animal> findBySpecies(Species species);
 
-    List<Animal> findByEnclosureId(String enclosureId);
+    List<Animal> findByEnclosureId(EnclosureId enclosureId);
 
     List<Animal> findSickAnimals();
 
+    long countBySpecies(Species species);
+
+    boolean existsBySpecies(Species species);
+
+    long countByEnclosureId(EnclosureId enclosureId);
+
+    boolean existsByEnclosureId(EnclosureId enclosureId);
+
+    long countSickAnimals();
+
+    boolean existsSickAnimals();
+
     boolean deleteById(AnimalId id);
 
     void deleteAll();
@@ -0,0 +1,12 @@
+package com.zoo.hsezoorest.domain.repository;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs a query against the repositories as they stood at a single moment, with no write
+ * half-applied and none landing between the individual reads. The query may run more than once,
+ * so it must not have side effects.
+ */
+public interface ConsistentReader {
+    <T> T read(Supplier<T> query);
+}
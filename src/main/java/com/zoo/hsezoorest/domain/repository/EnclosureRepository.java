@@ -4,22 +4,42 @@ import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
 import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
 import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface EnclosureRepository {
     Enclosure save(Enclosure enclosure);
 
+    Optional<Enclosure> update(EnclosureId id, Consumer<Enclosure> changes);
+
+    Optional<Enclosure> update(EnclosureId id, long expectedVersion, Consumer<Enclosure> changes);
+
     Optional<Enclosure> findById(EnclosureId id);
 
     List<Enclosure> findAll();
 
+    List<Enclosure> findAllById(Collection<EnclosureId> ids);
+
     List<Enclosure> findByType(EnclosureType type);
 
     List<Enclosure> findAvailableEnclosures();
 
     List<Enclosure> findSuitableForAnimalType(String animalType);
 
+    long countByType(EnclosureType type);
+
+    boolean existsByType(EnclosureType type);
+
+    long countAvailableEnclosures();
+
+    boolean existsAvailableEnclosures();
+
+    long countSuitableForAnimalType(String animalType);
+
+    boolean existsSuitableForAnimalType(String animalType);
+
     boolean deleteById(EnclosureId id);
 
     void deleteAll();
@@ -29,4 +49,8 @@ public interface EnclosureRepository {
     long count();
 
     long countEmpty();
+
+    long totalCapacity();
+
+    long usedCapacity();
 }
@@ -7,18 +7,30 @@ import com.zoo.hsezoorest.domain.model.feeding.FoodType;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface FeedingRepository {
     Feeding save(Feeding feedingSchedule);
 
+    List<Feeding> saveAll(Collection<Feeding> feedingSchedules);
+
+    Optional<Feeding> update(FeedingId id, Consumer<Feeding> changes);
+
+    Optional<Feeding> update(FeedingId id, long expectedVersion, Consumer<Feeding> changes);
+
     Optional<Feeding> findById(FeedingId id);
 
     List<Feeding> findAll();
 
+    List<Feeding> findAllById(Collection<FeedingId> ids);
+
     List<Feeding> findByAnimalId(AnimalId animalId);
 
+    List<Feeding> findByAnimalIds(Collection<AnimalId> animalIds);
+
     List<Feeding> findByTimeRange(LocalTime startTime, LocalTime endTime);
 
     List<Feeding> findByFoodType(FoodType foodType);
@@ -27,8 +39,30 @@ public interface FeedingRepository {
 
     List<Feeding> findCompletedFeedingsByDate(LocalDate date);
 
+    long countByAnimalId(AnimalId animalId);
+
+    boolean existsByAnimalId(AnimalId animalId);
+
+    long countByTimeRange(LocalTime startTime, LocalTime endTime);
+
+    boolean existsByTimeRange(LocalTime startTime, LocalTime endTime);
+
+    long countByFoodType(FoodType foodType);
+
+    boolean existsByFoodType(FoodType foodType);
+
+    long countPending(LocalTime currentTime);
+
+    boolean existsPending(LocalTime currentTime);
+
+    long countCompletedOnDate(LocalDate date);
+
+    boolean existsCompletedOnDate(LocalDate date);
+
     boolean deleteById(FeedingId id);
 
+    boolean deleteById(FeedingId id, long expectedVersion);
+
     int deleteByAnimalId(AnimalId animalId);
 
     void deleteAll();
@@ -0,0 +1,103 @@
+package com.zoo.hsezoorest.infrastructure.cache;
+
+import com.zoo.hsezoorest.domain.event.AnimalMovedEvent;
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.infrastructure.persistence.EntityChangeListener;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+public class CacheInvalidator implements EntityChangeListener {
+
+    private final QueryCache queryCache;
+    // Enclosures are reconfigured in place, so the previous instance cannot tell us the old type
+    private final Map<EnclosureId, EnclosureType> knownTypes = new ConcurrentHashMap<>();
+
+    public CacheInvalidator(QueryCache queryCache) {
+        this.queryCache = queryCache;
+    }
+
+    @Override
+    public void onAnimalSaved(Animal previous, Animal current) {
+        if (previous != null && previous != current) {
+            invalidateEnclosureOf(previous);
+        }
+        invalidateEnclosureOf(current);
+        queryCache.invalidate(CacheRegion.PENDING_FEEDINGS);
+        queryCache.invalidate(CacheRegion.STATISTICS);
+    }
+
+    @Override
+    public void onAnimalDeleted(Animal animal) {
+        invalidateEnclosureOf(animal);
+        queryCache.invalidate(CacheRegion.PENDING_FEEDINGS);
+        queryCache.invalidate(CacheRegion.STATISTICS);
+    }
+
+    @Override
+    public void onEnclosureSaved(Enclosure previous, Enclosure current) {
+        EnclosureType previousType = knownTypes.put(current.getId(), current.getType());
+        if (previous != null && previous.getType() != current.getType()) {
+            queryCache.invalidate(CacheRegion.ENCLOSURES_BY_TYPE, previous.getType());
+        }
+        if (previousType != null && previousType != current.getType()) {
+            queryCache.invalidate(CacheRegion.ENCLOSURES_BY_TYPE, previousType);
+        }
+        invalidateEnclosure(current);
+    }
+
+    @Override
+    public void onEnclosureDeleted(Enclosure enclosure) {
+        knownTypes.remove(enclosure.getId());
+        invalidateEnclosure(enclosure);
+    }
+
+    @Override
+    public void onFeedingSaved(Feeding previous, Feeding current) {
+        queryCache.invalidate(CacheRegion.PENDING_FEEDINGS);
+        queryCache.invalidate(CacheRegion.STATISTICS);
+    }
+
+    @Override
+    public void onFeedingsSaved(Collection<Feeding> feedings) {
+        queryCache.invalidate(CacheRegion.PENDING_FEEDINGS);
+        queryCache.invalidate(CacheRegion.STATISTICS);
+    }
+
+    @Override
+    public void onFeedingDeleted(Feeding feeding) {
+        queryCache.invalidate(CacheRegion.PENDING_FEEDINGS);
+        queryCache.invalidate(CacheRegion.STATISTICS);
+    }
+
+    // Repository saves already cover transfers; the event guards against callers that skip them
+    @EventListener
+    public void onAnimalMoved(AnimalMovedEvent event) {
+        log.debug("Invalidating enclosure caches after {}", event.getEventId());
+        queryCache.invalidate(CacheRegion.AVAILABLE_ENCLOSURES);
+        queryCache.invalidate(CacheRegion.ENCLOSURES_BY_TYPE);
+        queryCache.invalidate(CacheRegion.STATISTICS);
+    }
+
+    private void invalidateEnclosureOf(Animal animal) {
+        if (animal.getCurrentEnclosure() != null) {
+            invalidateEnclosure(animal.getCurrentEnclosure());
+        }
+    }
+
+    private void invalidateEnclosure(Enclosure enclosure) {
+        queryCache.invalidate(CacheRegion.AVAILABLE_ENCLOSURES);
+        queryCache.invalidate(CacheRegion.ENCLOSURES_BY_TYPE, enclosure.getType());
+        queryCache.invalidate(CacheRegion.STATISTICS);
+    }
+}
@@ -0,0 +1,25 @@
+package com.zoo.hsezoorest.infrastructure.cache;
+
+public enum CacheRegion {
+    AVAILABLE_ENCLOSURES("available-enclosures", false),
+    ENCLOSURES_BY_TYPE("enclosures-by-type", false),
+    STATISTICS("statistics", true),
+    PENDING_FEEDINGS("pending-feedings", true);
+
+    private final String name;
+    // Entries depend on the wall clock (pending feedings), so they also expire on a short TTL
+    private final boolean timeSensitive;
+
+    CacheRegion(String name, boolean timeSensitive) {
+        this.name = name;
+        this.timeSensitive = timeSensitive;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isTimeSensitive() {
+        return timeSensitive;
+    }
+}
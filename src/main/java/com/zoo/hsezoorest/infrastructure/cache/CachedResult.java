@@ -0,0 +1,14 @@
+package com.zoo.hsezoorest.infrastructure.cache;
+
+import lombok.Getter;
+
+@Getter
+public class CachedResult<T> {
+    private final T value;
+    private final String etag;
+
+    CachedResult(T value, String etag) {
+        this.value = value;
+        this.etag = etag;
+    }
+}
@@ -0,0 +1,113 @@
+package com.zoo.hsezoorest.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class QueryCache {
+
+    private final Map<CacheRegion, Cache<Object, CachedResult<?>>> regions = new EnumMap<>(CacheRegion.class);
+    private final AtomicLong generation = new AtomicLong();
+    // Bumped by every invalidation, so a load that overlapped one is not stored
+    private final Map<CacheRegion, AtomicLong> invalidations = new EnumMap<>(CacheRegion.class);
+    // ETags of entries still held by some region, so derived data (compressed bodies) can be validated
+    private final Set<String> liveEtags = ConcurrentHashMap.newKeySet();
+    // Keeps ETags from a previous process run from matching entries of this one
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    public QueryCache(@Value("${zoo.cache.maximum-size:1000}") long maximumSize,
+                      @Value("${zoo.cache.time-to-live:5m}") Duration timeToLive,
+                      @Value("${zoo.cache.time-sensitive-ttl:30s}") Duration timeSensitiveTtl) {
+        for (CacheRegion region : CacheRegion.values()) {
+            invalidations.put(region, new AtomicLong());
+            regions.put(region, Caffeine.newBuilder()
+                    .maximumSize(maximumSize)
+                    .expireAfterWrite(region.isTimeSensitive() ? timeSensitiveTtl : timeToLive)
+                    .executor(Runnable::run)
+                    .removalListener((Object key, CachedResult<?> value, RemovalCause cause) -> {
+                        if (value != null) {
+                            liveEtags.remove(value.getEtag());
+                        }
+                    })
+                    .recordStats()
+                    .build());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> CachedResult<T> get(CacheRegion region, Object key, Supplier<T> loader) {
+        Cache<Object, CachedResult<?>> cache = regions.get(region);
+        AtomicLong regionInvalidations = invalidations.get(region);
+        long observed = regionInvalidations.get();
+
+        // A value loaded across an invalidation may predate the change; it is served once but not kept
+        AtomicReference<CachedResult<T>> superseded = new AtomicReference<>();
+        CachedResult<?> cached = cache.get(key, k -> {
+            CachedResult<T> result = load(region, loader);
+            if (regionInvalidations.get() != observed) {
+                superseded.set(result);
+                return null;
+            }
+            liveEtags.add(result.getEtag());
+            return result;
+        });
+        if (cached == null) {
+            return superseded.get();
+        }
+        if (regionInvalidations.get() != observed) {
+            // Invalidated between the check above and the entry becoming visible
+            cache.asMap().remove(key, cached);
+        }
+        return (CachedResult<T>) cached;
+    }
+
+    public void invalidate(CacheRegion region, Object key) {
+        invalidations.get(region).incrementAndGet();
+        regions.get(region).invalidate(key);
+    }
+
+    public void invalidate(CacheRegion region) {
+        invalidations.get(region).incrementAndGet();
+        regions.get(region).invalidateAll();
+    }
+
+    public void invalidateAll() {
+        invalidations.values().forEach(AtomicLong::incrementAndGet);
+        regions.values().forEach(Cache::invalidateAll);
+    }
+
+    public boolean isCurrent(String etag) {
+        return liveEtags.contains(etag);
+    }
+
+    public Map<CacheRegion, CacheStats> getStats() {
+        Map<CacheRegion, CacheStats> stats = new EnumMap<>(CacheRegion.class);
+        regions.forEach((region, cache) -> stats.put(region, cache.stats()));
+        return stats;
+    }
+
+    public long size(CacheRegion region) {
+        return regions.get(region).estimatedSize();
+    }
+
+    private <T> CachedResult<T> load(CacheRegion region, Supplier<T> loader) {
+        log.debug("Cache miss in region {}", region.getName());
+        String etag = "\"" + region.getName() + "-" + epoch + "-" + generation.incrementAndGet() + "\"";
+        return new CachedResult<>(loader.get(), etag);
+    }
+}
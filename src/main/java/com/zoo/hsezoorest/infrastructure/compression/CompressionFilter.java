@@ -0,0 +1,214 @@
+package com.zoo.hsezoorest.infrastructure.compression;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zoo.hsezoorest.infrastructure.cache.QueryCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Gzips responses above a size threshold. Bodies whose ETag comes from the {@link QueryCache} are kept
+ * compressed and replayed, without running the handler again, until that cache entry is invalidated.
+ * A gzipped body is a different representation, so its ETag carries a {@code -gzip} suffix that is
+ * stripped from conditional request headers before the handler compares them.
+ */
+@Component
+@Order(0)
+@ConditionalOnProperty(name = "zoo.compression.enabled", havingValue = "true", matchIfMissing = true)
+public class CompressionFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+    private static final String GZIP_ETAG_SUFFIX = "-" + GZIP + "\"";
+    private static final String REPLAYED_HEADER_PREFIX = "X-Api-";
+
+    private final GzipCompressor compressor;
+    private final QueryCache queryCache;
+    private final int minResponseSize;
+    private final List<MediaType> mimeTypes;
+    private final Cache<String, PrecompressedResponse> precompressed;
+
+    public CompressionFilter(GzipCompressor compressor,
+                             QueryCache queryCache,
+                             @Value("${zoo.compression.min-response-size:1KB}") DataSize minResponseSize,
+                             @Value("${zoo.compression.mime-types:application/json,application/*+json,text/*}") List<MediaType> mimeTypes,
+                             @Value("${zoo.compression.precompressed-cache-size:16MB}") DataSize precompressedCacheSize) {
+        this.compressor = compressor;
+        this.queryCache = queryCache;
+        this.minResponseSize = (int) minResponseSize.toBytes();
+        this.mimeTypes = mimeTypes;
+        this.precompressed = Caffeine.newBuilder()
+                .maximumWeight(precompressedCacheSize.toBytes())
+                .weigher((String key, PrecompressedResponse value) -> value.getBody().length)
+                .build();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        boolean gzipValidators = hasGzipTag(request, HttpHeaders.IF_NONE_MATCH) || hasGzipTag(request, HttpHeaders.IF_MATCH);
+        if (gzipValidators) {
+            request = new IdentityValidatorsRequest(request);
+        }
+
+        if (!acceptsGzip(request)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // Conditional requests are left to the handler, which answers them without a body
+        String key = HttpMethod.GET.matches(request.getMethod()) && request.getHeader(HttpHeaders.IF_NONE_MATCH) == null
+                ? cacheKey(request)
+                : null;
+        if (key != null) {
+            PrecompressedResponse cached = precompressed.getIfPresent(key);
+            if (cached != null) {
+                if (queryCache.isCurrent(cached.getEtag())) {
+                    replay(cached, request, response);
+                    return;
+                }
+                precompressed.asMap().remove(key, cached);
+            }
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+
+        String etag = wrapper.getHeader(HttpHeaders.ETAG);
+        if (!shouldCompress(wrapper)) {
+            // A validator the client got with a gzipped body keeps its suffix on the 304
+            if (gzipValidators && etag != null && wrapper.getStatus() == HttpServletResponse.SC_NOT_MODIFIED) {
+                wrapper.setHeader(HttpHeaders.ETAG, gzipTag(etag));
+            }
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        byte[] compressed = compressor.compress(wrapper.getContentAsByteArray(), wrapper.getContentSize());
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, gzipTag(etag));
+        }
+        writeCompressed(response, compressed);
+
+        if (key != null && etag != null && queryCache.isCurrent(etag)) {
+            precompressed.put(key, snapshot(etag, request, response, compressed));
+        }
+    }
+
+    private static boolean hasGzipTag(HttpServletRequest request, String header) {
+        String value = request.getHeader(header);
+        return value != null && value.contains(GZIP_ETAG_SUFFIX);
+    }
+
+    private static String gzipTag(String etag) {
+        return etag.endsWith("\"") ? etag.substring(0, etag.length() - 1) + GZIP_ETAG_SUFFIX : etag;
+    }
+
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.toLowerCase().contains(GZIP);
+    }
+
+    private boolean shouldCompress(ContentCachingResponseWrapper response) {
+        if (response.isCommitted()
+                || response.getStatus() != HttpServletResponse.SC_OK
+                || response.getContentSize() < minResponseSize
+                || response.getHeader(HttpHeaders.CONTENT_ENCODING) != null
+                || response.getContentType() == null) {
+            return false;
+        }
+        MediaType contentType = MediaType.parseMediaType(response.getContentType());
+        for (MediaType mimeType : mimeTypes) {
+            if (mimeType.includes(contentType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String cacheKey(HttpServletRequest request) {
+        String query = request.getQueryString();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return request.getRequestURI() + (query != null ? "?" + query : "") + " " + (accept != null ? accept : "");
+    }
+
+    private PrecompressedResponse snapshot(String etag, HttpServletRequest request, HttpServletResponse response,
+                                           byte[] compressed) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (name.regionMatches(true, 0, REPLAYED_HEADER_PREFIX, 0, REPLAYED_HEADER_PREFIX.length())) {
+                headers.put(name, response.getHeader(name));
+            }
+        }
+        Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return new PrecompressedResponse(etag, route != null ? route.toString() : null,
+                response.getContentType(), headers, compressed);
+    }
+
+    private void replay(PrecompressedResponse cached, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        if (cached.getRoute() != null) {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, cached.getRoute());
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.getContentType());
+        response.setHeader(HttpHeaders.ETAG, gzipTag(cached.getEtag()));
+        cached.getHeaders().forEach(response::setHeader);
+        writeCompressed(response, cached.getBody());
+    }
+
+    private void writeCompressed(HttpServletResponse response, byte[] compressed) throws IOException {
+        response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        response.setContentLength(compressed.length);
+        response.getOutputStream().write(compressed);
+    }
+
+    // Presents the validators of a gzipped representation as those of the identity one
+    private static class IdentityValidatorsRequest extends HttpServletRequestWrapper {
+
+        IdentityValidatorsRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return identity(name, super.getHeader(name));
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            List<String> values = Collections.list(super.getHeaders(name));
+            values.replaceAll(value -> identity(name, value));
+            return Collections.enumeration(values);
+        }
+
+        private static String identity(String name, String value) {
+            if (value == null
+                    || !(HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) || HttpHeaders.IF_MATCH.equalsIgnoreCase(name))) {
+                return value;
+            }
+            return value.replace(GZIP_ETAG_SUFFIX, "\"");
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.zoo.hsezoorest.infrastructure.compression;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+// Deflaters hold native zlib state that is expensive to set up and is only released by end()
+public class DeflaterPool {
+
+    private final BlockingQueue<Deflater> idle;
+    private final int level;
+
+    public DeflaterPool(int capacity, int level) {
+        this.idle = new ArrayBlockingQueue<>(capacity);
+        this.level = level;
+    }
+
+    public Deflater borrow() {
+        Deflater deflater = idle.poll();
+        return deflater != null ? deflater : new Deflater(level, true);
+    }
+
+    public void release(Deflater deflater) {
+        deflater.reset();
+        if (!idle.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+    public int idleCount() {
+        return idle.size();
+    }
+
+    public void close() {
+        Deflater deflater;
+        while ((deflater = idle.poll()) != null) {
+            deflater.end();
+        }
+    }
+}
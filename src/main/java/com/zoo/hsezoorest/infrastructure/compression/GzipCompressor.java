@@ -0,0 +1,69 @@
+package com.zoo.hsezoorest.infrastructure.compression;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Writes single-member gzip (RFC 1952) around raw deflate output, so that the deflaters can come
+ * from a pool instead of being created and ended by every {@code GZIPOutputStream}.
+ */
+@Component
+public class GzipCompressor {
+
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int TRAILER_LENGTH = 8;
+
+    private final DeflaterPool pool;
+
+    public GzipCompressor(@Value("${zoo.compression.deflater-pool-size:16}") int poolSize,
+                          @Value("${zoo.compression.level:6}") int level) {
+        this.pool = new DeflaterPool(poolSize, level);
+    }
+
+    public byte[] compress(byte[] input, int length) {
+        Deflater deflater = pool.borrow();
+        try {
+            deflater.setInput(input, 0, length);
+            deflater.finish();
+
+            byte[] output = new byte[Math.max(64, length / 4)];
+            System.arraycopy(HEADER, 0, output, 0, HEADER.length);
+            int size = HEADER.length;
+            while (!deflater.finished()) {
+                if (size == output.length) {
+                    output = Arrays.copyOf(output, output.length * 2);
+                }
+                size += deflater.deflate(output, size, output.length - size);
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(input, 0, length);
+            if (output.length < size + TRAILER_LENGTH) {
+                output = Arrays.copyOf(output, size + TRAILER_LENGTH);
+            }
+            size = writeIntLittleEndian(output, size, (int) crc.getValue());
+            size = writeIntLittleEndian(output, size, length);
+            return size == output.length ? output : Arrays.copyOf(output, size);
+        } finally {
+            pool.release(deflater);
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        pool.close();
+    }
+
+    private static int writeIntLittleEndian(byte[] buffer, int offset, int value) {
+        buffer[offset] = (byte) value;
+        buffer[offset + 1] = (byte) (value >>> 8);
+        buffer[offset + 2] = (byte) (value >>> 16);
+        buffer[offset + 3] = (byte) (value >>> 24);
+        return offset + 4;
+    }
+}
@@ -0,0 +1,22 @@
+package com.zoo.hsezoorest.infrastructure.compression;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+public class PrecompressedResponse {
+    private final String etag;
+    private final String route;
+    private final String contentType;
+    private final Map<String, String> headers;
+    private final byte[] body;
+
+    PrecompressedResponse(String etag, String route, String contentType, Map<String, String> headers, byte[] body) {
+        this.etag = etag;
+        this.route = route;
+        this.contentType = contentType;
+        this.headers = headers;
+        this.body = body;
+    }
+}
@@ -0,0 +1,21 @@
+package com.zoo.hsezoorest.infrastructure.config;
+
+import com.zoo.hsezoorest.infrastructure.tracing.RequestTracingInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final RequestTracingInterceptor requestTracingInterceptor;
+
+    public WebConfig(RequestTracingInterceptor requestTracingInterceptor) {
+        this.requestTracingInterceptor = requestTracingInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestTracingInterceptor);
+    }
+}
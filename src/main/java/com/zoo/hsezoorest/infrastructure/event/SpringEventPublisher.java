@@ -1,23 +1,39 @@
 package com.zoo.hsezoorest.infrastructure.event;
 
 import com.zoo.hsezoorest.domain.event.DomainEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Slf4j
 @Component
 public class SpringEventPublisher implements EventPublisher {
 
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> publishTimers = new ConcurrentHashMap<>();
 
-    public SpringEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+    public SpringEventPublisher(ApplicationEventPublisher applicationEventPublisher, MeterRegistry meterRegistry) {
         this.applicationEventPublisher = applicationEventPublisher;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
     public void publish(DomainEvent event) {
         log.info("Publishing domain event: {} ({})", event.getEventType(), event.getEventId());
-        applicationEventPublisher.publishEvent(event);
+        publishTimers.computeIfAbsent(event.getEventType(), this::publishTimer)
+                .record(() -> applicationEventPublisher.publishEvent(event));
+    }
+
+    private Timer publishTimer(String eventType) {
+        return Timer.builder("zoo.events.publish")
+                .description("Latency of handing a domain event to the multicaster")
+                .tag("type", eventType)
+                .register(meterRegistry);
     }
 }
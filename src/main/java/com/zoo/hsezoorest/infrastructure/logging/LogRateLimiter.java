@@ -0,0 +1,49 @@
+package com.zoo.hsezoorest.infrastructure.logging;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets one log line per key through each interval and counts the calls it holds back, so a burst of
+ * identical failures costs a counter increment rather than a formatted log event. Keys are expected
+ * to come from a small fixed set, such as error codes or exception classes.
+ */
+public class LogRateLimiter {
+
+    private static final class Window {
+        final AtomicLong nextPermitAt;
+        final LongAdder suppressed = new LongAdder();
+
+        Window(long now) {
+            this.nextPermitAt = new AtomicLong(now);
+        }
+    }
+
+    private final long intervalNanos;
+    private final Map<Object, Window> windows = new ConcurrentHashMap<>();
+
+    public LogRateLimiter(Duration interval) {
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * Returns the number of calls suppressed since the last permitted one, or -1 if this call should not log.
+     */
+    public long tryAcquire(Object key) {
+        long now = System.nanoTime();
+        Window window = windows.get(key);
+        if (window == null) {
+            window = windows.computeIfAbsent(key, k -> new Window(now));
+        }
+
+        long permitAt = window.nextPermitAt.get();
+        if (now - permitAt >= 0 && window.nextPermitAt.compareAndSet(permitAt, now + intervalNanos)) {
+            return window.suppressed.sumThenReset();
+        }
+        window.suppressed.increment();
+        return -1;
+    }
+}
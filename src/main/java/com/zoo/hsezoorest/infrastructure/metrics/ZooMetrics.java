@@ -0,0 +1,57 @@
+package com.zoo.hsezoorest.infrastructure.metrics;
+
+import com.zoo.hsezoorest.domain.repository.AnimalRepository;
+import com.zoo.hsezoorest.domain.repository.EnclosureRepository;
+import com.zoo.hsezoorest.domain.repository.FeedingRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ZooMetrics implements MeterBinder {
+
+    private final AnimalRepository animalRepository;
+    private final EnclosureRepository enclosureRepository;
+    private final FeedingRepository feedingRepository;
+
+    public ZooMetrics(AnimalRepository animalRepository,
+                      EnclosureRepository enclosureRepository,
+                      FeedingRepository feedingRepository) {
+        this.animalRepository = animalRepository;
+        this.enclosureRepository = enclosureRepository;
+        this.feedingRepository = feedingRepository;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("zoo.entities", animalRepository, AnimalRepository::count)
+                .tag("type", "animal")
+                .description("Number of stored entities")
+                .register(registry);
+        Gauge.builder("zoo.entities", enclosureRepository, EnclosureRepository::count)
+                .tag("type", "enclosure")
+                .description("Number of stored entities")
+                .register(registry);
+        Gauge.builder("zoo.entities", feedingRepository, FeedingRepository::count)
+                .tag("type", "feeding")
+                .description("Number of stored entities")
+                .register(registry);
+
+        Gauge.builder("zoo.animals.sick", animalRepository, AnimalRepository::countSickAnimals)
+                .description("Animals currently marked as sick")
+                .register(registry);
+        Gauge.builder("zoo.enclosures.empty", enclosureRepository, EnclosureRepository::countEmpty)
+                .description("Enclosures without animals")
+                .register(registry);
+        Gauge.builder("zoo.enclosures.occupancy", enclosureRepository, ZooMetrics::occupancy)
+                .description("Occupied share of total enclosure capacity")
+                .baseUnit("ratio")
+                .register(registry);
+    }
+
+    private static double occupancy(EnclosureRepository repository) {
+        long capacity = repository.totalCapacity();
+        return capacity > 0 ? (double) repository.usedCapacity() / capacity : 0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.zoo.hsezoorest.infrastructure.persistence;
+
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+
+import java.util.Collection;
+
+/**
+ * Synchronous callback invoked by the repositories after every mutation.
+ * {@code previous} is the instance that was stored before the save (may be the same instance or null).
+ */
+public interface EntityChangeListener {
+
+    default void onAnimalSaved(Animal previous, Animal current) {
+    }
+
+    default void onAnimalDeleted(Animal animal) {
+    }
+
+    default void onEnclosureSaved(Enclosure previous, Enclosure current) {
+    }
+
+    default void onEnclosureDeleted(Enclosure enclosure) {
+    }
+
+    default void onFeedingSaved(Feeding previous, Feeding current) {
+    }
+
+    // Bulk saves report once per batch; listeners that only care about single saves get one call per feeding
+    default void onFeedingsSaved(Collection<Feeding> feedings) {
+        for (Feeding feeding : feedings) {
+            onFeedingSaved(feeding, feeding);
+        }
+    }
+
+    default void onFeedingDeleted(Feeding feeding) {
+    }
+}
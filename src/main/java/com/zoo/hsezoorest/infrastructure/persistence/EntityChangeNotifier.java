@@ -0,0 +1,40 @@
+package com.zoo.hsezoorest.infrastructure.persistence;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Component
+public class EntityChangeNotifier {
+
+    private final ObjectProvider<EntityChangeListener> listenerProvider;
+    private final WriteSequence writeSequence;
+    private volatile List<EntityChangeListener> listeners;
+
+    public EntityChangeNotifier(ObjectProvider<EntityChangeListener> listenerProvider, WriteSequence writeSequence) {
+        this.listenerProvider = listenerProvider;
+        this.writeSequence = writeSequence;
+    }
+
+    // Listeners hear about a change once the write that made it, and any write enclosing it, is complete
+    public void notify(Consumer<EntityChangeListener> callback) {
+        writeSequence.afterWrite(() -> {
+            for (EntityChangeListener listener : getListeners()) {
+                callback.accept(listener);
+            }
+        });
+    }
+
+    // Resolved lazily: listeners may themselves depend on the repositories that notify them
+    private List<EntityChangeListener> getListeners() {
+        List<EntityChangeListener> resolved = listeners;
+        if (resolved == null) {
+            resolved = listenerProvider.orderedStream().collect(Collectors.toList());
+            listeners = resolved;
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,119 @@
+package com.zoo.hsezoorest.infrastructure.persistence;
+
+import com.zoo.hsezoorest.domain.repository.ConsistentReader;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Brackets every repository write so readers can tell whether one overlapped them. A read is retried
+ * until it started with no write in flight and none began before it finished; if writers keep
+ * interfering, new writes are held at the door until the in-flight ones drain and the read completes.
+ * Nested writes (a transfer updating enclosures from inside the animal update) count as one, and work
+ * deferred with {@link #afterWrite} runs once the outermost write has closed, so listeners never run
+ * while a reader may be waiting on that write.
+ */
+@Component
+public class WriteSequence implements ConsistentReader {
+
+    private static final int OPTIMISTIC_ATTEMPTS = 16;
+
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong finished = new AtomicLong();
+    private final ReentrantLock exclusiveRead = new ReentrantLock();
+    private volatile boolean draining;
+    private final ThreadLocal<WriterState> writerState = ThreadLocal.withInitial(WriterState::new);
+
+    public <T> T write(Supplier<T> writer) {
+        WriterState state = writerState.get();
+        if (state.depth == 0) {
+            enter();
+        }
+        state.depth++;
+        try {
+            return writer.get();
+        } finally {
+            if (--state.depth == 0) {
+                finished.incrementAndGet();
+                state.runDeferred();
+            }
+        }
+    }
+
+    public void write(Runnable writer) {
+        write(() -> {
+            writer.run();
+            return null;
+        });
+    }
+
+    public void afterWrite(Runnable action) {
+        WriterState state = writerState.get();
+        if (state.depth == 0) {
+            action.run();
+        } else {
+            state.deferred.add(action);
+        }
+    }
+
+    @Override
+    public <T> T read(Supplier<T> query) {
+        if (writerState.get().depth > 0) {
+            // A writer reading back its own changes cannot wait for itself
+            return query.get();
+        }
+
+        for (int attempt = 0; attempt < OPTIMISTIC_ATTEMPTS; attempt++) {
+            long before = finished.get();
+            if (started.get() == before) {
+                T result = query.get();
+                if (started.get() == before) {
+                    return result;
+                }
+            }
+            Thread.onSpinWait();
+        }
+
+        exclusiveRead.lock();
+        try {
+            draining = true;
+            while (started.get() != finished.get()) {
+                Thread.yield();
+            }
+            return query.get();
+        } finally {
+            draining = false;
+            exclusiveRead.unlock();
+        }
+    }
+
+    // Announces the write before checking the gate, so either the reader sees it in flight or it sees the gate
+    private void enter() {
+        while (true) {
+            started.incrementAndGet();
+            if (!draining) {
+                return;
+            }
+            finished.incrementAndGet();
+            exclusiveRead.lock();
+            exclusiveRead.unlock();
+        }
+    }
+
+    private static final class WriterState {
+        private int depth;
+        private final List<Runnable> deferred = new ArrayList<>();
+
+        void runDeferred() {
+            while (!deferred.isEmpty()) {
+                List<Runnable> actions = new ArrayList<>(deferred);
+                deferred.clear();
+                actions.forEach(Runnable::run);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.zoo.hsezoorest.infrastructure.persistence.inmemory;
+
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.animal.HealthStatus;
+import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters behind the animal finders. Entities are mutated in place, so each animal's indexed
+ * attributes are remembered as of its last save and subtracted again on the next one.
+ */
+final class AnimalIndex {
+
+    private record Entry(Species species, EnclosureId enclosureId, boolean sick) {
+
+        static Entry of(Animal animal) {
+            return new Entry(
+                    animal.getSpecies(),
+                    animal.getCurrentEnclosure() != null ? animal.getCurrentEnclosure().getId() : null,
+                    animal.getHealthStatus() == HealthStatus.SICK);
+        }
+    }
+
+    private final Map<AnimalId, Entry> entries = new ConcurrentHashMap<>();
+    private final CountIndex<Species> bySpecies = CountIndex.hashed();
+    private final CountIndex<EnclosureId> byEnclosure = CountIndex.hashed();
+    private final AtomicLong sick = new AtomicLong();
+
+    void put(Animal animal) {
+        Entry current = Entry.of(animal);
+        entries.compute(animal.getId(), (id, previous) -> {
+            if (previous != null) {
+                subtract(previous);
+            }
+            add(current);
+            return current;
+        });
+    }
+
+    void remove(AnimalId id) {
+        entries.computeIfPresent(id, (key, previous) -> {
+            subtract(previous);
+            return null;
+        });
+    }
+
+    long countBySpecies(Species species) {
+        return bySpecies.count(species);
+    }
+
+    long countByEnclosureId(EnclosureId enclosureId) {
+        return byEnclosure.count(enclosureId);
+    }
+
+    long countSick() {
+        return sick.get();
+    }
+
+    private void add(Entry entry) {
+        bySpecies.increment(entry.species());
+        byEnclosure.increment(entry.enclosureId());
+        if (entry.sick()) {
+            sick.incrementAndGet();
+        }
+    }
+
+    private void subtract(Entry entry) {
+        bySpecies.decrement(entry.species());
+        byEnclosure.decrement(entry.enclosureId());
+        if (entry.sick()) {
+            sick.decrementAndGet();
+        }
+    }
+}
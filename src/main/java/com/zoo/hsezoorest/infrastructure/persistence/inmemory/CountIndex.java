@@ -0,0 +1,80 @@
+package com.zoo.hsezoorest.infrastructure.persistence.inmemory;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Number of stored entities per key. Keys whose count drops to zero are removed,
+ * so the index stays as small as the set of values actually in use.
+ */
+final class CountIndex<K> {
+
+    private final ConcurrentMap<K, Long> counts;
+
+    private CountIndex(ConcurrentMap<K, Long> counts) {
+        this.counts = counts;
+    }
+
+    static <K> CountIndex<K> hashed() {
+        return new CountIndex<>(new ConcurrentHashMap<>());
+    }
+
+    static <K extends Comparable<? super K>> CountIndex<K> sorted() {
+        return new CountIndex<>(new ConcurrentSkipListMap<>());
+    }
+
+    void increment(K key) {
+        adjust(key, 1);
+    }
+
+    void decrement(K key) {
+        adjust(key, -1);
+    }
+
+    long count(K key) {
+        return key == null ? 0 : counts.getOrDefault(key, 0L);
+    }
+
+    long countBetween(K from, K to) {
+        return sum(navigable().subMap(from, true, to, true));
+    }
+
+    long countUpTo(K to) {
+        return sum(navigable().headMap(to, true));
+    }
+
+    boolean anyBetween(K from, K to) {
+        return !navigable().subMap(from, true, to, true).isEmpty();
+    }
+
+    boolean anyUpTo(K to) {
+        return !navigable().headMap(to, true).isEmpty();
+    }
+
+    private void adjust(K key, long delta) {
+        if (key != null) {
+            counts.compute(key, (k, count) -> {
+                long updated = (count == null ? 0 : count) + delta;
+                return updated == 0 ? null : updated;
+            });
+        }
+    }
+
+    private NavigableMap<K, Long> navigable() {
+        if (!(counts instanceof NavigableMap)) {
+            throw new IllegalStateException("Range queries need a sorted index");
+        }
+        return (NavigableMap<K, Long>) counts;
+    }
+
+    private static <K> long sum(Map<K, Long> range) {
+        long total = 0;
+        for (long count : range.values()) {
+            total += count;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,89 @@
+package com.zoo.hsezoorest.infrastructure.persistence.inmemory;
+
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counters behind the enclosure finders, maintained from the state observed at each save.
+ */
+final class EnclosureIndex {
+
+    private record Entry(EnclosureType type, boolean available, int capacity, int animals) {
+
+        static Entry of(Enclosure enclosure) {
+            return new Entry(enclosure.getType(), enclosure.hasAvailableSpace(),
+                    enclosure.getCapacity().getMaximum(), enclosure.getCurrentAnimalCount());
+        }
+    }
+
+    private final Map<EnclosureId, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray byType = new AtomicLongArray(EnclosureType.values().length);
+    private final AtomicLongArray availableByType = new AtomicLongArray(EnclosureType.values().length);
+    private final AtomicLong empty = new AtomicLong();
+    private final AtomicLong capacity = new AtomicLong();
+    private final AtomicLong animals = new AtomicLong();
+
+    void put(Enclosure enclosure) {
+        Entry current = Entry.of(enclosure);
+        entries.compute(enclosure.getId(), (id, previous) -> {
+            if (previous != null) {
+                apply(previous, -1);
+            }
+            apply(current, 1);
+            return current;
+        });
+    }
+
+    void remove(EnclosureId id) {
+        entries.computeIfPresent(id, (key, previous) -> {
+            apply(previous, -1);
+            return null;
+        });
+    }
+
+    long countByType(EnclosureType type) {
+        return byType.get(type.ordinal());
+    }
+
+    long countAvailable() {
+        long total = 0;
+        for (int ordinal = 0; ordinal < availableByType.length(); ordinal++) {
+            total += availableByType.get(ordinal);
+        }
+        return total;
+    }
+
+    long countAvailable(EnclosureType type) {
+        return availableByType.get(type.ordinal());
+    }
+
+    long countEmpty() {
+        return empty.get();
+    }
+
+    long totalCapacity() {
+        return capacity.get();
+    }
+
+    long usedCapacity() {
+        return animals.get();
+    }
+
+    private void apply(Entry entry, int delta) {
+        byType.addAndGet(entry.type().ordinal(), delta);
+        if (entry.available()) {
+            availableByType.addAndGet(entry.type().ordinal(), delta);
+        }
+        if (entry.animals() == 0) {
+            empty.addAndGet(delta);
+        }
+        capacity.addAndGet((long) entry.capacity() * delta);
+        animals.addAndGet((long) entry.animals() * delta);
+    }
+}
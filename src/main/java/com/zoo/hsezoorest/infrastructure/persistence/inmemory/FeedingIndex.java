@@ -0,0 +1,122 @@
+package com.zoo.hsezoorest.infrastructure.persistence.inmemory;
+
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counters behind the feeding finders, maintained from the state observed at each save.
+ * Feeding times are kept sorted so time-window counts only visit the distinct times in range,
+ * and each animal's schedules are tracked by id so per-animal lookups skip the full scan.
+ */
+final class FeedingIndex {
+
+    private record Entry(FeedingId id, AnimalId animalId, FoodType foodType, LocalTime time, boolean completed,
+                         List<LocalDate> completedOn) {
+
+        static Entry of(Feeding feeding) {
+            boolean completed = feeding.isCompleted();
+            return new Entry(
+                    feeding.getId(),
+                    feeding.getAnimal().getId(),
+                    feeding.getFoodType(),
+                    feeding.getFeedingTime().getTime(),
+                    completed,
+                    completed ? feeding.getFeedingHistory().stream().distinct().toList() : List.of());
+        }
+    }
+
+    private final Map<FeedingId, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<AnimalId, Set<FeedingId>> byAnimal = new ConcurrentHashMap<>();
+    private final AtomicLongArray byFoodType = new AtomicLongArray(FoodType.values().length);
+    private final CountIndex<LocalTime> byTime = CountIndex.sorted();
+    private final CountIndex<LocalTime> incompleteByTime = CountIndex.sorted();
+    private final CountIndex<LocalDate> completedOnDate = CountIndex.hashed();
+
+    void put(Feeding feeding) {
+        Entry current = Entry.of(feeding);
+        entries.compute(feeding.getId(), (id, previous) -> {
+            if (previous != null) {
+                subtract(previous);
+            }
+            add(current);
+            return current;
+        });
+    }
+
+    void remove(FeedingId id) {
+        entries.computeIfPresent(id, (key, previous) -> {
+            subtract(previous);
+            return null;
+        });
+    }
+
+    Set<FeedingId> idsByAnimalId(AnimalId animalId) {
+        Set<FeedingId> ids = byAnimal.get(animalId);
+        return ids == null ? Set.of() : ids;
+    }
+
+    long countByAnimalId(AnimalId animalId) {
+        return idsByAnimalId(animalId).size();
+    }
+
+    long countByFoodType(FoodType foodType) {
+        return byFoodType.get(foodType.ordinal());
+    }
+
+    long countByTimeRange(LocalTime startTime, LocalTime endTime) {
+        return startTime.isAfter(endTime) ? 0 : byTime.countBetween(startTime, endTime);
+    }
+
+    boolean existsByTimeRange(LocalTime startTime, LocalTime endTime) {
+        return !startTime.isAfter(endTime) && byTime.anyBetween(startTime, endTime);
+    }
+
+    long countPending(LocalTime currentTime) {
+        return incompleteByTime.countUpTo(currentTime);
+    }
+
+    boolean existsPending(LocalTime currentTime) {
+        return incompleteByTime.anyUpTo(currentTime);
+    }
+
+    long countCompletedOnDate(LocalDate date) {
+        return completedOnDate.count(date);
+    }
+
+    private void add(Entry entry) {
+        byAnimal.compute(entry.animalId(), (animalId, ids) -> {
+            Set<FeedingId> members = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            members.add(entry.id());
+            return members;
+        });
+        byFoodType.incrementAndGet(entry.foodType().ordinal());
+        byTime.increment(entry.time());
+        if (!entry.completed()) {
+            incompleteByTime.increment(entry.time());
+        }
+        entry.completedOn().forEach(completedOnDate::increment);
+    }
+
+    private void subtract(Entry entry) {
+        byAnimal.computeIfPresent(entry.animalId(), (animalId, ids) -> {
+            ids.remove(entry.id());
+            return ids.isEmpty() ? null : ids;
+        });
+        byFoodType.decrementAndGet(entry.foodType().ordinal());
+        byTime.decrement(entry.time());
+        if (!entry.completed()) {
+            incompleteByTime.decrement(entry.time());
+        }
+        entry.completedOn().forEach(completedOnDate::decrement);
+    }
+}
@@ -1,33 +1,79 @@
 package com.zoo.hsezoorest.infrastructure.persistence.inmemory;
 
+import com.zoo.hsezoorest.application.exception.ConcurrentUpdateException;
 import com.zoo.hsezoorest.domain.model.animal.Animal;
 import com.zoo.hsezoorest.domain.model.animal.AnimalId;
 import com.zoo.hsezoorest.domain.model.animal.HealthStatus;
 import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
 import com.zoo.hsezoorest.domain.repository.AnimalRepository;
+import com.zoo.hsezoorest.infrastructure.persistence.EntityChangeNotifier;
+import com.zoo.hsezoorest.infrastructure.persistence.WriteSequence;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Repository
+@Timed(value = "zoo.repository", extraTags = {"repository", "animal"}, histogram = true)
 public class InMemoryAnimalRepository implements AnimalRepository {
 
-    private final Map<String, Animal> animals = new ConcurrentHashMap<>();
+    private final Map<AnimalId, Animal> animals = new ConcurrentHashMap<>();
+    private final AnimalIndex index = new AnimalIndex();
+    private final EntityChangeNotifier changeNotifier;
+    private final WriteSequence writeSequence;
+
+    public InMemoryAnimalRepository(EntityChangeNotifier changeNotifier, WriteSequence writeSequence) {
+        this.changeNotifier = changeNotifier;
+        this.writeSequence = writeSequence;
+    }
 
     @Override
     public Animal save(Animal animal) {
-        animals.put(animal.getId().getValue(), animal);
-        return animal;
+        return writeSequence.write(() -> {
+            Animal previous = animals.put(animal.getId(), animal);
+            index.put(animal);
+            changeNotifier.notify(listener -> listener.onAnimalSaved(previous, animal));
+            return animal;
+        });
+    }
+
+    @Override
+    public Optional<Animal> update(AnimalId id, Consumer<Animal> changes) {
+        return writeSequence.write(() -> {
+            Animal updated = animals.computeIfPresent(id, (key, animal) -> {
+                changes.accept(animal);
+                index.put(animal);
+                return animal;
+            });
+            if (updated == null) {
+                return Optional.empty();
+            }
+            changeNotifier.notify(listener -> listener.onAnimalSaved(updated, updated));
+            return Optional.of(updated);
+        });
+    }
+
+    @Override
+    public Optional<Animal> update(AnimalId id, long expectedVersion, Consumer<Animal> changes) {
+        return update(id, animal -> {
+            if (animal.getVersion() != expectedVersion) {
+                throw new ConcurrentUpdateException("Animal", id.getValue(), expectedVersion, animal.getVersion());
+            }
+            changes.accept(animal);
+        });
     }
 
     @Override
     public Optional<Animal> findById(AnimalId id) {
-        return Optional.ofNullable(animals.get(id.getValue()));
+        return Optional.ofNullable(animals.get(id));
     }
 
     @Override
@@ -35,6 +81,18 @@ public class InMemoryAnimalRepository implements AnimalRepository {
         return new ArrayList<>(animals.values());
     }
 
+    @Override
+    public List<Animal> findAllById(Collection<AnimalId> ids) {
+        List<Animal> found = new ArrayList<>(ids.size());
+        for (AnimalId id : ids) {
+            Animal animal = animals.get(id);
+            if (animal != null) {
+                found.add(animal);
+            }
+        }
+        return found;
+    }
+
     @Override
     public List<Animal> findBySpecies(Species species) {
         return animals.values().stream()
@@ -43,10 +101,10 @@ public class InMemoryAnimalRepository implements AnimalRepository {
     }
 
     @Override
-    public List<Animal> findByEnclosureId(String enclosureId) {
+    public List<Animal> findByEnclosureId(EnclosureId enclosureId) {
         return animals.values().stream()
                 .filter(animal -> animal.getCurrentEnclosure() != null &&
-                        animal.getCurrentEnclosure().getId().getValue().equals(enclosureId))
+                        animal.getCurrentEnclosure().getId().equals(enclosureId))
                 .collect(Collectors.toList());
     }
 
@@ -57,19 +115,65 @@ public class InMemoryAnimalRepository implements AnimalRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public long countBySpecies(Species species) {
+        return index.countBySpecies(species);
+    }
+
+    @Override
+    public boolean existsBySpecies(Species species) {
+        return index.countBySpecies(species) > 0;
+    }
+
+    @Override
+    public long countByEnclosureId(EnclosureId enclosureId) {
+        return index.countByEnclosureId(enclosureId);
+    }
+
+    @Override
+    public boolean existsByEnclosureId(EnclosureId enclosureId) {
+        return index.countByEnclosureId(enclosureId) > 0;
+    }
+
+    @Override
+    public long countSickAnimals() {
+        return index.countSick();
+    }
+
+    @Override
+    public boolean existsSickAnimals() {
+        return index.countSick() > 0;
+    }
+
     @Override
     public boolean deleteById(AnimalId id) {
-        return animals.remove(id.getValue()) != null;
+        return writeSequence.write(() -> {
+            Animal removed = animals.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            index.remove(id);
+            changeNotifier.notify(listener -> listener.onAnimalDeleted(removed));
+            return true;
+        });
     }
 
     @Override
     public void deleteAll() {
-        animals.clear();
+        writeSequence.write(() -> {
+            for (AnimalId id : new ArrayList<>(animals.keySet())) {
+                Animal removed = animals.remove(id);
+                if (removed != null) {
+                    index.remove(id);
+                    changeNotifier.notify(listener -> listener.onAnimalDeleted(removed));
+                }
+            }
+        });
     }
 
     @Override
     public boolean existsById(AnimalId id) {
-        return animals.containsKey(id.getValue());
+        return animals.containsKey(id);
     }
 
     @Override
@@ -1,33 +1,77 @@
 package com.zoo.hsezoorest.infrastructure.persistence.inmemory;
 
-
+import com.zoo.hsezoorest.application.exception.ConcurrentUpdateException;
 import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
 import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
 import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
 import com.zoo.hsezoorest.domain.repository.EnclosureRepository;
+import com.zoo.hsezoorest.infrastructure.persistence.EntityChangeNotifier;
+import com.zoo.hsezoorest.infrastructure.persistence.WriteSequence;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Repository
+@Timed(value = "zoo.repository", extraTags = {"repository", "enclosure"}, histogram = true)
 public class InMemoryEnclosureRepository implements EnclosureRepository {
 
-    private final Map<String, Enclosure> enclosures = new ConcurrentHashMap<>();
+    private final Map<EnclosureId, Enclosure> enclosures = new ConcurrentHashMap<>();
+    private final EnclosureIndex index = new EnclosureIndex();
+    private final EntityChangeNotifier changeNotifier;
+    private final WriteSequence writeSequence;
+
+    public InMemoryEnclosureRepository(EntityChangeNotifier changeNotifier, WriteSequence writeSequence) {
+        this.changeNotifier = changeNotifier;
+        this.writeSequence = writeSequence;
+    }
 
     @Override
     public Enclosure save(Enclosure enclosure) {
-        enclosures.put(enclosure.getId().getValue(), enclosure);
-        return enclosure;
+        return writeSequence.write(() -> {
+            Enclosure previous = enclosures.put(enclosure.getId(), enclosure);
+            index.put(enclosure);
+            changeNotifier.notify(listener -> listener.onEnclosureSaved(previous, enclosure));
+            return enclosure;
+        });
+    }
+
+    @Override
+    public Optional<Enclosure> update(EnclosureId id, Consumer<Enclosure> changes) {
+        return writeSequence.write(() -> {
+            Enclosure updated = enclosures.computeIfPresent(id, (key, enclosure) -> {
+                changes.accept(enclosure);
+                index.put(enclosure);
+                return enclosure;
+            });
+            if (updated == null) {
+                return Optional.empty();
+            }
+            changeNotifier.notify(listener -> listener.onEnclosureSaved(updated, updated));
+            return Optional.of(updated);
+        });
+    }
+
+    @Override
+    public Optional<Enclosure> update(EnclosureId id, long expectedVersion, Consumer<Enclosure> changes) {
+        return update(id, enclosure -> {
+            if (enclosure.getVersion() != expectedVersion) {
+                throw new ConcurrentUpdateException("Enclosure", id.getValue(), expectedVersion, enclosure.getVersion());
+            }
+            changes.accept(enclosure);
+        });
     }
 
     @Override
     public Optional<Enclosure> findById(EnclosureId id) {
-        return Optional.ofNullable(enclosures.get(id.getValue()));
+        return Optional.ofNullable(enclosures.get(id));
     }
 
     @Override
@@ -35,6 +79,18 @@ public class InMemoryEnclosureRepository implements EnclosureRepository {
         return new ArrayList<>(enclosures.values());
     }
 
+    @Override
+    public List<Enclosure> findAllById(Collection<EnclosureId> ids) {
+        List<Enclosure> found = new ArrayList<>(ids.size());
+        for (EnclosureId id : ids) {
+            Enclosure enclosure = enclosures.get(id);
+            if (enclosure != null) {
+                found.add(enclosure);
+            }
+        }
+        return found;
+    }
+
     @Override
     public List<Enclosure> findByType(EnclosureType type) {
         return enclosures.values().stream()
@@ -69,19 +125,67 @@ public class InMemoryEnclosureRepository implements EnclosureRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public long countByType(EnclosureType type) {
+        return index.countByType(type);
+    }
+
+    @Override
+    public boolean existsByType(EnclosureType type) {
+        return index.countByType(type) > 0;
+    }
+
+    @Override
+    public long countAvailableEnclosures() {
+        return index.countAvailable();
+    }
+
+    @Override
+    public boolean existsAvailableEnclosures() {
+        return index.countAvailable() > 0;
+    }
+
+    @Override
+    public long countSuitableForAnimalType(String animalType) {
+        EnclosureType dedicated = animalType.equalsIgnoreCase("predator") ?
+                EnclosureType.PREDATOR : EnclosureType.HERBIVORE;
+        return index.countAvailable(dedicated) + index.countAvailable(EnclosureType.MIXED);
+    }
+
+    @Override
+    public boolean existsSuitableForAnimalType(String animalType) {
+        return countSuitableForAnimalType(animalType) > 0;
+    }
+
     @Override
     public boolean deleteById(EnclosureId id) {
-        return enclosures.remove(id.getValue()) != null;
+        return writeSequence.write(() -> {
+            Enclosure removed = enclosures.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            index.remove(id);
+            changeNotifier.notify(listener -> listener.onEnclosureDeleted(removed));
+            return true;
+        });
     }
 
     @Override
     public void deleteAll() {
-        enclosures.clear();
+        writeSequence.write(() -> {
+            for (EnclosureId id : new ArrayList<>(enclosures.keySet())) {
+                Enclosure removed = enclosures.remove(id);
+                if (removed != null) {
+                    index.remove(id);
+                    changeNotifier.notify(listener -> listener.onEnclosureDeleted(removed));
+                }
+            }
+        });
     }
 
     @Override
     public boolean existsById(EnclosureId id) {
-        return enclosures.containsKey(id.getValue());
+        return enclosures.containsKey(id);
     }
 
     @Override
@@ -91,8 +195,16 @@ public class InMemoryEnclosureRepository implements EnclosureRepository {
 
     @Override
     public long countEmpty() {
-        return enclosures.values().stream()
-                .filter(enclosure -> enclosure.getCurrentAnimalCount() == 0)
-                .count();
+        return index.countEmpty();
+    }
+
+    @Override
+    public long totalCapacity() {
+        return index.totalCapacity();
+    }
+
+    @Override
+    public long usedCapacity() {
+        return index.usedCapacity();
     }
 }
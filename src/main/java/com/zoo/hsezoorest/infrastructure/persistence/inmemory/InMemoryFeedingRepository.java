@@ -1,35 +1,94 @@
 package com.zoo.hsezoorest.infrastructure.persistence.inmemory;
 
+import com.zoo.hsezoorest.application.exception.ConcurrentUpdateException;
 import com.zoo.hsezoorest.domain.model.animal.AnimalId;
 import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
 import com.zoo.hsezoorest.domain.model.feeding.Feeding;
 import com.zoo.hsezoorest.domain.model.feeding.FoodType;
 import com.zoo.hsezoorest.domain.repository.FeedingRepository;
+import com.zoo.hsezoorest.infrastructure.persistence.EntityChangeNotifier;
+import com.zoo.hsezoorest.infrastructure.persistence.WriteSequence;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Repository
+@Timed(value = "zoo.repository", extraTags = {"repository", "feeding"}, histogram = true)
 public class InMemoryFeedingRepository implements FeedingRepository {
 
-    private final Map<String, Feeding> feedingSchedules = new ConcurrentHashMap<>();
+    private final Map<FeedingId, Feeding> feedingSchedules = new ConcurrentHashMap<>();
+    private final FeedingIndex index = new FeedingIndex();
+    private final EntityChangeNotifier changeNotifier;
+    private final WriteSequence writeSequence;
+
+    public InMemoryFeedingRepository(EntityChangeNotifier changeNotifier, WriteSequence writeSequence) {
+        this.changeNotifier = changeNotifier;
+        this.writeSequence = writeSequence;
+    }
 
     @Override
     public Feeding save(Feeding feeding) {
-        feedingSchedules.put(feeding.getId().getValue(), feeding);
-        return feeding;
+        return writeSequence.write(() -> {
+            Feeding previous = feedingSchedules.put(feeding.getId(), feeding);
+            index.put(feeding);
+            changeNotifier.notify(listener -> listener.onFeedingSaved(previous, feeding));
+            return feeding;
+        });
+    }
+
+    @Override
+    public List<Feeding> saveAll(Collection<Feeding> feedings) {
+        return writeSequence.write(() -> {
+            List<Feeding> saved = new ArrayList<>(feedings);
+            for (Feeding feeding : saved) {
+                feedingSchedules.put(feeding.getId(), feeding);
+                index.put(feeding);
+            }
+            if (!saved.isEmpty()) {
+                changeNotifier.notify(listener -> listener.onFeedingsSaved(saved));
+            }
+            return saved;
+        });
+    }
+
+    @Override
+    public Optional<Feeding> update(FeedingId id, Consumer<Feeding> changes) {
+        return writeSequence.write(() -> {
+            Feeding updated = feedingSchedules.computeIfPresent(id, (key, feeding) -> {
+                changes.accept(feeding);
+                index.put(feeding);
+                return feeding;
+            });
+            if (updated == null) {
+                return Optional.empty();
+            }
+            changeNotifier.notify(listener -> listener.onFeedingSaved(updated, updated));
+            return Optional.of(updated);
+        });
+    }
+
+    @Override
+    public Optional<Feeding> update(FeedingId id, long expectedVersion, Consumer<Feeding> changes) {
+        return update(id, feeding -> {
+            checkVersion(feeding, expectedVersion);
+            changes.accept(feeding);
+        });
     }
 
     @Override
     public Optional<Feeding> findById(FeedingId id) {
-        return Optional.ofNullable(feedingSchedules.get(id.getValue()));
+        return Optional.ofNullable(feedingSchedules.get(id));
     }
 
     @Override
@@ -37,11 +96,30 @@ public class InMemoryFeedingRepository implements FeedingRepository {
         return new ArrayList<>(feedingSchedules.values());
     }
 
+    @Override
+    public List<Feeding> findAllById(Collection<FeedingId> ids) {
+        List<Feeding> found = new ArrayList<>(ids.size());
+        for (FeedingId id : ids) {
+            Feeding feeding = feedingSchedules.get(id);
+            if (feeding != null) {
+                found.add(feeding);
+            }
+        }
+        return found;
+    }
+
     @Override
     public List<Feeding> findByAnimalId(AnimalId animalId) {
-        return feedingSchedules.values().stream()
-                .filter(schedule -> schedule.getAnimal().getId().equals(animalId))
-                .collect(Collectors.toList());
+        return findAllById(index.idsByAnimalId(animalId));
+    }
+
+    @Override
+    public List<Feeding> findByAnimalIds(Collection<AnimalId> animalIds) {
+        List<Feeding> found = new ArrayList<>();
+        for (AnimalId animalId : animalIds) {
+            found.addAll(findByAnimalId(animalId));
+        }
+        return found;
     }
 
     @Override
@@ -77,34 +155,132 @@ public class InMemoryFeedingRepository implements FeedingRepository {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public long countByAnimalId(AnimalId animalId) {
+        return index.countByAnimalId(animalId);
+    }
+
+    @Override
+    public boolean existsByAnimalId(AnimalId animalId) {
+        return index.countByAnimalId(animalId) > 0;
+    }
+
+    @Override
+    public long countByTimeRange(LocalTime startTime, LocalTime endTime) {
+        return index.countByTimeRange(startTime, endTime);
+    }
+
+    @Override
+    public boolean existsByTimeRange(LocalTime startTime, LocalTime endTime) {
+        return index.existsByTimeRange(startTime, endTime);
+    }
+
+    @Override
+    public long countByFoodType(FoodType foodType) {
+        return index.countByFoodType(foodType);
+    }
+
+    @Override
+    public boolean existsByFoodType(FoodType foodType) {
+        return index.countByFoodType(foodType) > 0;
+    }
+
+    @Override
+    public long countPending(LocalTime currentTime) {
+        return index.countPending(currentTime);
+    }
+
+    @Override
+    public boolean existsPending(LocalTime currentTime) {
+        return index.existsPending(currentTime);
+    }
+
+    @Override
+    public long countCompletedOnDate(LocalDate date) {
+        return index.countCompletedOnDate(date);
+    }
+
+    @Override
+    public boolean existsCompletedOnDate(LocalDate date) {
+        return index.countCompletedOnDate(date) > 0;
+    }
+
     @Override
     public boolean deleteById(FeedingId id) {
-        return feedingSchedules.remove(id.getValue()) != null;
+        return writeSequence.write(() -> {
+            Feeding removed = feedingSchedules.remove(id);
+            if (removed == null) {
+                return false;
+            }
+            index.remove(id);
+            changeNotifier.notify(listener -> listener.onFeedingDeleted(removed));
+            return true;
+        });
+    }
+
+    @Override
+    public boolean deleteById(FeedingId id, long expectedVersion) {
+        return writeSequence.write(() -> {
+            AtomicReference<Feeding> removed = new AtomicReference<>();
+            feedingSchedules.computeIfPresent(id, (key, feeding) -> {
+                checkVersion(feeding, expectedVersion);
+                index.remove(id);
+                removed.set(feeding);
+                return null;
+            });
+            if (removed.get() == null) {
+                return false;
+            }
+            changeNotifier.notify(listener -> listener.onFeedingDeleted(removed.get()));
+            return true;
+        });
     }
 
     @Override
     public int deleteByAnimalId(AnimalId animalId) {
-        List<String> schedulesToRemove = feedingSchedules.values().stream()
-                .filter(schedule -> schedule.getAnimal().getId().equals(animalId))
-                .map(schedule -> schedule.getId().getValue())
-                .collect(Collectors.toList());
+        return writeSequence.write(() -> {
+            List<FeedingId> schedulesToRemove = new ArrayList<>(index.idsByAnimalId(animalId));
 
-        schedulesToRemove.forEach(feedingSchedules::remove);
-        return schedulesToRemove.size();
+            int removedCount = 0;
+            for (FeedingId id : schedulesToRemove) {
+                Feeding removed = feedingSchedules.remove(id);
+                if (removed != null) {
+                    index.remove(id);
+                    removedCount++;
+                    changeNotifier.notify(listener -> listener.onFeedingDeleted(removed));
+                }
+            }
+            return removedCount;
+        });
     }
 
     @Override
     public void deleteAll() {
-        feedingSchedules.clear();
+        writeSequence.write(() -> {
+            for (FeedingId id : new ArrayList<>(feedingSchedules.keySet())) {
+                Feeding removed = feedingSchedules.remove(id);
+                if (removed != null) {
+                    index.remove(id);
+                    changeNotifier.notify(listener -> listener.onFeedingDeleted(removed));
+                }
+            }
+        });
     }
 
     @Override
     public boolean existsById(FeedingId id) {
-        return feedingSchedules.containsKey(id.getValue());
+        return feedingSchedules.containsKey(id);
     }
 
     @Override
     public long count() {
         return feedingSchedules.size();
     }
+
+    private static void checkVersion(Feeding feeding, long expectedVersion) {
+        if (feeding.getVersion() != expectedVersion) {
+            throw new ConcurrentUpdateException("Feeding schedule", feeding.getId().getValue(),
+                    expectedVersion, feeding.getVersion());
+        }
+    }
 }
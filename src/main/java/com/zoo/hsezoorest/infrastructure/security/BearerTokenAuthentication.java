@@ -0,0 +1,31 @@
+package com.zoo.hsezoorest.infrastructure.security;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+
+import java.util.Collections;
+
+// Kept apart from password logins so that endpoints such as token issuance can refuse it
+public class BearerTokenAuthentication extends AbstractAuthenticationToken {
+
+    private final VerifiedToken token;
+
+    public BearerTokenAuthentication(VerifiedToken token) {
+        super(Collections.emptyList());
+        this.token = token;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return token.getUsername();
+    }
+
+    public VerifiedToken getToken() {
+        return token;
+    }
+}
@@ -1,11 +1,27 @@
 package com.zoo.hsezoorest.infrastructure.security;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
@@ -22,19 +38,66 @@ public class SecurityConfig {
             "/v3/api-docs/**"
     };
 
+    private static final String TOKEN_PATH = "/api/auth/token";
+
+    @Bean
+    @Order(1)
+    @ConditionalOnProperty(name = "zoo.security.fast-lane.enabled", havingValue = "true")
+    public SecurityFilterChain fastLaneFilterChain(HttpSecurity http,
+                                                   @Value("${zoo.security.fast-lane.paths}") String[] paths) throws Exception {
+        // Read-only health and metrics routes: no authentication, no authorization, no session
+        http
+                .securityMatcher(new OrRequestMatcher(Arrays.stream(paths)
+                        .map(path -> (RequestMatcher) AntPathRequestMatcher.antMatcher(HttpMethod.GET, path))
+                        .toList()))
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(AbstractHttpConfigurer::disable)
+                .securityContext(AbstractHttpConfigurer::disable)
+                .anonymous(AbstractHttpConfigurer::disable)
+                .servletApi(AbstractHttpConfigurer::disable)
+                .logout(AbstractHttpConfigurer::disable)
+                .headers(AbstractHttpConfigurer::disable)
+                .csrf(AbstractHttpConfigurer::disable);
+        return http.build();
+    }
+
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @Order(2)
+    public SecurityFilterChain filterChain(HttpSecurity http, TokenService tokenService,
+                                           @Value("${zoo.security.stateless:true}") boolean stateless) throws Exception {
         http
+                .addFilterBefore(new BearerTokenAuthenticationFilter(tokenService), BasicAuthenticationFilter.class)
                 .authorizeHttpRequests(authorize -> authorize
                         
                         .requestMatchers(SWAGGER_WHITELIST).permitAll()
-                
+                        // A token must not be able to renew itself, or expiry would never take effect
+                        .requestMatchers(AntPathRequestMatcher.antMatcher(HttpMethod.POST, TOKEN_PATH))
+                        .access(SecurityConfig::authenticatedWithPassword)
+
                         .anyRequest().authenticated()
                 )
              
                 .httpBasic(withDefaults())
               
                 .csrf(AbstractHttpConfigurer::disable);
+
+        if (stateless) {
+            // The API never reads the session, so skip saving contexts and requests into it
+            http
+                    .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                    .requestCache(AbstractHttpConfigurer::disable)
+                    .anonymous(AbstractHttpConfigurer::disable)
+                    .logout(AbstractHttpConfigurer::disable);
+        }
         return http.build();
     }
-} 
\ No newline at end of file
+
+    private static AuthorizationDecision authenticatedWithPassword(Supplier<Authentication> authentication,
+                                                                   RequestAuthorizationContext context) {
+        Authentication current = authentication.get();
+        return new AuthorizationDecision(current != null
+                && current.isAuthenticated()
+                && !(current instanceof AnonymousAuthenticationToken)
+                && !(current instanceof BearerTokenAuthentication));
+    }
+}
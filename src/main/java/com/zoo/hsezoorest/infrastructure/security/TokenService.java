@@ -0,0 +1,127 @@
+package com.zoo.hsezoorest.infrastructure.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Issues and verifies HMAC-SHA256 signed bearer tokens of the form
+ * {@code base64url(username:expiryEpochSeconds).base64url(signature)}.
+ */
+@Slf4j
+@Component
+public class TokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final Duration timeToLive;
+    private final ThreadLocal<Mac> macs;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public TokenService(@Value("${zoo.security.token.secret:}") String secret,
+                        @Value("${zoo.security.token.time-to-live:1h}") Duration timeToLive,
+                        @Value("${zoo.security.token.cache-size:10000}") long cacheSize) {
+        byte[] keyBytes;
+        if (secret.isBlank()) {
+            log.warn("zoo.security.token.secret is not set, tokens will not survive a restart");
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+        this.timeToLive = timeToLive;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    public String issue(String username, Instant now) {
+        Instant expiresAt = now.plus(timeToLive);
+        byte[] payload = (username + ":" + expiresAt.getEpochSecond()).getBytes(StandardCharsets.UTF_8);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(sign(payload));
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public Optional<VerifiedToken> verify(String token, Instant now) {
+        VerifiedToken cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            return cached.isExpired(now) ? Optional.empty() : Optional.of(cached);
+        }
+
+        VerifiedToken verified = decode(token);
+        if (verified == null || verified.isExpired(now)) {
+            return Optional.empty();
+        }
+        verifiedTokens.put(token, verified);
+        return Optional.of(verified);
+    }
+
+    private VerifiedToken decode(String token) {
+        int separator = token.indexOf('.');
+        if (separator <= 0 || separator != token.lastIndexOf('.')) {
+            return null;
+        }
+
+        byte[] payload;
+        byte[] signature;
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            payload = decoder.decode(token.substring(0, separator));
+            signature = decoder.decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        if (!MessageDigest.isEqual(sign(payload), signature)) {
+            return null;
+        }
+
+        String claims = new String(payload, StandardCharsets.UTF_8);
+        int colon = claims.lastIndexOf(':');
+        if (colon <= 0) {
+            return null;
+        }
+        try {
+            long expiry = Long.parseLong(claims.substring(colon + 1));
+            return new VerifiedToken(claims.substring(0, colon), Instant.ofEpochSecond(expiry));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        return macs.get().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.zoo.hsezoorest.infrastructure.security;
+
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+public class VerifiedToken {
+    private final String username;
+    private final Instant expiresAt;
+
+    VerifiedToken(String username, Instant expiresAt) {
+        this.username = username;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,36 @@
+package com.zoo.hsezoorest.infrastructure.tracing;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class RequestLatencyRecorder {
+
+    private final Map<RouteKey, RouteLatency> routes = new ConcurrentHashMap<>();
+
+    public void record(String method, String route, int status, RequestTrace trace, long totalNanos) {
+        routes.computeIfAbsent(new RouteKey(method, route, status),
+                        key -> new RouteLatency(key.method(), key.route(), key.status()))
+                .record(trace, totalNanos);
+    }
+
+    public List<RouteLatency> getRoutes() {
+        List<RouteLatency> result = new ArrayList<>(routes.values());
+        result.sort(Comparator.comparing(RouteLatency::getRoute)
+                .thenComparing(RouteLatency::getMethod)
+                .thenComparingInt(RouteLatency::getStatus));
+        return result;
+    }
+
+    public void reset() {
+        routes.clear();
+    }
+
+    private record RouteKey(String method, String route, int status) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.zoo.hsezoorest.infrastructure.tracing;
+
+import lombok.Getter;
+
+@Getter
+public enum RequestPhase {
+    SECURITY("security"),
+    CONTROLLER("controller"),
+    SERVICE("service"),
+    REPOSITORY("repository"),
+    SERIALIZATION("serialization");
+
+    private final String name;
+
+    RequestPhase(String name) {
+        this.name = name;
+    }
+}
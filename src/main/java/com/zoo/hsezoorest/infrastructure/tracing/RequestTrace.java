@@ -0,0 +1,75 @@
+package com.zoo.hsezoorest.infrastructure.tracing;
+
+import java.util.Arrays;
+
+/**
+ * Per-request phase clock bound to the handling thread. Time is charged exclusively: while a
+ * nested phase runs (a repository call inside a service), the enclosing phase is paused.
+ */
+public final class RequestTrace {
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos;
+    private final long[] phaseNanos = new long[RequestPhase.values().length];
+    private RequestPhase[] stack = new RequestPhase[8];
+    private int depth;
+    private RequestPhase current;
+    private long segmentStart;
+
+    private RequestTrace(RequestPhase initial) {
+        this.startNanos = System.nanoTime();
+        this.segmentStart = startNanos;
+        this.current = initial;
+    }
+
+    public static RequestTrace start(RequestPhase initial) {
+        RequestTrace trace = new RequestTrace(initial);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public void switchTo(RequestPhase phase) {
+        charge(System.nanoTime());
+        depth = 0;
+        current = phase;
+    }
+
+    public void enter(RequestPhase phase) {
+        charge(System.nanoTime());
+        if (depth == stack.length) {
+            stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = current;
+        current = phase;
+    }
+
+    public void exit() {
+        charge(System.nanoTime());
+        if (depth > 0) {
+            current = stack[--depth];
+        }
+    }
+
+    public long finish() {
+        long now = System.nanoTime();
+        charge(now);
+        return now - startNanos;
+    }
+
+    public long getPhaseNanos(RequestPhase phase) {
+        return phaseNanos[phase.ordinal()];
+    }
+
+    private void charge(long now) {
+        phaseNanos[current.ordinal()] += now - segmentStart;
+        segmentStart = now;
+    }
+}
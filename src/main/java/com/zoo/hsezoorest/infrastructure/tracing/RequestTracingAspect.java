@@ -0,0 +1,35 @@
+package com.zoo.hsezoorest.infrastructure.tracing;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class RequestTracingAspect {
+
+    @Around("within(com.zoo.hsezoorest.application.service..*)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, RequestPhase.SERVICE);
+    }
+
+    @Around("within(com.zoo.hsezoorest.infrastructure.persistence.inmemory..*)")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, RequestPhase.REPOSITORY);
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, RequestPhase phase) throws Throwable {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) {
+            return joinPoint.proceed();
+        }
+
+        trace.enter(phase);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            trace.exit();
+        }
+    }
+}
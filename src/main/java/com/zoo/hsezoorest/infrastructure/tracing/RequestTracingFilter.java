@@ -0,0 +1,42 @@
+package com.zoo.hsezoorest.infrastructure.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+// Runs ahead of the security filter chain so that authentication is part of the measurement
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTracingFilter extends OncePerRequestFilter {
+
+    private static final String UNMAPPED_ROUTE = "unmapped";
+
+    private final RequestLatencyRecorder recorder;
+
+    public RequestTracingFilter(RequestLatencyRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTrace trace = RequestTrace.start(RequestPhase.SECURITY);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            long totalNanos = trace.finish();
+            RequestTrace.clear();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            recorder.record(request.getMethod(), pattern != null ? pattern.toString() : UNMAPPED_ROUTE,
+                    response.getStatus(), trace, totalNanos);
+        }
+    }
+}
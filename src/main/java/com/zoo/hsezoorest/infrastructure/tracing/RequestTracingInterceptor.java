@@ -0,0 +1,19 @@
+package com.zoo.hsezoorest.infrastructure.tracing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@Component
+public class RequestTracingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.switchTo(RequestPhase.CONTROLLER);
+        }
+        return true;
+    }
+}
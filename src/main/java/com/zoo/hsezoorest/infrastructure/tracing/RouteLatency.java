@@ -0,0 +1,46 @@
+package com.zoo.hsezoorest.infrastructure.tracing;
+
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Getter
+public class RouteLatency {
+    // Microsecond resolution, up to one minute, two significant digits
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final String method;
+    private final String route;
+    private final int status;
+    private final Histogram total = newHistogram();
+    private final Map<RequestPhase, Histogram> phases = new EnumMap<>(RequestPhase.class);
+
+    RouteLatency(String method, String route, int status) {
+        this.method = method;
+        this.route = route;
+        this.status = status;
+        for (RequestPhase phase : RequestPhase.values()) {
+            phases.put(phase, newHistogram());
+        }
+    }
+
+    void record(RequestTrace trace, long totalNanos) {
+        total.recordValue(toMicros(totalNanos));
+        for (RequestPhase phase : RequestPhase.values()) {
+            phases.get(phase).recordValue(toMicros(trace.getPhaseNanos(phase)));
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+}
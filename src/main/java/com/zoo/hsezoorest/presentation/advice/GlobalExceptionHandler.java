@@ -1,7 +1,12 @@
 package com.zoo.hsezoorest.presentation.advice;
 
+import com.zoo.hsezoorest.application.exception.ConcurrentUpdateException;
+import com.zoo.hsezoorest.application.exception.DomainError;
+import com.zoo.hsezoorest.infrastructure.logging.LogRateLimiter;
+import com.zoo.hsezoorest.presentation.etag.PreconditionFailedException;
 import com.zoo.hsezoorest.presentation.response.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -11,12 +16,21 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
+
+    // Client errors are routine (probed ids, rejected transfers), so each kind is logged at most once per interval
+    private final LogRateLimiter clientErrorLog;
+
+    public GlobalExceptionHandler(@Value("${zoo.logging.client-error-interval:10s}") Duration clientErrorInterval) {
+        this.clientErrorLog = new LogRateLimiter(clientErrorInterval);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ApiResponse<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
@@ -27,7 +41,10 @@ public class GlobalExceptionHandler {
             errors.put(fieldName, errorMessage);
         });
 
-        log.error("Validation error: {}", errors);
+        long suppressed = clientErrorLog.tryAcquire(MethodArgumentNotValidException.class);
+        if (suppressed >= 0) {
+            log.warn("Validation error: {}{}", errors, suppressedSuffix(suppressed));
+        }
         ApiResponse<Map<String, String>> error = ApiResponse.error("Validation failed");
         error.setData(errors);
         return error;
@@ -36,17 +53,29 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(EntityNotFoundException.class)
     @ResponseStatus(HttpStatus.NOT_FOUND)
     public ApiResponse<Object> handleEntityNotFound(EntityNotFoundException ex) {
-        log.error("Entity not found: {}", ex.getMessage());
-        return ApiResponse.error(ex.getMessage());
+        return clientError("Entity not found", ex);
+    }
+
+    @ExceptionHandler(ConcurrentUpdateException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ApiResponse<Object> handleConcurrentUpdate(ConcurrentUpdateException ex) {
+        return clientError("Concurrent modification", ex);
     }
 
     @ExceptionHandler(IllegalArgumentException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ApiResponse<Object> handleIllegalArgument(IllegalArgumentException ex) {
-        log.error("Invalid request: {}", ex.getMessage());
+        return clientError("Invalid request", ex);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    public ApiResponse<Object> handlePreconditionFailed(PreconditionFailedException ex) {
+        log.warn("Precondition failed: {}", ex.getMessage());
         return ApiResponse.error(ex.getMessage());
     }
 
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Object>> handleGeneralException(Exception ex) {
         log.error("Unexpected error occurred", ex);
@@ -55,6 +84,27 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    private ApiResponse<Object> clientError(String summary, RuntimeException ex) {
+        String message = ex.getMessage();
+        if (ex instanceof DomainError error) {
+            long suppressed = clientErrorLog.tryAcquire(error.getErrorCode());
+            if (suppressed >= 0) {
+                log.warn("{} [{}]: {}{}", summary, error.getErrorCode(), message, suppressedSuffix(suppressed));
+            }
+            return ApiResponse.error(error.getErrorCode().name(), message);
+        }
+
+        long suppressed = clientErrorLog.tryAcquire(ex.getClass());
+        if (suppressed >= 0) {
+            log.warn("{}: {}{}", summary, message, suppressedSuffix(suppressed));
+        }
+        return ApiResponse.error(message);
+    }
+
+    private static String suppressedSuffix(long suppressed) {
+        return suppressed > 0 ? " (" + suppressed + " similar suppressed)" : "";
+    }
+
     private static <T> ApiResponse<T> setData(ApiResponse<T> response, T data) {
         response.setData(data);
         return response;
@@ -0,0 +1,73 @@
+package com.zoo.hsezoorest.presentation.advice;
+
+import com.zoo.hsezoorest.presentation.response.ApiResponse;
+import com.zoo.hsezoorest.presentation.response.TimestampSerializer;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Clients that accept {@value #LEAN_JSON_VALUE} get the bare payload, with the envelope
+ * fields moved into {@code X-Api-*} headers.
+ */
+@RestControllerAdvice
+public class LeanResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String LEAN_JSON_VALUE = "application/vnd.zoo.lean+json";
+    public static final MediaType LEAN_JSON = MediaType.parseMediaType(LEAN_JSON_VALUE);
+
+    static final String SUCCESS_HEADER = "X-Api-Success";
+    static final String MESSAGE_HEADER = "X-Api-Message";
+    static final String ERROR_CODE_HEADER = "X-Api-Error-Code";
+    static final String TIMESTAMP_HEADER = "X-Api-Timestamp";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof ApiResponse<?> envelope) || !LEAN_JSON.equalsTypeAndSubtype(selectedContentType)) {
+            return body;
+        }
+
+        HttpHeaders headers = response.getHeaders();
+        headers.set(SUCCESS_HEADER, Boolean.toString(envelope.isSuccess()));
+        if (envelope.getMessage() != null) {
+            headers.set(MESSAGE_HEADER, toHeaderValue(envelope.getMessage()));
+        }
+        if (envelope.getErrorCode() != null) {
+            headers.set(ERROR_CODE_HEADER, envelope.getErrorCode());
+        }
+        if (envelope.getTimestamp() != null) {
+            headers.set(TIMESTAMP_HEADER, TimestampSerializer.format(envelope.getTimestamp()));
+        }
+        if (envelope.getData() == null) {
+            // Nothing will be written, so the headers have to be pushed out here
+            try {
+                response.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return envelope.getData();
+    }
+
+    // Error messages may echo request input, which must not be able to break out of the header
+    private static String toHeaderValue(String message) {
+        return message.indexOf('\r') < 0 && message.indexOf('\n') < 0
+                ? message
+                : message.replace('\r', ' ').replace('\n', ' ');
+    }
+}
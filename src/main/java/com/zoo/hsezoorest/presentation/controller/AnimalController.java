@@ -1,5 +1,6 @@
 package com.zoo.hsezoorest.presentation.controller;
 
+import com.zoo.hsezoorest.application.exception.AnimalNotFoundException;
 import com.zoo.hsezoorest.application.service.AnimalTransferService;
 import com.zoo.hsezoorest.domain.model.animal.Animal;
 import com.zoo.hsezoorest.domain.model.animal.AnimalId;
@@ -7,21 +8,29 @@ import com.zoo.hsezoorest.domain.model.animal.FavoriteFood;
 import com.zoo.hsezoorest.domain.model.animal.Species;
 import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
 import com.zoo.hsezoorest.domain.repository.AnimalRepository;
+import com.zoo.hsezoorest.presentation.etag.EntityTags;
+import com.zoo.hsezoorest.presentation.mapper.AnimalResponseMapper;
+import com.zoo.hsezoorest.presentation.etag.PreconditionFailedException;
 import com.zoo.hsezoorest.presentation.request.AnimalRequest;
 import com.zoo.hsezoorest.presentation.request.AnimalTransferRequest;
+import com.zoo.hsezoorest.presentation.request.IdsRequest;
 import com.zoo.hsezoorest.presentation.response.AnimalResponse;
 import com.zoo.hsezoorest.presentation.response.ApiResponse;
+import com.zoo.hsezoorest.presentation.response.LookupResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import javax.persistence.EntityNotFoundException;
-import javax.validation.Valid;
+import jakarta.validation.Valid;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 @Slf4j
 @RestController
@@ -32,26 +41,57 @@ public class AnimalController {
 
     private final AnimalRepository animalRepository;
     private final AnimalTransferService animalTransferService;
+    private final AnimalResponseMapper animalResponseMapper;
 
     @GetMapping
     @Operation(summary = "Get all animals", description = "Retrieves a list of all animals in the zoo")
-    public ApiResponse<List<AnimalResponse>> getAllAnimals() {
+    public ApiResponse<List<AnimalResponse>> getAllAnimals(WebRequest webRequest) {
         log.info("Getting all animals");
-        List<AnimalResponse> animals = animalRepository.findAll().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<Animal> animals = animalRepository.findAll();
+        if (webRequest.checkNotModified(EntityTags.forAnimals(animals))) {
+            return null;
+        }
+
+        return ApiResponse.success(animalResponseMapper.toResponses(animals));
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get animals by IDs",
+            description = "Retrieves several animals at once, in request order, reporting IDs that were not found")
+    public ApiResponse<LookupResponse<AnimalResponse>> getAnimalsByIds(@RequestParam List<String> ids, WebRequest webRequest) {
+        log.info("Getting {} animals by ID", ids.size());
+        Set<AnimalId> requestedIds = IdsRequest.parse(ids, AnimalId::of);
+        List<Animal> found = animalRepository.findAllById(requestedIds);
+        if (webRequest.checkNotModified(EntityTags.forAnimals(found))) {
+            return null;
+        }
 
-        return ApiResponse.success(animals);
+        return ApiResponse.success(LookupResponse.of(requestedIds, found, Animal::getId, animalResponseMapper::toResponses));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Look up animals by IDs",
+            description = "Retrieves several animals at once, for ID lists too long for a query string")
+    public ApiResponse<LookupResponse<AnimalResponse>> lookupAnimals(@Valid @RequestBody IdsRequest request) {
+        log.info("Looking up {} animals by ID", request.getIds().size());
+        Set<AnimalId> requestedIds = IdsRequest.parse(request.getIds(), AnimalId::of);
+        List<Animal> found = animalRepository.findAllById(requestedIds);
+
+        return ApiResponse.success(LookupResponse.of(requestedIds, found, Animal::getId, animalResponseMapper::toResponses));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get animal by ID", description = "Retrieves a specific animal by its ID")
-    public ApiResponse<AnimalResponse> getAnimalById(@PathVariable String id) {
+    public ApiResponse<AnimalResponse> getAnimalById(@PathVariable String id, WebRequest webRequest) {
         log.info("Getting animal with ID: {}", id);
         Animal animal = animalRepository.findById(AnimalId.of(id))
-                .orElseThrow(() -> new EntityNotFoundException("Animal not found with ID: " + id));
+                .orElseThrow(() -> new AnimalNotFoundException(id));
 
-        return ApiResponse.success(convertToResponse(animal));
+        if (webRequest.checkNotModified(EntityTags.forAnimal(animal))) {
+            return null;
+        }
+
+        return ApiResponse.success(animalResponseMapper.toResponse(animal));
     }
 
     @PostMapping
@@ -84,7 +124,7 @@ public class AnimalController {
 
         return ApiResponse.success(
                 "Animal created successfully",
-                convertToResponse(savedAnimal)
+                animalResponseMapper.toResponse(savedAnimal)
         );
     }
 
@@ -92,46 +132,35 @@ public class AnimalController {
     @Operation(summary = "Update an animal", description = "Updates an existing animal's information")
     public ApiResponse<AnimalResponse> updateAnimal(
             @PathVariable String id,
-            @Valid @RequestBody AnimalRequest request) {
+            @Valid @RequestBody AnimalRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            HttpServletResponse response) {
         log.info("Updating animal with ID: {}", id);
 
         Animal animal = animalRepository.findById(AnimalId.of(id))
-                .orElseThrow(() -> new EntityNotFoundException("Animal not found with ID: " + id));
+                .orElseThrow(() -> new AnimalNotFoundException(id));
+        long loadedVersion = animal.getVersion();
+
+        String currentTag = EntityTags.forAnimal(animal);
+        if (!EntityTags.matches(ifMatch, currentTag)) {
+            throw new PreconditionFailedException("Animal has been modified since it was last retrieved: " + id);
+        }
+        long expectedVersion = EntityTags.matchedVersion(ifMatch, currentTag).orElse(loadedVersion);
 
         Species species = request.isPredator() ?
                 Species.predator(request.getSpecies()) :
                 Species.herbivore(request.getSpecies());
 
-        Animal updatedAnimal = new Animal(
-                animal.getId(),
-                species,
-                request.getName(),
-                request.getBirthDate(),
-                request.getGender(),
-                FavoriteFood.of(request.getFavoriteFood())
-        );
-
-        if (animal.getHealthStatus() != null) {
-            if (animal.getHealthStatus().equals(updatedAnimal.getHealthStatus())) {
-            } else if (animal.getHealthStatus().getDisplayName().equals("SICK")) {
-                updatedAnimal.markAsSick();
-            }
-        }
-
-        Animal savedAnimal = animalRepository.save(updatedAnimal);
-
-        if (request.getEnclosureId() != null &&
-                (animal.getCurrentEnclosure() == null ||
-                        !animal.getCurrentEnclosure().getId().getValue().equals(request.getEnclosureId()))) {
-
-            EnclosureId enclosureId = EnclosureId.of(request.getEnclosureId());
-            animalTransferService.transferAnimal(animal.getId(), enclosureId, "Update requested");
-            savedAnimal = animalRepository.findById(animal.getId()).orElseThrow();
-        }
+        EnclosureId enclosureId = request.getEnclosureId() != null && !request.getEnclosureId().isEmpty() ?
+                EnclosureId.of(request.getEnclosureId()) : null;
+        Animal savedAnimal = animalTransferService.updateAnimal(animal.getId(), expectedVersion, species,
+                request.getName(), request.getBirthDate(), request.getGender(),
+                FavoriteFood.of(request.getFavoriteFood()), enclosureId);
 
+        response.setHeader(HttpHeaders.ETAG, EntityTags.forAnimal(savedAnimal));
         return ApiResponse.success(
                 "Animal updated successfully",
-                convertToResponse(savedAnimal)
+                animalResponseMapper.toResponse(savedAnimal)
         );
     }
 
@@ -141,7 +170,7 @@ public class AnimalController {
         log.info("Deleting animal with ID: {}", id);
 
         if (!animalRepository.existsById(AnimalId.of(id))) {
-            throw new EntityNotFoundException("Animal not found with ID: " + id);
+            throw new AnimalNotFoundException(id);
         }
 
         animalRepository.deleteById(AnimalId.of(id));
@@ -153,17 +182,15 @@ public class AnimalController {
     public ApiResponse<AnimalResponse> healAnimal(@PathVariable String id) {
         log.info("Healing animal with ID: {}", id);
 
-        Animal animal = animalRepository.findById(AnimalId.of(id))
-                .orElseThrow(() -> new EntityNotFoundException("Animal not found with ID: " + id));
+        AtomicBoolean wasHealed = new AtomicBoolean();
+        Animal animal = animalRepository.update(AnimalId.of(id), current -> wasHealed.set(current.heal()))
+                .orElseThrow(() -> new AnimalNotFoundException(id));
 
-        boolean wasHealed = animal.heal();
-        animalRepository.save(animal);
-
-        String message = wasHealed ?
+        String message = wasHealed.get() ?
                 "Animal has been healed successfully" :
                 "Animal was already healthy";
 
-        return ApiResponse.success(message, convertToResponse(animal));
+        return ApiResponse.success(message, animalResponseMapper.toResponse(animal));
     }
 
     @PostMapping("/{id}/mark-sick")
@@ -171,15 +198,12 @@ public class AnimalController {
     public ApiResponse<AnimalResponse> markAsSick(@PathVariable String id) {
         log.info("Marking animal with ID: {} as sick", id);
 
-        Animal animal = animalRepository.findById(AnimalId.of(id))
-                .orElseThrow(() -> new EntityNotFoundException("Animal not found with ID: " + id));
-
-        animal.markAsSick();
-        animalRepository.save(animal);
+        Animal animal = animalRepository.update(AnimalId.of(id), Animal::markAsSick)
+                .orElseThrow(() -> new AnimalNotFoundException(id));
 
         return ApiResponse.success(
                 "Animal has been marked as sick",
-                convertToResponse(animal)
+                animalResponseMapper.toResponse(animal)
         );
     }
 
@@ -200,30 +224,7 @@ public class AnimalController {
 
         return ApiResponse.success(
                 "Animal transferred successfully",
-                convertToResponse(animal)
+                animalResponseMapper.toResponse(animal)
         );
     }
-
-    private AnimalResponse convertToResponse(Animal animal) {
-        AnimalResponse.EnclosureInfo enclosureInfo = null;
-
-        if (animal.getCurrentEnclosure() != null) {
-            enclosureInfo = AnimalResponse.EnclosureInfo.builder()
-                    .id(animal.getCurrentEnclosure().getId().getValue())
-                    .type(animal.getCurrentEnclosure().getType().getDisplayName())
-                    .build();
-        }
-
-        return AnimalResponse.builder()
-                .id(animal.getId().getValue())
-                .name(animal.getName())
-                .species(animal.getSpecies().getValue())
-                .isPredator(animal.getSpecies().isPredator())
-                .birthDate(animal.getBirthDate())
-                .gender(animal.getGender())
-                .favoriteFood(animal.getFavoriteFood().getValue())
-                .healthStatus(animal.getHealthStatus())
-                .currentEnclosure(enclosureInfo)
-                .build();
-    }
 }
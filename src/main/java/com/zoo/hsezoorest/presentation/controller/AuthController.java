@@ -0,0 +1,42 @@
+package com.zoo.hsezoorest.presentation.controller;
+
+import com.zoo.hsezoorest.infrastructure.security.TokenService;
+import com.zoo.hsezoorest.presentation.response.ApiResponse;
+import com.zoo.hsezoorest.presentation.response.TokenResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+@Tag(name = "Authentication", description = "APIs for exchanging credentials for bearer tokens")
+public class AuthController {
+
+    private final TokenService tokenService;
+
+    @PostMapping("/token")
+    @Operation(summary = "Issue a bearer token",
+            description = "Exchanges the current credentials for a signed token accepted as 'Authorization: Bearer <token>'")
+    public ApiResponse<TokenResponse> issueToken(Authentication authentication) {
+        log.info("Issuing bearer token for {}", authentication.getName());
+
+        Instant now = Instant.now();
+        String token = tokenService.issue(authentication.getName(), now);
+
+        return ApiResponse.success(TokenResponse.builder()
+                .accessToken(token)
+                .tokenType("Bearer")
+                .expiresIn(tokenService.getTimeToLive().toSeconds())
+                .expiresAt(now.plus(tokenService.getTimeToLive()))
+                .build());
+    }
+}
@@ -0,0 +1,60 @@
+package com.zoo.hsezoorest.presentation.controller;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.zoo.hsezoorest.infrastructure.cache.CacheRegion;
+import com.zoo.hsezoorest.infrastructure.cache.QueryCache;
+import com.zoo.hsezoorest.presentation.response.ApiResponse;
+import com.zoo.hsezoorest.presentation.response.CacheStatisticsResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+@Tag(name = "Cache Management", description = "APIs for inspecting the read endpoint cache")
+public class CacheController {
+
+    private final QueryCache queryCache;
+
+    @GetMapping("/statistics")
+    @Operation(summary = "Get cache statistics",
+            description = "Retrieves hit rate, size and eviction counters for every cache region")
+    public ApiResponse<List<CacheStatisticsResponse>> getCacheStatistics() {
+        log.info("Getting cache statistics");
+
+        List<CacheStatisticsResponse> statistics = new ArrayList<>();
+        for (Map.Entry<CacheRegion, CacheStats> entry : queryCache.getStats().entrySet()) {
+            CacheStats stats = entry.getValue();
+            statistics.add(CacheStatisticsResponse.builder()
+                    .region(entry.getKey().getName())
+                    .size(queryCache.size(entry.getKey()))
+                    .hitCount(stats.hitCount())
+                    .missCount(stats.missCount())
+                    .hitRate(stats.hitRate())
+                    .evictionCount(stats.evictionCount())
+                    .averageLoadPenaltyMillis(stats.averageLoadPenalty() / 1_000_000.0)
+                    .build());
+        }
+
+        return ApiResponse.success(statistics);
+    }
+
+    @DeleteMapping
+    @Operation(summary = "Clear cache", description = "Drops every cached entry")
+    public ApiResponse<Void> clearCache() {
+        log.info("Clearing all cache regions");
+        queryCache.invalidateAll();
+        return ApiResponse.success("Cache cleared successfully", null);
+    }
+}
@@ -0,0 +1,85 @@
+package com.zoo.hsezoorest.presentation.controller;
+
+import com.zoo.hsezoorest.infrastructure.tracing.RequestLatencyRecorder;
+import com.zoo.hsezoorest.infrastructure.tracing.RequestPhase;
+import com.zoo.hsezoorest.infrastructure.tracing.RouteLatency;
+import com.zoo.hsezoorest.presentation.response.ApiResponse;
+import com.zoo.hsezoorest.presentation.response.RouteLatencyResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/diagnostics")
+@RequiredArgsConstructor
+@Tag(name = "Diagnostics", description = "APIs for inspecting request latency")
+public class DiagnosticsController {
+
+    private final RequestLatencyRecorder latencyRecorder;
+
+    @GetMapping("/latency")
+    @Operation(summary = "Get request latency percentiles",
+            description = "Retrieves p50/p95/p99/p999 latency per route and status, broken down by request phase")
+    public ApiResponse<List<RouteLatencyResponse>> getLatency() {
+        log.info("Getting request latency percentiles");
+
+        List<RouteLatencyResponse> routes = latencyRecorder.getRoutes().stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+
+        return ApiResponse.success(routes);
+    }
+
+    @DeleteMapping("/latency")
+    @Operation(summary = "Reset latency histograms", description = "Discards every recorded latency sample")
+    public ApiResponse<Void> resetLatency() {
+        log.info("Resetting request latency histograms");
+        latencyRecorder.reset();
+        return ApiResponse.success("Latency histograms reset successfully", null);
+    }
+
+    private RouteLatencyResponse convertToResponse(RouteLatency latency) {
+        Histogram total = latency.getTotal().copy();
+
+        Map<String, RouteLatencyResponse.Percentiles> phases = new LinkedHashMap<>();
+        for (RequestPhase phase : RequestPhase.values()) {
+            phases.put(phase.getName(), toPercentiles(latency.getPhases().get(phase).copy()));
+        }
+
+        return RouteLatencyResponse.builder()
+                .method(latency.getMethod())
+                .route(latency.getRoute())
+                .status(latency.getStatus())
+                .count(total.getTotalCount())
+                .total(toPercentiles(total))
+                .phases(phases)
+                .build();
+    }
+
+    private RouteLatencyResponse.Percentiles toPercentiles(Histogram histogram) {
+        return RouteLatencyResponse.Percentiles.builder()
+                .p50Millis(toMillis(histogram.getValueAtPercentile(50)))
+                .p95Millis(toMillis(histogram.getValueAtPercentile(95)))
+                .p99Millis(toMillis(histogram.getValueAtPercentile(99)))
+                .p999Millis(toMillis(histogram.getValueAtPercentile(99.9)))
+                .maxMillis(toMillis(histogram.getMaxValue()))
+                .meanMillis(histogram.getMean() / 1000.0)
+                .build();
+    }
+
+    private double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+}
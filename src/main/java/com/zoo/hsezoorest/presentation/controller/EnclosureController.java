@@ -1,26 +1,40 @@
 package com.zoo.hsezoorest.presentation.controller;
 
+import com.zoo.hsezoorest.application.exception.EnclosureNotFoundException;
+import com.zoo.hsezoorest.application.service.EnclosureDashboardService;
 import com.zoo.hsezoorest.domain.model.animal.Animal;
-import com.zoo.hsezoorest.domain.model.animal.HealthStatus;
 import com.zoo.hsezoorest.domain.model.enclosure.Capacity;
 import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
 import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
 import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
 import com.zoo.hsezoorest.domain.repository.EnclosureRepository;
+import com.zoo.hsezoorest.infrastructure.cache.CacheRegion;
+import com.zoo.hsezoorest.infrastructure.cache.CachedResult;
+import com.zoo.hsezoorest.infrastructure.cache.QueryCache;
+import com.zoo.hsezoorest.presentation.etag.EntityTags;
+import com.zoo.hsezoorest.presentation.mapper.EnclosureResponseMapper;
+import com.zoo.hsezoorest.presentation.etag.PreconditionFailedException;
 import com.zoo.hsezoorest.presentation.request.EnclosureRequest;
+import com.zoo.hsezoorest.presentation.request.IdsRequest;
 import com.zoo.hsezoorest.presentation.response.ApiResponse;
+import com.zoo.hsezoorest.presentation.response.EnclosureDashboardResponse;
 import com.zoo.hsezoorest.presentation.response.EnclosureResponse;
+import com.zoo.hsezoorest.presentation.response.LookupResponse;
+import com.zoo.hsezoorest.presentation.response.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import javax.persistence.EntityNotFoundException;
-import javax.validation.Valid;
+import jakarta.validation.Valid;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j
 @RestController
@@ -29,27 +43,119 @@ import java.util.stream.Collectors;
 @Tag(name = "Enclosure Management", description = "APIs for managing zoo enclosures")
 public class EnclosureController {
 
+    private static final String EXPAND_ANIMALS = "animals";
+
     private final EnclosureRepository enclosureRepository;
+    private final EnclosureDashboardService dashboardService;
+    private final QueryCache queryCache;
+    private final EnclosureResponseMapper enclosureResponseMapper;
+
+    @Value("${zoo.enclosures.animal-limit:100}")
+    private int animalLimit;
 
     @GetMapping
-    @Operation(summary = "Get all enclosures", description = "Retrieves a list of all enclosures in the zoo")
-    public ApiResponse<List<EnclosureResponse>> getAllEnclosures() {
+    @Operation(summary = "Get all enclosures",
+            description = "Retrieves a list of all enclosures in the zoo; expand=animals embeds a capped list of residents")
+    public ApiResponse<List<EnclosureResponse>> getAllEnclosures(
+            @RequestParam(required = false) String expand,
+            WebRequest webRequest) {
         log.info("Getting all enclosures");
-        List<EnclosureResponse> enclosures = enclosureRepository.findAll().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return respondWithEnclosures(enclosureRepository.findAll(), isAnimalsExpanded(expand), webRequest);
+    }
 
-        return ApiResponse.success(enclosures);
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get enclosures by IDs",
+            description = "Retrieves several enclosures at once, in request order, reporting IDs that were not found")
+    public ApiResponse<LookupResponse<EnclosureResponse>> getEnclosuresByIds(@RequestParam List<String> ids, WebRequest webRequest) {
+        log.info("Getting {} enclosures by ID", ids.size());
+        Set<EnclosureId> requestedIds = IdsRequest.parse(ids, EnclosureId::of);
+        List<Enclosure> found = enclosureRepository.findAllById(requestedIds);
+        if (webRequest.checkNotModified(EntityTags.forEnclosures(found))) {
+            return null;
+        }
+
+        return ApiResponse.success(LookupResponse.of(requestedIds, found, Enclosure::getId, enclosureResponseMapper::toResponses));
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Look up enclosures by IDs",
+            description = "Retrieves several enclosures at once, for ID lists too long for a query string")
+    public ApiResponse<LookupResponse<EnclosureResponse>> lookupEnclosures(@Valid @RequestBody IdsRequest request) {
+        log.info("Looking up {} enclosures by ID", request.getIds().size());
+        Set<EnclosureId> requestedIds = IdsRequest.parse(request.getIds(), EnclosureId::of);
+        List<Enclosure> found = enclosureRepository.findAllById(requestedIds);
+
+        return ApiResponse.success(LookupResponse.of(requestedIds, found, Enclosure::getId, enclosureResponseMapper::toResponses));
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Get enclosure by ID", description = "Retrieves a specific enclosure by its ID")
-    public ApiResponse<EnclosureResponse> getEnclosureById(@PathVariable String id) {
+    @Operation(summary = "Get enclosure by ID",
+            description = "Retrieves a specific enclosure by its ID; expand=animals embeds a capped list of residents")
+    public ApiResponse<EnclosureResponse> getEnclosureById(
+            @PathVariable String id,
+            @RequestParam(required = false) String expand,
+            WebRequest webRequest) {
         log.info("Getting enclosure with ID: {}", id);
         Enclosure enclosure = enclosureRepository.findById(EnclosureId.of(id))
-                .orElseThrow(() -> new EntityNotFoundException("Enclosure not found with ID: " + id));
+                .orElseThrow(() -> new EnclosureNotFoundException(id));
+
+        if (isAnimalsExpanded(expand)) {
+            if (webRequest.checkNotModified(EntityTags.forEnclosure(enclosure, animalLimit))) {
+                return null;
+            }
+            return ApiResponse.success(enclosureResponseMapper.toExpandedResponse(enclosure, animalLimit));
+        }
+
+        if (webRequest.checkNotModified(EntityTags.forEnclosure(enclosure))) {
+            return null;
+        }
 
-        return ApiResponse.success(convertToResponse(enclosure));
+        return ApiResponse.success(enclosureResponseMapper.toResponse(enclosure));
+    }
+
+    @GetMapping("/{id}/animals")
+    @Operation(summary = "Get enclosure residents",
+            description = "Retrieves one page of the animals currently housed in an enclosure")
+    public ApiResponse<PageResponse<EnclosureResponse.AnimalInfo>> getEnclosureAnimals(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            WebRequest webRequest) {
+        log.info("Getting animals of enclosure {} (page {}, size {})", id, page, size);
+
+        if (page < 0 || size < 1 || size > animalLimit) {
+            throw new IllegalArgumentException(
+                    "Page must be non-negative and size between 1 and " + animalLimit);
+        }
+
+        Enclosure enclosure = enclosureRepository.findById(EnclosureId.of(id))
+                .orElseThrow(() -> new EnclosureNotFoundException(id));
+
+        List<Animal> animals = enclosure.getAnimals();
+        int from = (int) Math.min((long) page * size, animals.size());
+        List<Animal> members = animals.subList(from, Math.min(from + size, animals.size()));
+
+        if (webRequest.checkNotModified(EntityTags.forEnclosureMembers(enclosure, members))) {
+            return null;
+        }
+
+        return ApiResponse.success(PageResponse.<EnclosureResponse.AnimalInfo>builder()
+                .content(enclosureResponseMapper.toAnimalInfos(members))
+                .page(page)
+                .size(size)
+                .totalElements(animals.size())
+                .totalPages((animals.size() + size - 1) / size)
+                .build());
+    }
+
+    @GetMapping("/{id}/dashboard")
+    @Operation(summary = "Get enclosure dashboard",
+            description = "Retrieves an enclosure with its residents and their feeding status for today in one call")
+    public ApiResponse<EnclosureDashboardResponse> getEnclosureDashboard(@PathVariable String id) {
+        log.info("Getting dashboard for enclosure with ID: {}", id);
+
+        return ApiResponse.success(enclosureResponseMapper.toDashboardResponse(
+                dashboardService.getDashboard(EnclosureId.of(id))));
     }
 
     @PostMapping
@@ -68,7 +174,7 @@ public class EnclosureController {
 
         return ApiResponse.success(
                 "Enclosure created successfully",
-                convertToResponse(savedEnclosure)
+                enclosureResponseMapper.toResponse(savedEnclosure)
         );
     }
 
@@ -76,31 +182,30 @@ public class EnclosureController {
     @Operation(summary = "Update an enclosure", description = "Updates an existing enclosure's information")
     public ApiResponse<EnclosureResponse> updateEnclosure(
             @PathVariable String id,
-            @Valid @RequestBody EnclosureRequest request) {
+            @Valid @RequestBody EnclosureRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            HttpServletResponse response) {
         log.info("Updating enclosure with ID: {}", id);
 
         Enclosure enclosure = enclosureRepository.findById(EnclosureId.of(id))
-                .orElseThrow(() -> new EntityNotFoundException("Enclosure not found with ID: " + id));
-
-        Enclosure updatedEnclosure = new Enclosure(
-                enclosure.getId(),
-                request.getType(),
-                Capacity.of(request.getCapacity())
-        );
-
-        for (Animal animal : enclosure.getAnimals()) {
-            updatedEnclosure.addAnimal(animal);
-        }
+                .orElseThrow(() -> new EnclosureNotFoundException(id));
+        long loadedVersion = enclosure.getVersion();
 
-        if (!enclosure.isClean()) {
-            updatedEnclosure.markAsDirty();
+        String currentTag = EntityTags.forEnclosure(enclosure);
+        if (!EntityTags.matches(ifMatch, currentTag)) {
+            throw new PreconditionFailedException("Enclosure has been modified since it was last retrieved: " + id);
         }
+        long expectedVersion = EntityTags.matchedVersion(ifMatch, currentTag).orElse(loadedVersion);
 
-        Enclosure savedEnclosure = enclosureRepository.save(updatedEnclosure);
+        Capacity capacity = Capacity.of(request.getCapacity());
+        Enclosure savedEnclosure = enclosureRepository.update(enclosure.getId(), expectedVersion,
+                        current -> current.reconfigure(request.getType(), capacity))
+                .orElseThrow(() -> new EnclosureNotFoundException(id));
 
+        response.setHeader(HttpHeaders.ETAG, EntityTags.forEnclosure(savedEnclosure));
         return ApiResponse.success(
                 "Enclosure updated successfully",
-                convertToResponse(savedEnclosure)
+                enclosureResponseMapper.toResponse(savedEnclosure)
         );
     }
 
@@ -110,7 +215,7 @@ public class EnclosureController {
         log.info("Deleting enclosure with ID: {}", id);
 
         Enclosure enclosure = enclosureRepository.findById(EnclosureId.of(id))
-                .orElseThrow(() -> new EntityNotFoundException("Enclosure not found with ID: " + id));
+                .orElseThrow(() -> new EnclosureNotFoundException(id));
 
         if (!enclosure.getAnimals().isEmpty()) {
             throw new IllegalStateException("Cannot delete enclosure that contains animals");
@@ -125,83 +230,87 @@ public class EnclosureController {
     public ApiResponse<EnclosureResponse> cleanEnclosure(@PathVariable String id) {
         log.info("Cleaning enclosure with ID: {}", id);
 
-        Enclosure enclosure = enclosureRepository.findById(EnclosureId.of(id))
-                .orElseThrow(() -> new EntityNotFoundException("Enclosure not found with ID: " + id));
-
-        enclosure.clean();
-        enclosureRepository.save(enclosure);
+        Enclosure enclosure = enclosureRepository.update(EnclosureId.of(id), Enclosure::clean)
+                .orElseThrow(() -> new EnclosureNotFoundException(id));
 
         return ApiResponse.success(
                 "Enclosure has been cleaned",
-                convertToResponse(enclosure)
+                enclosureResponseMapper.toResponse(enclosure)
         );
     }
 
     @GetMapping("/available")
     @Operation(summary = "Get available enclosures", description = "Retrieves enclosures with available space")
-    public ApiResponse<List<EnclosureResponse>> getAvailableEnclosures() {
+    public ApiResponse<List<EnclosureResponse>> getAvailableEnclosures(
+            @RequestParam(required = false) String expand,
+            WebRequest webRequest) {
         log.info("Getting available enclosures");
 
-        List<EnclosureResponse> availableEnclosures = enclosureRepository.findAvailableEnclosures().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        if (isAnimalsExpanded(expand)) {
+            return respondWithEnclosures(enclosureRepository.findAvailableEnclosures(), true, webRequest);
+        }
+
+        CachedResult<List<EnclosureResponse>> availableEnclosures = queryCache.get(
+                CacheRegion.AVAILABLE_ENCLOSURES, "all",
+                () -> enclosureResponseMapper.toResponses(enclosureRepository.findAvailableEnclosures()));
+
+        if (webRequest.checkNotModified(availableEnclosures.getEtag())) {
+            return null;
+        }
 
-        return ApiResponse.success(availableEnclosures);
+        return ApiResponse.success(availableEnclosures.getValue());
     }
 
     @GetMapping("/type/{type}")
     @Operation(summary = "Get enclosures by type", description = "Retrieves enclosures of a specific type")
-    public ApiResponse<List<EnclosureResponse>> getEnclosuresByType(@PathVariable String type) {
+    public ApiResponse<List<EnclosureResponse>> getEnclosuresByType(
+            @PathVariable String type,
+            @RequestParam(required = false) String expand,
+            WebRequest webRequest) {
         log.info("Getting enclosures of type: {}", type);
 
+        EnclosureType enclosureType;
         try {
+            enclosureType = EnclosureType.valueOf(type.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid enclosure type: " + type);
+        }
 
-            EnclosureType enclosureType = EnclosureType.valueOf(type.toUpperCase());
+        if (isAnimalsExpanded(expand)) {
+            return respondWithEnclosures(enclosureRepository.findByType(enclosureType), true, webRequest);
+        }
 
-            List<EnclosureResponse> enclosures = enclosureRepository.findByType(enclosureType).stream()
-                    .map(this::convertToResponse)
-                    .collect(Collectors.toList());
+        CachedResult<List<EnclosureResponse>> enclosures = queryCache.get(
+                CacheRegion.ENCLOSURES_BY_TYPE, enclosureType,
+                () -> enclosureResponseMapper.toResponses(enclosureRepository.findByType(enclosureType)));
 
-            return ApiResponse.success(enclosures);
-        } catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Invalid enclosure type: " + type);
+        if (webRequest.checkNotModified(enclosures.getEtag())) {
+            return null;
         }
-    }
 
-    private EnclosureResponse convertToResponse(Enclosure enclosure) {
-        List<EnclosureResponse.AnimalInfo> animals = enclosure.getAnimals().stream()
-                .map(animal -> EnclosureResponse.AnimalInfo.builder()
-                        .id(animal.getId().getValue())
-                        .name(animal.getName())
-                        .species(animal.getSpecies().getValue())
-                        .status(mapHealthStatus(animal.getHealthStatus()))
-                        .build())
-                .collect(Collectors.toList());
-
-        return EnclosureResponse.builder()
-                .id(enclosure.getId().getValue())
-                .type(enclosure.getType())
-                .capacity(enclosure.getCapacity().getMaximum())
-                .currentAnimalCount(enclosure.getCurrentAnimalCount())
-                .remainingCapacity(enclosure.getRemainingCapacity())
-                .isClean(enclosure.isClean())
-                .lastCleaningTime(enclosure.getLastCleaningTime())
-                .animals(animals)
-                .build();
+        return ApiResponse.success(enclosures.getValue());
     }
 
+    // Expanded lists are not kept in the query cache; the mapper still reuses unchanged projections
+    private ApiResponse<List<EnclosureResponse>> respondWithEnclosures(List<Enclosure> enclosures, boolean expanded,
+                                                                     WebRequest webRequest) {
+        int memberLimit = expanded ? animalLimit : 0;
+        if (webRequest.checkNotModified(EntityTags.forEnclosures(enclosures, memberLimit))) {
+            return null;
+        }
+
+        return ApiResponse.success(expanded ?
+                enclosureResponseMapper.toExpandedResponses(enclosures, animalLimit) :
+                enclosureResponseMapper.toResponses(enclosures));
+    }
 
-    private EnclosureResponse.AnimalInfo.HealthStatus mapHealthStatus(
-            HealthStatus status) {
-        switch (status) {
-            case HEALTHY:
-                return EnclosureResponse.AnimalInfo.HealthStatus.HEALTHY;
-            case SICK:
-                return EnclosureResponse.AnimalInfo.HealthStatus.SICK;
-            case UNDER_OBSERVATION:
-                return EnclosureResponse.AnimalInfo.HealthStatus.UNDER_OBSERVATION;
-            default:
-                return EnclosureResponse.AnimalInfo.HealthStatus.HEALTHY;
+    private static boolean isAnimalsExpanded(String expand) {
+        if (expand == null || expand.isBlank()) {
+            return false;
+        }
+        if (!expand.trim().equalsIgnoreCase(EXPAND_ANIMALS)) {
+            throw new IllegalArgumentException("Unsupported expansion: " + expand);
         }
+        return true;
     }
 }
@@ -1,27 +1,49 @@
 package com.zoo.hsezoorest.presentation.controller;
 
+import com.zoo.hsezoorest.application.dto.feeding.FeedingCompletionResult;
+import com.zoo.hsezoorest.application.exception.FeedingNotFoundException;
 import com.zoo.hsezoorest.application.service.FeedingOrganizationService;
+import com.zoo.hsezoorest.application.service.FeedingRoundPlanner;
+import com.zoo.hsezoorest.application.service.FoodDemandForecastService;
 import com.zoo.hsezoorest.domain.model.animal.AnimalId;
 import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
 import com.zoo.hsezoorest.domain.model.feeding.Feeding;
 import com.zoo.hsezoorest.domain.model.feeding.FeedingTime;
 import com.zoo.hsezoorest.domain.repository.FeedingRepository;
+import com.zoo.hsezoorest.infrastructure.cache.CacheRegion;
+import com.zoo.hsezoorest.infrastructure.cache.CachedResult;
+import com.zoo.hsezoorest.infrastructure.cache.QueryCache;
+import com.zoo.hsezoorest.presentation.etag.EntityTags;
+import com.zoo.hsezoorest.presentation.mapper.FeedingResponseMapper;
+import com.zoo.hsezoorest.presentation.etag.PreconditionFailedException;
+import com.zoo.hsezoorest.presentation.request.FeedingCompletionRequest;
 import com.zoo.hsezoorest.presentation.request.FeedingRequest;
+import com.zoo.hsezoorest.presentation.request.IdsRequest;
 import com.zoo.hsezoorest.presentation.response.ApiResponse;
+import com.zoo.hsezoorest.presentation.response.FeedingCompletionResponse;
 import com.zoo.hsezoorest.presentation.response.FeedingResponse;
+import com.zoo.hsezoorest.presentation.response.FeedingRoundPlanResponse;
+import com.zoo.hsezoorest.presentation.response.FoodDemandForecastResponse;
+import com.zoo.hsezoorest.presentation.response.LookupResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import javax.persistence.EntityNotFoundException;
-import javax.validation.Valid;
+import jakarta.validation.Valid;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 @Slf4j
 @RestController
@@ -30,30 +52,66 @@ import java.util.stream.Collectors;
 @Tag(name = "Feeding Management", description = "APIs for managing feeding schedules")
 public class FeedingController {
 
+    private static final int MAX_FORECAST_DAYS = 366;
+
     private final FeedingRepository feedingScheduleRepository;
     private final FeedingOrganizationService feedingService;
+    private final FeedingRoundPlanner feedingRoundPlanner;
+    private final FoodDemandForecastService foodDemandForecastService;
+    private final QueryCache queryCache;
+    private final FeedingResponseMapper feedingResponseMapper;
 
     @GetMapping
     @Operation(summary = "Get all feeding schedules",
             description = "Retrieves a list of all feeding schedules in the zoo")
-    public ApiResponse<List<FeedingResponse>> getAllFeedingSchedules() {
+    public ApiResponse<List<FeedingResponse>> getAllFeedingSchedules(WebRequest webRequest) {
         log.info("Getting all feeding schedules");
-        List<FeedingResponse> schedules = feedingScheduleRepository.findAll().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<Feeding> schedules = feedingScheduleRepository.findAll();
+        if (webRequest.checkNotModified(EntityTags.forFeedings(schedules))) {
+            return null;
+        }
+
+        return ApiResponse.success(feedingResponseMapper.toResponses(schedules));
+    }
+
+    @GetMapping(params = "ids")
+    @Operation(summary = "Get feeding schedules by IDs",
+            description = "Retrieves several feeding schedules at once, in request order, reporting IDs that were not found")
+    public ApiResponse<LookupResponse<FeedingResponse>> getFeedingsByIds(@RequestParam List<String> ids, WebRequest webRequest) {
+        log.info("Getting {} feeding schedules by ID", ids.size());
+        Set<FeedingId> requestedIds = IdsRequest.parse(ids, FeedingId::of);
+        List<Feeding> found = feedingScheduleRepository.findAllById(requestedIds);
+        if (webRequest.checkNotModified(EntityTags.forFeedings(found))) {
+            return null;
+        }
+
+        return ApiResponse.success(LookupResponse.of(requestedIds, found, Feeding::getId, feedingResponseMapper::toResponses));
+    }
 
-        return ApiResponse.success(schedules);
+    @PostMapping("/lookup")
+    @Operation(summary = "Look up feeding schedules by IDs",
+            description = "Retrieves several feeding schedules at once, for ID lists too long for a query string")
+    public ApiResponse<LookupResponse<FeedingResponse>> lookupFeedings(@Valid @RequestBody IdsRequest request) {
+        log.info("Looking up {} feeding schedules by ID", request.getIds().size());
+        Set<FeedingId> requestedIds = IdsRequest.parse(request.getIds(), FeedingId::of);
+        List<Feeding> found = feedingScheduleRepository.findAllById(requestedIds);
+
+        return ApiResponse.success(LookupResponse.of(requestedIds, found, Feeding::getId, feedingResponseMapper::toResponses));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get feeding schedule by ID",
             description = "Retrieves a specific feeding schedule by its ID")
-    public ApiResponse<FeedingResponse> getFeedingScheduleById(@PathVariable String id) {
+    public ApiResponse<FeedingResponse> getFeedingScheduleById(@PathVariable String id, WebRequest webRequest) {
         log.info("Getting feeding schedule with ID: {}", id);
         Feeding schedule = feedingScheduleRepository.findById(FeedingId.of(id))
-                .orElseThrow(() -> new EntityNotFoundException("Feeding schedule not found with ID: " + id));
+                .orElseThrow(() -> new FeedingNotFoundException(id));
+
+        if (webRequest.checkNotModified(EntityTags.forFeeding(schedule))) {
+            return null;
+        }
 
-        return ApiResponse.success(convertToResponse(schedule));
+        return ApiResponse.success(feedingResponseMapper.toResponse(schedule));
     }
 
     @PostMapping
@@ -71,7 +129,7 @@ public class FeedingController {
 
         return ApiResponse.success(
                 "Feeding schedule created successfully",
-                convertToResponse(schedule)
+                feedingResponseMapper.toResponse(schedule)
         );
     }
 
@@ -80,27 +138,51 @@ public class FeedingController {
             description = "Updates an existing feeding schedule")
     public ApiResponse<FeedingResponse> updateFeedingSchedule(
             @PathVariable String id,
-            @Valid @RequestBody FeedingRequest request) {
+            @Valid @RequestBody FeedingRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            HttpServletResponse response) {
         log.info("Updating feeding schedule with ID: {}", id);
 
         Feeding schedule = feedingScheduleRepository.findById(FeedingId.of(id))
-                .orElseThrow(() -> new EntityNotFoundException("Feeding schedule not found with ID: " + id));
-
-        // Update feeding time and food type
-        schedule.changeFeedingTime(FeedingTime.of(request.getFeedingTime()));
-        schedule.changeFoodType(request.getFoodType());
+                .orElseThrow(() -> new FeedingNotFoundException(id));
+        long loadedVersion = schedule.getVersion();
 
-        // If animal ID is different, we need to create a new schedule
-        if (!schedule.getAnimal().getId().getValue().equals(request.getAnimalId())) {
-            log.info("Animal ID changed, creating new feeding schedule");
-            return createFeedingSchedule(request);
+        String currentTag = EntityTags.forFeeding(schedule);
+        if (!EntityTags.matches(ifMatch, currentTag)) {
+            throw new PreconditionFailedException("Feeding schedule has been modified since it was last retrieved: " + id);
+        }
+        long expectedVersion = EntityTags.matchedVersion(ifMatch, currentTag).orElse(loadedVersion);
+
+        // If animal ID is different, the schedule is replaced by a new one for that animal
+        if (!schedule.getAnimal().getId().equals(AnimalId.of(request.getAnimalId()))) {
+            log.info("Animal ID changed, replacing feeding schedule {}", id);
+            Feeding replacement = feedingService.createFeedingSchedule(
+                    AnimalId.of(request.getAnimalId()),
+                    FeedingTime.of(request.getFeedingTime()),
+                    request.getFoodType()
+            );
+            try {
+                if (!feedingScheduleRepository.deleteById(schedule.getId(), expectedVersion)) {
+                    throw new FeedingNotFoundException(id);
+                }
+            } catch (RuntimeException e) {
+                feedingScheduleRepository.deleteById(replacement.getId());
+                throw e;
+            }
+            return ApiResponse.success(
+                    "Feeding schedule created successfully",
+                    feedingResponseMapper.toResponse(replacement)
+            );
         }
 
-        Feeding savedSchedule = feedingScheduleRepository.save(schedule);
+        Feeding savedSchedule = feedingScheduleRepository.update(schedule.getId(), expectedVersion,
+                        current -> current.reschedule(FeedingTime.of(request.getFeedingTime()), request.getFoodType()))
+                .orElseThrow(() -> new FeedingNotFoundException(id));
 
+        response.setHeader(HttpHeaders.ETAG, EntityTags.forFeeding(savedSchedule));
         return ApiResponse.success(
                 "Feeding schedule updated successfully",
-                convertToResponse(savedSchedule)
+                feedingResponseMapper.toResponse(savedSchedule)
         );
     }
 
@@ -111,7 +193,7 @@ public class FeedingController {
         log.info("Deleting feeding schedule with ID: {}", id);
 
         if (!feedingScheduleRepository.existsById(FeedingId.of(id))) {
-            throw new EntityNotFoundException("Feeding schedule not found with ID: " + id);
+            throw new FeedingNotFoundException(id);
         }
 
         feedingScheduleRepository.deleteById(FeedingId.of(id));
@@ -126,81 +208,104 @@ public class FeedingController {
 
         boolean completed = feedingService.completeFeedingSchedule(FeedingId.of(id));
         Feeding schedule = feedingScheduleRepository.findById(FeedingId.of(id))
-                .orElseThrow(() -> new EntityNotFoundException("Feeding schedule not found with ID: " + id));
+                .orElseThrow(() -> new FeedingNotFoundException(id));
 
         String message = completed ?
                 "Feeding marked as completed" :
                 "Feeding was already completed";
 
-        return ApiResponse.success(message, convertToResponse(schedule));
+        return ApiResponse.success(message, feedingResponseMapper.toResponse(schedule));
+    }
+
+    @PostMapping("/complete")
+    @Operation(summary = "Complete feedings in bulk",
+            description = "Marks many feeding schedules as completed at once and reports the outcome for each")
+    public ApiResponse<FeedingCompletionResponse> completeFeedingSchedules(
+            @Valid @RequestBody FeedingCompletionRequest request) {
+        List<FeedingId> feedingIds = new ArrayList<>(request.getFeedingIds().size());
+        for (String id : request.getFeedingIds()) {
+            feedingIds.add(FeedingId.of(id.trim()));
+        }
+
+        FeedingCompletionResult result = feedingService.completeFeedingSchedules(feedingIds);
+        String message = result.getCompleted() + " of " + result.getItems().size() + " feedings marked as completed";
+
+        return ApiResponse.success(message, feedingResponseMapper.toCompletionResponse(result));
     }
 
     @GetMapping("/animal/{animalId}")
     @Operation(summary = "Get feeding schedules for animal",
             description = "Retrieves all feeding schedules for a specific animal")
-    public ApiResponse<List<FeedingResponse>> getFeedingSchedulesForAnimal(@PathVariable String animalId) {
+    public ApiResponse<List<FeedingResponse>> getFeedingSchedulesForAnimal(@PathVariable String animalId,
+                                                                           WebRequest webRequest) {
         log.info("Getting feeding schedules for animal with ID: {}", animalId);
 
-        List<FeedingResponse> schedules = feedingService
-                .getFeedingSchedulesForAnimal(AnimalId.of(animalId)).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<Feeding> schedules = feedingService.getFeedingSchedulesForAnimal(AnimalId.of(animalId));
+        if (webRequest.checkNotModified(EntityTags.forFeedings(schedules))) {
+            return null;
+        }
 
-        return ApiResponse.success(schedules);
+        return ApiResponse.success(feedingResponseMapper.toResponses(schedules));
     }
 
     @GetMapping("/pending")
     @Operation(summary = "Get pending feedings",
             description = "Retrieves feeding schedules that are due but not completed")
-    public ApiResponse<List<FeedingResponse>> getPendingFeedings() {
+    public ApiResponse<List<FeedingResponse>> getPendingFeedings(WebRequest webRequest) {
         log.info("Getting pending feeding schedules");
 
-        List<FeedingResponse> pendingSchedules = feedingService
-                .getPendingFeedings().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        // Keyed by minute so that feedings becoming due start a fresh entry
+        CachedResult<List<FeedingResponse>> pendingSchedules = queryCache.get(
+                CacheRegion.PENDING_FEEDINGS, LocalTime.now().truncatedTo(ChronoUnit.MINUTES),
+                () -> feedingResponseMapper.toResponses(feedingService.getPendingFeedings()));
+
+        if (webRequest.checkNotModified(pendingSchedules.getEtag())) {
+            return null;
+        }
+
+        return ApiResponse.success(pendingSchedules.getValue());
+    }
+
+    @GetMapping("/rounds")
+    @Operation(summary = "Plan feeding rounds",
+            description = "Groups due, uncompleted feedings into rounds by enclosure and food type, ordered by feeding time")
+    public ApiResponse<FeedingRoundPlanResponse> getFeedingRounds(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime at) {
+        LocalTime plannedFor = at != null ? at : LocalTime.now();
+        log.info("Planning feeding rounds for {}", plannedFor);
 
-        return ApiResponse.success(pendingSchedules);
+        return ApiResponse.success(feedingResponseMapper.toRoundPlanResponse(feedingRoundPlanner.plan(plannedFor)));
+    }
+
+    @GetMapping("/forecast")
+    @Operation(summary = "Forecast food demand",
+            description = "Portions needed per food type over the next days, starting tomorrow unless a start is given")
+    public ApiResponse<FoodDemandForecastResponse> getFoodDemandForecast(
+            @RequestParam(defaultValue = "1") int days,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from) {
+        if (days < 1 || days > MAX_FORECAST_DAYS) {
+            throw new IllegalArgumentException("days must be between 1 and " + MAX_FORECAST_DAYS);
+        }
+        LocalDateTime start = from != null ? from : LocalDate.now().plusDays(1).atStartOfDay();
+        log.info("Forecasting food demand for {} days from {}", days, start);
+
+        return ApiResponse.success(feedingResponseMapper.toForecastResponse(
+                foodDemandForecastService.forecast(start, start.plusDays(days))));
     }
 
     @GetMapping("/history")
     @Operation(summary = "Get feeding history by date",
             description = "Retrieves completed feedings for a specific date")
     public ApiResponse<List<FeedingResponse>> getFeedingHistoryByDate(
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            WebRequest webRequest) {
         log.info("Getting feeding history for date: {}", date);
 
-        List<FeedingResponse> completedSchedules = feedingService
-                .getFeedingHistoryByDate(date).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
-
-        return ApiResponse.success(completedSchedules);
-    }
+        List<Feeding> completedSchedules = feedingService.getFeedingHistoryByDate(date);
+        if (webRequest.checkNotModified(EntityTags.forFeedings(completedSchedules))) {
+            return null;
+        }
 
-    private FeedingResponse convertToResponse(Feeding schedule) {
-        String enclosureId = schedule.getAnimal().getCurrentEnclosure() != null ?
-                schedule.getAnimal().getCurrentEnclosure().getId().getValue() : null;
-
-        FeedingResponse.AnimalInfo animalInfo = FeedingResponse.AnimalInfo.builder()
-                .id(schedule.getAnimal().getId().getValue())
-                .name(schedule.getAnimal().getName())
-                .species(schedule.getAnimal().getSpecies().getValue())
-                .enclosureId(enclosureId)
-                .build();
-
-        List<String> feedingHistoryDates = schedule.getFeedingHistory().stream()
-                .map(LocalDate::toString)
-                .collect(Collectors.toList());
-
-        return FeedingResponse.builder()
-                .id(schedule.getId().getValue())
-                .animal(animalInfo)
-                .feedingTime(schedule.getFeedingTime().getTime())
-                .foodType(schedule.getFoodType())
-                .isCompleted(schedule.isCompleted())
-                .lastFedTime(schedule.getLastFedTime())
-                .feedingHistory(feedingHistoryDates)
-                .build();
+        return ApiResponse.success(feedingResponseMapper.toResponses(completedSchedules));
     }
 }
@@ -1,7 +1,12 @@
 package com.zoo.hsezoorest.presentation.controller;
 
 import com.zoo.hsezoorest.application.dto.statistics.StatisticsDto;
+import com.zoo.hsezoorest.application.dto.statistics.StatisticsMetric;
+import com.zoo.hsezoorest.application.dto.statistics.StatisticsResult;
 import com.zoo.hsezoorest.application.service.ZooStatisticsService;
+import com.zoo.hsezoorest.infrastructure.cache.CacheRegion;
+import com.zoo.hsezoorest.infrastructure.cache.CachedResult;
+import com.zoo.hsezoorest.infrastructure.cache.QueryCache;
 import com.zoo.hsezoorest.presentation.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,10 +14,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @RestController
@@ -21,67 +31,133 @@ import java.util.Map;
 @Tag(name = "Zoo Statistics", description = "APIs for retrieving zoo statistics")
 public class StatisticsController {
 
+    private static final Set<StatisticsMetric> SUMMARY_METRICS = EnumSet.of(
+            StatisticsMetric.TOTAL_ANIMALS, StatisticsMetric.TOTAL_ENCLOSURES, StatisticsMetric.EMPTY_ENCLOSURES,
+            StatisticsMetric.OCCUPANCY_RATE, StatisticsMetric.SICK_ANIMALS, StatisticsMetric.PENDING_FEEDINGS);
+    private static final Set<StatisticsMetric> HEALTH_ALERT_METRICS = EnumSet.of(
+            StatisticsMetric.SICK_ANIMALS, StatisticsMetric.PENDING_FEEDINGS);
+    private static final Set<StatisticsMetric> CAPACITY_METRICS = EnumSet.of(
+            StatisticsMetric.TOTAL_CAPACITY, StatisticsMetric.USED_CAPACITY, StatisticsMetric.AVAILABLE_CAPACITY,
+            StatisticsMetric.OCCUPANCY_RATE, StatisticsMetric.EMPTY_ENCLOSURES, StatisticsMetric.ENCLOSURES_BY_TYPE);
+
     private final ZooStatisticsService statisticsService;
+    private final QueryCache queryCache;
 
     @GetMapping
     @Operation(summary = "Get comprehensive zoo statistics",
             description = "Retrieves detailed statistics about the zoo")
-    public ApiResponse<StatisticsDto> getZooStatistics() {
+    public ApiResponse<StatisticsDto> getZooStatistics(WebRequest webRequest) {
         log.info("Getting comprehensive zoo statistics");
-        return ApiResponse.success(statisticsService.getZooStatistics());
+
+        CachedResult<StatisticsDto> statistics = queryCache.get(
+                CacheRegion.STATISTICS, "full", statisticsService::getZooStatistics);
+
+        if (webRequest.checkNotModified(statistics.getEtag())) {
+            return null;
+        }
+
+        return ApiResponse.success(statistics.getValue());
     }
 
     @GetMapping("/summary")
     @Operation(summary = "Get summary statistics",
             description = "Retrieves a summary of important zoo metrics")
-    public ApiResponse<Map<String, Object>> getStatisticsSummary() {
+    public ApiResponse<Map<String, Object>> getStatisticsSummary(WebRequest webRequest) {
         log.info("Getting summary statistics");
 
-        Map<String, Object> summary = new HashMap<>();
-        summary.put("totalAnimals", statisticsService.getTotalAnimalCount());
-        summary.put("totalEnclosures", statisticsService.getTotalEnclosureCount());
-        summary.put("emptyEnclosures", statisticsService.getEmptyEnclosureCount());
-        summary.put("occupancyRate", String.format("%.2f%%", statisticsService.getOccupancyRate()));
-        summary.put("sickAnimals", statisticsService.getSickAnimalCount());
-        summary.put("pendingFeedings", statisticsService.getPendingFeedingCount());
+        CachedResult<Map<String, Object>> summary = queryCache.get(CacheRegion.STATISTICS, "summary", () ->
+                toValues(statisticsService.query(SUMMARY_METRICS)));
 
-        return ApiResponse.success(summary);
+        if (webRequest.checkNotModified(summary.getEtag())) {
+            return null;
+        }
+
+        return ApiResponse.success(summary.getValue());
     }
 
     @GetMapping("/health-alerts")
     @Operation(summary = "Get health alerts",
             description = "Retrieves alerts about animals requiring attention")
-    public ApiResponse<Map<String, Long>> getHealthAlerts() {
+    public ApiResponse<Map<String, Long>> getHealthAlerts(WebRequest webRequest) {
         log.info("Getting health alerts");
 
-        Map<String, Long> alerts = new HashMap<>();
-        long sickAnimals = statisticsService.getSickAnimalCount();
-        alerts.put("sickAnimals", sickAnimals);
-        alerts.put("pendingFeedings", statisticsService.getPendingFeedingCount());
+        CachedResult<Map<String, Long>> alerts = queryCache.get(CacheRegion.STATISTICS, "health-alerts", () -> {
+            StatisticsResult result = statisticsService.query(HEALTH_ALERT_METRICS);
+            Map<String, Long> values = new HashMap<>();
+            values.put(StatisticsMetric.SICK_ANIMALS.getKey(), result.getCount(StatisticsMetric.SICK_ANIMALS));
+            values.put(StatisticsMetric.PENDING_FEEDINGS.getKey(), result.getCount(StatisticsMetric.PENDING_FEEDINGS));
+            return values;
+        });
+
+        if (webRequest.checkNotModified(alerts.getEtag())) {
+            return null;
+        }
 
+        long sickAnimals = alerts.getValue().get("sickAnimals");
         String message = sickAnimals > 0 ?
                 "There are " + sickAnimals + " animals requiring medical attention" :
                 "All animals are healthy";
 
-        return ApiResponse.success(message, alerts);
+        return ApiResponse.success(message, alerts.getValue());
     }
 
     @GetMapping("/capacity")
     @Operation(summary = "Get capacity statistics",
             description = "Retrieves statistics about zoo capacity and occupancy")
-    public ApiResponse<Map<String, Object>> getCapacityStatistics() {
+    public ApiResponse<Map<String, Object>> getCapacityStatistics(WebRequest webRequest) {
         log.info("Getting capacity statistics");
 
-        StatisticsDto fullStats = statisticsService.getZooStatistics();
+        CachedResult<Map<String, Object>> capacityStats = queryCache.get(CacheRegion.STATISTICS, "capacity", () ->
+                toValues(statisticsService.query(CAPACITY_METRICS)));
 
-        Map<String, Object> capacityStats = new HashMap<>();
-        capacityStats.put("totalCapacity", fullStats.getTotalCapacity());
-        capacityStats.put("usedCapacity", fullStats.getUsedCapacity());
-        capacityStats.put("availableCapacity", fullStats.getTotalCapacity() - fullStats.getUsedCapacity());
-        capacityStats.put("occupancyRate", String.format("%.2f%%", fullStats.getOccupancyRate()));
-        capacityStats.put("emptyEnclosures", fullStats.getEmptyEnclosures());
-        capacityStats.put("enclosuresByType", fullStats.getEnclosuresByType());
+        if (webRequest.checkNotModified(capacityStats.getEtag())) {
+            return null;
+        }
+
+        return ApiResponse.success(capacityStats.getValue());
+    }
+
+    @GetMapping("/query")
+    @Operation(summary = "Query selected statistics",
+            description = "Computes only the requested metrics (comma-separated, all when omitted)")
+    public ApiResponse<Map<String, Object>> queryStatistics(
+            @RequestParam(required = false) List<String> metrics,
+            WebRequest webRequest) {
+        log.info("Querying statistics: {}", metrics);
+
+        Set<StatisticsMetric> requested = parseMetrics(metrics);
+        CachedResult<Map<String, Object>> result = queryCache.get(CacheRegion.STATISTICS, requested, () ->
+                toValues(statisticsService.query(requested)));
+
+        if (webRequest.checkNotModified(result.getEtag())) {
+            return null;
+        }
+
+        return ApiResponse.success(result.getValue());
+    }
+
+    private Set<StatisticsMetric> parseMetrics(List<String> metrics) {
+        if (metrics == null || metrics.isEmpty()) {
+            return StatisticsMetric.all();
+        }
+        Set<StatisticsMetric> requested = EnumSet.noneOf(StatisticsMetric.class);
+        for (String metric : metrics) {
+            if (!metric.isBlank()) {
+                requested.add(StatisticsMetric.fromKey(metric.trim()));
+            }
+        }
+        return requested.isEmpty() ? StatisticsMetric.all() : requested;
+    }
 
-        return ApiResponse.success(capacityStats);
+    private Map<String, Object> toValues(StatisticsResult result) {
+        Map<String, Object> values = new HashMap<>();
+        for (StatisticsMetric metric : result.getMetrics()) {
+            values.put(metric.getKey(), switch (metric.getKind()) {
+                case COUNT -> result.getCount(metric);
+                case BREAKDOWN -> result.getBreakdown(metric);
+                case RATE -> String.format("%.2f%%", result.getOccupancyRate());
+            });
+        }
+        return values;
     }
 }
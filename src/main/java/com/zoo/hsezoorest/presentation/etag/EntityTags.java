@@ -0,0 +1,169 @@
+package com.zoo.hsezoorest.presentation.etag;
+
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.model.shared.CompactId;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Strong validators derived from entity versions. A tag covers every entity whose state
+ * ends up in the corresponding response, so it changes whenever the representation does.
+ */
+public final class EntityTags {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private EntityTags() {
+    }
+
+    public static String forAnimal(Animal animal) {
+        return format(animal.getVersion(), foldAnimal(FNV_OFFSET, animal));
+    }
+
+    public static String forAnimals(Collection<Animal> animals) {
+        long hash = fold(FNV_OFFSET, animals.size());
+        for (Animal animal : animals) {
+            hash = foldAnimal(hash, animal);
+        }
+        return format(hash);
+    }
+
+    public static String forEnclosure(Enclosure enclosure) {
+        return format(enclosure.getVersion(), foldEnclosure(FNV_OFFSET, enclosure, 0));
+    }
+
+    public static String forEnclosure(Enclosure enclosure, int memberLimit) {
+        return format(enclosure.getVersion(), foldEnclosure(FNV_OFFSET, enclosure, memberLimit));
+    }
+
+    public static String forEnclosures(Collection<Enclosure> enclosures) {
+        return forEnclosures(enclosures, 0);
+    }
+
+    // Expanded representations embed up to memberLimit animals of every enclosure
+    public static String forEnclosures(Collection<Enclosure> enclosures, int memberLimit) {
+        long hash = fold(FNV_OFFSET, enclosures.size());
+        for (Enclosure enclosure : enclosures) {
+            hash = foldEnclosure(hash, enclosure, memberLimit);
+        }
+        return format(hash);
+    }
+
+    public static String forEnclosureMembers(Enclosure enclosure, List<Animal> members) {
+        long hash = foldEnclosure(FNV_OFFSET, enclosure, 0);
+        for (Animal animal : members) {
+            hash = foldId(hash, animal.getId());
+            hash = fold(hash, animal.getVersion());
+        }
+        return format(hash);
+    }
+
+    public static String forFeeding(Feeding feeding) {
+        return format(feeding.getVersion(), foldFeeding(FNV_OFFSET, feeding));
+    }
+
+    public static String forFeedings(Collection<Feeding> feedings) {
+        long hash = fold(FNV_OFFSET, feedings.size());
+        for (Feeding feeding : feedings) {
+            hash = foldFeeding(hash, feeding);
+        }
+        return format(hash);
+    }
+
+    // Strong comparison as required for If-Match (RFC 9110, section 13.1.1)
+    public static boolean matches(String ifMatch, String currentTag) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return true;
+        }
+
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(currentTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The entity version carried by the If-Match candidate equal to {@code currentTag}, so an update
+     * can be checked against what the client saw. Empty when there is no such candidate or only "*".
+     */
+    public static OptionalLong matchedVersion(String ifMatch, String currentTag) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return OptionalLong.empty();
+        }
+
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals(currentTag)) {
+                return versionOf(tag);
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    private static OptionalLong versionOf(String tag) {
+        int separator = tag.indexOf('-');
+        if (!tag.startsWith("\"") || separator < 2) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseUnsignedLong(tag.substring(1, separator), 16));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    private static long foldAnimal(long hash, Animal animal) {
+        hash = foldId(hash, animal.getId());
+        hash = fold(hash, animal.getVersion());
+        Enclosure enclosure = animal.getCurrentEnclosure();
+        if (enclosure != null) {
+            hash = foldId(hash, enclosure.getId());
+            hash = fold(hash, enclosure.getType().ordinal());
+        }
+        return hash;
+    }
+
+    // Membership changes move the enclosure version, so members only matter when they are embedded
+    private static long foldEnclosure(long hash, Enclosure enclosure, int memberLimit) {
+        hash = foldId(hash, enclosure.getId());
+        hash = fold(hash, enclosure.getVersion());
+        List<Animal> animals = enclosure.getAnimals();
+        for (int i = 0; i < Math.min(animals.size(), memberLimit); i++) {
+            hash = foldId(hash, animals.get(i).getId());
+            hash = fold(hash, animals.get(i).getVersion());
+        }
+        return hash;
+    }
+
+    private static long foldFeeding(long hash, Feeding feeding) {
+        hash = foldId(hash, feeding.getId());
+        hash = fold(hash, feeding.getVersion());
+        return foldAnimal(hash, feeding.getAnimal());
+    }
+
+    private static long foldId(long hash, CompactId id) {
+        hash = fold(hash, id.getMostSignificantBits());
+        return fold(hash, id.getLeastSignificantBits());
+    }
+
+    private static long fold(long hash, long value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+
+    private static String format(long hash) {
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    // Single-entity tags lead with the version so it can be read back from If-Match
+    private static String format(long version, long hash) {
+        return "\"" + Long.toHexString(version) + "-" + Long.toHexString(hash) + "\"";
+    }
+}
@@ -0,0 +1,8 @@
+package com.zoo.hsezoorest.presentation.etag;
+
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
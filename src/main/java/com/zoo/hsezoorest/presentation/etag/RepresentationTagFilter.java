@@ -0,0 +1,169 @@
+package com.zoo.hsezoorest.presentation.etag;
+
+import com.zoo.hsezoorest.presentation.advice.LeanResponseAdvice;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Entity tags are computed before content negotiation, yet the lean, CBOR and Smile bodies of an entity
+ * are different representations from its JSON one. The variant picked for the request's Accept header is
+ * appended to every ETag ({@code -lean}, {@code -cbor}, {@code -smile}; plain JSON keeps the bare tag) and
+ * stripped from conditional request headers again, so a validator only ever matches the variant it was
+ * issued for. Runs outside {@code CompressionFilter}, whose {@code -gzip} suffix therefore comes first.
+ */
+@Component
+@Order(-1)
+public class RepresentationTagFilter extends OncePerRequestFilter {
+
+    private static final String FOREIGN_SUFFIX = "-foreign\"";
+    private static final Map<MediaType, String> VARIANTS = new LinkedHashMap<>();
+
+    static {
+        VARIANTS.put(MediaType.APPLICATION_JSON, null);
+        VARIANTS.put(LeanResponseAdvice.LEAN_JSON, "lean");
+        VARIANTS.put(MediaType.APPLICATION_CBOR, "cbor");
+        VARIANTS.put(new MediaType("application", "x-jackson-smile"), "smile");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        String variant = variantOf(request.getHeader(HttpHeaders.ACCEPT));
+        if (variant == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String suffix = "-" + variant + "\"";
+        filterChain.doFilter(new VariantValidatorsRequest(request, suffix), new VariantTagResponse(response, suffix));
+    }
+
+    // Mirrors the converter selection: the most specific acceptable type decides, ties go to the first variant
+    static String variantOf(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+
+        List<MediaType> acceptable;
+        try {
+            acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (MediaType candidate : acceptable) {
+            if (candidate.getQualityValue() == 0) {
+                continue;
+            }
+            for (Map.Entry<MediaType, String> variant : VARIANTS.entrySet()) {
+                if (candidate.includes(variant.getKey())) {
+                    return variant.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String tagged(String etag, String suffix) {
+        return etag != null && etag.endsWith("\"") && !etag.endsWith(suffix)
+                ? etag.substring(0, etag.length() - 1) + suffix
+                : etag;
+    }
+
+    private static String bare(String etag, String suffix) {
+        return etag != null && etag.endsWith(suffix)
+                ? etag.substring(0, etag.length() - suffix.length()) + "\""
+                : etag;
+    }
+
+    // Candidates issued for another variant, including bare JSON tags, are marked so they never match
+    private static class VariantValidatorsRequest extends HttpServletRequestWrapper {
+
+        private final String suffix;
+
+        VariantValidatorsRequest(HttpServletRequest request, String suffix) {
+            super(request);
+            this.suffix = suffix;
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return validators(name, super.getHeader(name));
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            List<String> values = Collections.list(super.getHeaders(name));
+            values.replaceAll(value -> validators(name, value));
+            return Collections.enumeration(values);
+        }
+
+        private String validators(String name, String value) {
+            if (value == null
+                    || !(HttpHeaders.IF_NONE_MATCH.equalsIgnoreCase(name) || HttpHeaders.IF_MATCH.equalsIgnoreCase(name))) {
+                return value;
+            }
+
+            StringJoiner candidates = new StringJoiner(", ");
+            for (String candidate : value.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || !tag.endsWith("\"")) {
+                    candidates.add(tag);
+                } else if (tag.endsWith(suffix)) {
+                    candidates.add(bare(tag, suffix));
+                } else {
+                    candidates.add(tag.substring(0, tag.length() - 1) + FOREIGN_SUFFIX);
+                }
+            }
+            return candidates.toString();
+        }
+    }
+
+    // Filters further in, such as compression, keep seeing the bare tag the handler set
+    private static class VariantTagResponse extends HttpServletResponseWrapper {
+
+        private final String suffix;
+
+        VariantTagResponse(HttpServletResponse response, String suffix) {
+            super(response);
+            this.suffix = suffix;
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            super.setHeader(name, HttpHeaders.ETAG.equalsIgnoreCase(name) ? tagged(value, suffix) : value);
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            super.addHeader(name, HttpHeaders.ETAG.equalsIgnoreCase(name) ? tagged(value, suffix) : value);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            String value = super.getHeader(name);
+            return HttpHeaders.ETAG.equalsIgnoreCase(name) ? bare(value, suffix) : value;
+        }
+    }
+}
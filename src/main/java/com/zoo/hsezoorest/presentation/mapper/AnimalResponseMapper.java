@@ -0,0 +1,82 @@
+package com.zoo.hsezoorest.presentation.mapper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import com.zoo.hsezoorest.presentation.response.AnimalResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+public class AnimalResponseMapper {
+
+    private final Cache<AnimalId, Projection> projections;
+
+    public AnimalResponseMapper(@Value("${zoo.mapping.cache-size:50000}") long cacheSize) {
+        this.projections = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    public AnimalResponse toResponse(Animal animal) {
+        Projection projection = projections.getIfPresent(animal.getId());
+        if (projection != null && projection.isCurrent(animal)) {
+            return projection.response();
+        }
+
+        Enclosure enclosure = animal.getCurrentEnclosure();
+        projection = new Projection(animal, animal.getVersion(), enclosure,
+                enclosure != null ? enclosure.getType() : null, convert(animal));
+        projections.put(animal.getId(), projection);
+        return projection.response();
+    }
+
+    public List<AnimalResponse> toResponses(Collection<Animal> animals) {
+        List<AnimalResponse> responses = new ArrayList<>(animals.size());
+        for (Animal animal : animals) {
+            responses.add(toResponse(animal));
+        }
+        return responses;
+    }
+
+    private AnimalResponse convert(Animal animal) {
+        AnimalResponse.EnclosureInfo enclosureInfo = null;
+
+        if (animal.getCurrentEnclosure() != null) {
+            enclosureInfo = AnimalResponse.EnclosureInfo.builder()
+                    .id(animal.getCurrentEnclosure().getId().getValue())
+                    .type(animal.getCurrentEnclosure().getType().getDisplayName())
+                    .build();
+        }
+
+        return AnimalResponse.builder()
+                .id(animal.getId().getValue())
+                .name(animal.getName())
+                .species(animal.getSpecies().getValue())
+                .isPredator(animal.getSpecies().isPredator())
+                .birthDate(animal.getBirthDate())
+                .gender(animal.getGender())
+                .favoriteFood(animal.getFavoriteFood().getValue())
+                .healthStatus(animal.getHealthStatus())
+                .currentEnclosure(enclosureInfo)
+                .build();
+    }
+
+    // The enclosure type is part of the response but can change without touching the animal
+    private record Projection(Animal source, long version, Enclosure enclosure, EnclosureType enclosureType,
+                              AnimalResponse response) {
+
+        boolean isCurrent(Animal animal) {
+            Enclosure current = animal.getCurrentEnclosure();
+            return source == animal
+                    && version == animal.getVersion()
+                    && enclosure == current
+                    && (current == null || enclosureType == current.getType());
+        }
+    }
+}
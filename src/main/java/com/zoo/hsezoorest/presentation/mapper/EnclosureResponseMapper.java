@@ -0,0 +1,180 @@
+package com.zoo.hsezoorest.presentation.mapper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zoo.hsezoorest.application.dto.enclosure.EnclosureDashboard;
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.HealthStatus;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.presentation.response.EnclosureDashboardResponse;
+import com.zoo.hsezoorest.presentation.response.EnclosureResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@Component
+public class EnclosureResponseMapper {
+
+    private final Cache<EnclosureId, Projection> projections;
+    private final Cache<EnclosureId, ExpandedProjection> expandedProjections;
+
+    public EnclosureResponseMapper(@Value("${zoo.mapping.cache-size:50000}") long cacheSize) {
+        this.projections = Caffeine.newBuilder().maximumSize(cacheSize).build();
+        this.expandedProjections = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    public EnclosureResponse toResponse(Enclosure enclosure) {
+        Projection projection = projections.getIfPresent(enclosure.getId());
+        if (projection != null && projection.isCurrent(enclosure)) {
+            return projection.response();
+        }
+
+        projection = new Projection(enclosure, enclosure.getVersion(), convert(enclosure, null));
+        projections.put(enclosure.getId(), projection);
+        return projection.response();
+    }
+
+    public List<EnclosureResponse> toResponses(Collection<Enclosure> enclosures) {
+        List<EnclosureResponse> responses = new ArrayList<>(enclosures.size());
+        for (Enclosure enclosure : enclosures) {
+            responses.add(toResponse(enclosure));
+        }
+        return responses;
+    }
+
+    public EnclosureResponse toExpandedResponse(Enclosure enclosure, int animalLimit) {
+        ExpandedProjection projection = expandedProjections.getIfPresent(enclosure.getId());
+        if (projection != null && projection.isCurrent(enclosure, animalLimit)) {
+            return projection.response();
+        }
+
+        List<Animal> animals = enclosure.getAnimals();
+        List<Animal> embedded = animals.subList(0, Math.min(animals.size(), animalLimit));
+        long[] animalVersions = new long[embedded.size()];
+        for (int i = 0; i < animalVersions.length; i++) {
+            animalVersions[i] = embedded.get(i).getVersion();
+        }
+        projection = new ExpandedProjection(enclosure, enclosure.getVersion(), animalLimit, animalVersions,
+                convert(enclosure, toAnimalInfos(embedded)));
+        expandedProjections.put(enclosure.getId(), projection);
+        return projection.response();
+    }
+
+    public List<EnclosureResponse> toExpandedResponses(Collection<Enclosure> enclosures, int animalLimit) {
+        List<EnclosureResponse> responses = new ArrayList<>(enclosures.size());
+        for (Enclosure enclosure : enclosures) {
+            responses.add(toExpandedResponse(enclosure, animalLimit));
+        }
+        return responses;
+    }
+
+    public EnclosureDashboardResponse toDashboardResponse(EnclosureDashboard dashboard) {
+        List<EnclosureDashboardResponse.ResidentInfo> residents = new ArrayList<>(dashboard.getResidents().size());
+        for (EnclosureDashboard.Resident resident : dashboard.getResidents()) {
+            List<EnclosureDashboardResponse.FeedingInfo> feedings = new ArrayList<>(resident.getFeedings().size());
+            for (EnclosureDashboard.ScheduledFeeding scheduled : resident.getFeedings()) {
+                Feeding feeding = scheduled.getFeeding();
+                feedings.add(EnclosureDashboardResponse.FeedingInfo.builder()
+                        .id(feeding.getId().getValue())
+                        .feedingTime(feeding.getFeedingTime().getTime())
+                        .foodType(feeding.getFoodType())
+                        .status(scheduled.getStatus())
+                        .lastFedTime(feeding.getLastFedTime())
+                        .build());
+            }
+
+            Animal animal = resident.getAnimal();
+            residents.add(EnclosureDashboardResponse.ResidentInfo.builder()
+                    .id(animal.getId().getValue())
+                    .name(animal.getName())
+                    .species(animal.getSpecies().getValue())
+                    .healthStatus(animal.getHealthStatus())
+                    .feedings(feedings)
+                    .build());
+        }
+
+        return EnclosureDashboardResponse.builder()
+                .enclosure(toResponse(dashboard.getEnclosure()))
+                .residents(residents)
+                .sickAnimals(dashboard.getSickAnimals())
+                .pendingFeedings(dashboard.getPendingFeedings())
+                .completedFeedings(dashboard.getCompletedFeedings())
+                .generatedAt(dashboard.getGeneratedAt())
+                .build();
+    }
+
+    public List<EnclosureResponse.AnimalInfo> toAnimalInfos(List<Animal> animals) {
+        List<EnclosureResponse.AnimalInfo> infos = new ArrayList<>(animals.size());
+        for (Animal animal : animals) {
+            infos.add(EnclosureResponse.AnimalInfo.builder()
+                    .id(animal.getId().getValue())
+                    .name(animal.getName())
+                    .species(animal.getSpecies().getValue())
+                    .status(mapHealthStatus(animal.getHealthStatus()))
+                    .build());
+        }
+        return infos;
+    }
+
+    private EnclosureResponse convert(Enclosure enclosure, List<EnclosureResponse.AnimalInfo> animals) {
+        return EnclosureResponse.builder()
+                .id(enclosure.getId().getValue())
+                .type(enclosure.getType())
+                .capacity(enclosure.getCapacity().getMaximum())
+                .currentAnimalCount(enclosure.getCurrentAnimalCount())
+                .remainingCapacity(enclosure.getRemainingCapacity())
+                .isClean(enclosure.isClean())
+                .lastCleaningTime(enclosure.getLastCleaningTime())
+                .animals(animals != null ? Collections.unmodifiableList(animals) : null)
+                .build();
+    }
+
+    private EnclosureResponse.AnimalInfo.HealthStatus mapHealthStatus(
+            HealthStatus status) {
+        switch (status) {
+            case HEALTHY:
+                return EnclosureResponse.AnimalInfo.HealthStatus.HEALTHY;
+            case SICK:
+                return EnclosureResponse.AnimalInfo.HealthStatus.SICK;
+            case UNDER_OBSERVATION:
+                return EnclosureResponse.AnimalInfo.HealthStatus.UNDER_OBSERVATION;
+            default:
+                return EnclosureResponse.AnimalInfo.HealthStatus.HEALTHY;
+        }
+    }
+
+    // Membership changes move the enclosure version, so the summary only depends on the enclosure itself
+    private record Projection(Enclosure source, long version, EnclosureResponse response) {
+
+        boolean isCurrent(Enclosure enclosure) {
+            return source == enclosure && version == enclosure.getVersion();
+        }
+    }
+
+    // Member animals are renamed or fall sick without the enclosure version moving
+    private record ExpandedProjection(Enclosure source, long version, int animalLimit, long[] animalVersions,
+                                      EnclosureResponse response) {
+
+        boolean isCurrent(Enclosure enclosure, int limit) {
+            if (source != enclosure || version != enclosure.getVersion() || animalLimit != limit) {
+                return false;
+            }
+            List<Animal> animals = enclosure.getAnimals();
+            if (Math.min(animals.size(), limit) != animalVersions.length) {
+                return false;
+            }
+            for (int i = 0; i < animalVersions.length; i++) {
+                if (animals.get(i).getVersion() != animalVersions[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
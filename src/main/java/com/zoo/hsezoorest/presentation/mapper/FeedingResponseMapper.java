@@ -0,0 +1,157 @@
+package com.zoo.hsezoorest.presentation.mapper;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zoo.hsezoorest.application.dto.feeding.FeedingCompletionResult;
+import com.zoo.hsezoorest.application.dto.feeding.FeedingRoundPlan;
+import com.zoo.hsezoorest.application.dto.feeding.FoodDemandForecast;
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
+import com.zoo.hsezoorest.presentation.response.FeedingCompletionResponse;
+import com.zoo.hsezoorest.presentation.response.FeedingResponse;
+import com.zoo.hsezoorest.presentation.response.FeedingRoundPlanResponse;
+import com.zoo.hsezoorest.presentation.response.FoodDemandForecastResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@Component
+public class FeedingResponseMapper {
+
+    private final Cache<FeedingId, Projection> projections;
+
+    public FeedingResponseMapper(@Value("${zoo.mapping.cache-size:50000}") long cacheSize) {
+        this.projections = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    public FeedingResponse toResponse(Feeding schedule) {
+        Projection projection = projections.getIfPresent(schedule.getId());
+        if (projection != null && projection.isCurrent(schedule)) {
+            return projection.response();
+        }
+
+        Animal animal = schedule.getAnimal();
+        projection = new Projection(schedule, schedule.getVersion(), animal, animal.getVersion(),
+                animal.getCurrentEnclosure(), convert(schedule));
+        projections.put(schedule.getId(), projection);
+        return projection.response();
+    }
+
+    public List<FeedingResponse> toResponses(Collection<Feeding> schedules) {
+        List<FeedingResponse> responses = new ArrayList<>(schedules.size());
+        for (Feeding schedule : schedules) {
+            responses.add(toResponse(schedule));
+        }
+        return responses;
+    }
+
+    public FeedingCompletionResponse toCompletionResponse(FeedingCompletionResult result) {
+        List<FeedingCompletionResponse.ItemResult> results = new ArrayList<>(result.getItems().size());
+        for (FeedingCompletionResult.Item item : result.getItems()) {
+            results.add(new FeedingCompletionResponse.ItemResult(item.getFeedingId().getValue(), item.getOutcome()));
+        }
+
+        return FeedingCompletionResponse.builder()
+                .completed(result.getCompleted())
+                .alreadyCompleted(result.getAlreadyCompleted())
+                .notFound(result.getNotFound())
+                .results(results)
+                .build();
+    }
+
+    public FeedingRoundPlanResponse toRoundPlanResponse(FeedingRoundPlan plan) {
+        List<FeedingRoundPlanResponse.RoundInfo> rounds = new ArrayList<>(plan.getRounds().size());
+        for (FeedingRoundPlan.Round round : plan.getRounds()) {
+            List<FeedingRoundPlanResponse.FeedingInfo> feedings = new ArrayList<>(round.getPortions());
+            for (Feeding feeding : round.getFeedings()) {
+                feedings.add(FeedingRoundPlanResponse.FeedingInfo.builder()
+                        .id(feeding.getId().getValue())
+                        .animalId(feeding.getAnimal().getId().getValue())
+                        .animalName(feeding.getAnimal().getName())
+                        .feedingTime(feeding.getFeedingTime().getTime())
+                        .build());
+            }
+
+            Enclosure enclosure = round.getEnclosure();
+            rounds.add(FeedingRoundPlanResponse.RoundInfo.builder()
+                    .enclosureId(enclosure != null ? enclosure.getId().getValue() : null)
+                    .enclosureType(enclosure != null ? enclosure.getType() : null)
+                    .foodType(round.getFoodType())
+                    .startTime(round.getStartTime())
+                    .portions(round.getPortions())
+                    .feedings(feedings)
+                    .build());
+        }
+
+        return FeedingRoundPlanResponse.builder()
+                .plannedFor(plan.getPlannedFor())
+                .totalFeedings(plan.getTotalFeedings())
+                .foodTotals(plan.getFoodTotals())
+                .rounds(rounds)
+                .build();
+    }
+
+    public FoodDemandForecastResponse toForecastResponse(FoodDemandForecast forecast) {
+        List<FoodDemandForecastResponse.DailyDemandInfo> days = new ArrayList<>(forecast.getDays().size());
+        for (FoodDemandForecast.DailyDemand day : forecast.getDays()) {
+            days.add(new FoodDemandForecastResponse.DailyDemandInfo(day.getDate(), day.getPortions()));
+        }
+
+        return FoodDemandForecastResponse.builder()
+                .from(forecast.getFrom())
+                .to(forecast.getTo())
+                .totals(forecast.getTotals())
+                .totalPortions(forecast.getTotalPortions())
+                .days(days)
+                .build();
+    }
+
+    private FeedingResponse convert(Feeding schedule) {
+        String enclosureId = schedule.getAnimal().getCurrentEnclosure() != null ?
+                schedule.getAnimal().getCurrentEnclosure().getId().getValue() : null;
+
+        FeedingResponse.AnimalInfo animalInfo = FeedingResponse.AnimalInfo.builder()
+                .id(schedule.getAnimal().getId().getValue())
+                .name(schedule.getAnimal().getName())
+                .species(schedule.getAnimal().getSpecies().getValue())
+                .enclosureId(enclosureId)
+                .build();
+
+        List<LocalDate> feedingHistory = schedule.getFeedingHistory();
+        List<String> feedingHistoryDates = new ArrayList<>(feedingHistory.size());
+        for (LocalDate date : feedingHistory) {
+            feedingHistoryDates.add(date.toString());
+        }
+
+        return FeedingResponse.builder()
+                .id(schedule.getId().getValue())
+                .animal(animalInfo)
+                .feedingTime(schedule.getFeedingTime().getTime())
+                .foodType(schedule.getFoodType())
+                .isCompleted(schedule.isCompleted())
+                .lastFedTime(schedule.getLastFedTime())
+                .feedingHistory(Collections.unmodifiableList(feedingHistoryDates))
+                .build();
+    }
+
+    // The embedded animal summary follows the animal, which has its own version
+    private record Projection(Feeding source, long version, Animal animal, long animalVersion, Enclosure enclosure,
+                              FeedingResponse response) {
+
+        boolean isCurrent(Feeding schedule) {
+            Animal current = schedule.getAnimal();
+            return source == schedule
+                    && version == schedule.getVersion()
+                    && animal == current
+                    && animalVersion == current.getVersion()
+                    && enclosure == current.getCurrentEnclosure();
+        }
+    }
+}
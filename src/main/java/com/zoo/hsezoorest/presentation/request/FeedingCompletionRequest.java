@@ -0,0 +1,22 @@
+package com.zoo.hsezoorest.presentation.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedingCompletionRequest {
+
+    public static final int MAX_FEEDINGS = 10000;
+
+    @NotEmpty(message = "At least one feeding schedule ID is required")
+    @Size(max = MAX_FEEDINGS, message = "At most " + MAX_FEEDINGS + " feedings can be completed at once")
+    private List<@NotBlank(message = "Feeding schedule IDs must not be blank") String> feedingIds;
+}
@@ -0,0 +1,45 @@
+package com.zoo.hsezoorest.presentation.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdsRequest {
+
+    public static final int MAX_IDS = 500;
+
+    @NotEmpty(message = "At least one ID is required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " IDs can be requested at once")
+    private List<@NotBlank(message = "IDs must not be blank") String> ids;
+
+    // Keeps the request order and drops repeated ids
+    public static <I> Set<I> parse(Collection<String> ids, Function<String, I> parser) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("At least one ID is required");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " IDs can be requested at once");
+        }
+
+        Set<I> parsed = new LinkedHashSet<>(ids.size() * 2);
+        for (String id : ids) {
+            if (id == null || id.isBlank()) {
+                throw new IllegalArgumentException("IDs must not be blank");
+            }
+            parsed.add(parser.apply(id.trim()));
+        }
+        return parsed;
+    }
+}
@@ -0,0 +1,50 @@
+package com.zoo.hsezoorest.presentation.response;
+
+import com.zoo.hsezoorest.application.dto.enclosure.EnclosureDashboard;
+import com.zoo.hsezoorest.domain.model.animal.HealthStatus;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EnclosureDashboardResponse {
+    private EnclosureResponse enclosure;
+    private List<ResidentInfo> residents;
+    private long sickAnimals;
+    private long pendingFeedings;
+    private long completedFeedings;
+    private LocalDateTime generatedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ResidentInfo {
+        private String id;
+        private String name;
+        private String species;
+        private HealthStatus healthStatus;
+        private List<FeedingInfo> feedings;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FeedingInfo {
+        private String id;
+        private LocalTime feedingTime;
+        private FoodType foodType;
+        private EnclosureDashboard.FeedingStatus status;
+        private LocalDateTime lastFedTime;
+    }
+}
@@ -1,37 +1,31 @@
 package com.zoo.hsezoorest.presentation.response;
 
 import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
-import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Value;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
-@Data
+@Value
 @Builder
-@NoArgsConstructor
-@AllArgsConstructor
 public class EnclosureResponse {
-    private String id;
-    private EnclosureType type;
-    private int capacity;
-    private int currentAnimalCount;
-    private int remainingCapacity;
-    private boolean isClean;
-    private LocalDateTime lastCleaningTime;
-    private List<AnimalInfo> animals;
+    String id;
+    EnclosureType type;
+    int capacity;
+    int currentAnimalCount;
+    int remainingCapacity;
+    boolean isClean;
+    LocalDateTime lastCleaningTime;
+    List<AnimalInfo> animals;
 
-    @Data
+    @Value
     @Builder
-    @NoArgsConstructor
-    @AllArgsConstructor
     public static class AnimalInfo {
-        private String id;
-        private String name;
-        private String species;
-        private HealthStatus status;
+        String id;
+        String name;
+        String species;
+        HealthStatus status;
 
         public enum HealthStatus {
             HEALTHY, SICK, UNDER_OBSERVATION
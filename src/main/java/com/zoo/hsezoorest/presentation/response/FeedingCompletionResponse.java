@@ -0,0 +1,29 @@
+package com.zoo.hsezoorest.presentation.response;
+
+import com.zoo.hsezoorest.application.dto.feeding.FeedingCompletionResult;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedingCompletionResponse {
+    private int completed;
+    private int alreadyCompleted;
+    private int notFound;
+    private List<ItemResult> results;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        private String id;
+        private FeedingCompletionResult.Outcome outcome;
+    }
+}
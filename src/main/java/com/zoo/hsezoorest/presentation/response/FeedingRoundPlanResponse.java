@@ -0,0 +1,47 @@
+package com.zoo.hsezoorest.presentation.response;
+
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FeedingRoundPlanResponse {
+    private LocalTime plannedFor;
+    private int totalFeedings;
+    private Map<FoodType, Integer> foodTotals;
+    private List<RoundInfo> rounds;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RoundInfo {
+        private String enclosureId;
+        private EnclosureType enclosureType;
+        private FoodType foodType;
+        private LocalTime startTime;
+        private int portions;
+        private List<FeedingInfo> feedings;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FeedingInfo {
+        private String id;
+        private String animalId;
+        private String animalName;
+        private LocalTime feedingTime;
+    }
+}
@@ -0,0 +1,33 @@
+package com.zoo.hsezoorest.presentation.response;
+
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FoodDemandForecastResponse {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Map<FoodType, Long> totals;
+    private long totalPortions;
+    private List<DailyDemandInfo> days;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DailyDemandInfo {
+        private LocalDate date;
+        private Map<FoodType, Long> portions;
+    }
+}
@@ -0,0 +1,46 @@
+package com.zoo.hsezoorest.presentation.response;
+
+import com.zoo.hsezoorest.domain.model.shared.CompactId;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LookupResponse<T> {
+    private List<T> items;
+    private List<String> missingIds;
+
+    public static <I extends CompactId, E, T> LookupResponse<T> of(Collection<I> requestedIds,
+                                                                  List<E> found,
+                                                                  Function<E, I> idOf,
+                                                                  Function<List<E>, List<T>> mapper) {
+        List<String> missingIds = new ArrayList<>();
+        if (found.size() < requestedIds.size()) {
+            Set<I> foundIds = new HashSet<>(found.size() * 2);
+            for (E entity : found) {
+                foundIds.add(idOf.apply(entity));
+            }
+            for (I id : requestedIds) {
+                if (!foundIds.contains(id)) {
+                    missingIds.add(id.getValue());
+                }
+            }
+        }
+
+        return LookupResponse.<T>builder()
+                .items(mapper.apply(found))
+                .missingIds(missingIds)
+                .build();
+    }
+}
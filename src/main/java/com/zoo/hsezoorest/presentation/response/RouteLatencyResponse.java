@@ -0,0 +1,34 @@
+package com.zoo.hsezoorest.presentation.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RouteLatencyResponse {
+    private String method;
+    private String route;
+    private int status;
+    private long count;
+    private Percentiles total;
+    private Map<String, Percentiles> phases;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Percentiles {
+        private double p50Millis;
+        private double p95Millis;
+        private double p99Millis;
+        private double p999Millis;
+        private double maxMillis;
+        private double meanMillis;
+    }
+}
@@ -0,0 +1,40 @@
+package com.zoo.hsezoorest.presentation.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+// Responses carry second-resolution timestamps, so the text is formatted once per second and reused
+public class TimestampSerializer extends StdSerializer<LocalDateTime> {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static volatile FormattedSecond last = new FormattedSecond(Long.MIN_VALUE, null);
+
+    public TimestampSerializer() {
+        super(LocalDateTime.class);
+    }
+
+    @Override
+    public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeString(format(value));
+    }
+
+    public static String format(LocalDateTime timestamp) {
+        long second = timestamp.toEpochSecond(ZoneOffset.UTC);
+        FormattedSecond formatted = last;
+        if (formatted.second != second) {
+            formatted = new FormattedSecond(second, FORMATTER.format(timestamp));
+            last = formatted;
+        }
+        return formatted.text;
+    }
+
+    private record FormattedSecond(long second, String text) {
+    }
+}
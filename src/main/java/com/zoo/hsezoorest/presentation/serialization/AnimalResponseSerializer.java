@@ -0,0 +1,69 @@
+package com.zoo.hsezoorest.presentation.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.zoo.hsezoorest.presentation.response.AnimalResponse;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+// Same output as the bean serializer under spring.jackson.default-property-inclusion=non_null
+@JsonComponent
+public class AnimalResponseSerializer extends StdSerializer<AnimalResponse> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString SPECIES = new SerializedString("species");
+    private static final SerializedString BIRTH_DATE = new SerializedString("birthDate");
+    private static final SerializedString GENDER = new SerializedString("gender");
+    private static final SerializedString FAVORITE_FOOD = new SerializedString("favoriteFood");
+    private static final SerializedString HEALTH_STATUS = new SerializedString("healthStatus");
+    private static final SerializedString CURRENT_ENCLOSURE = new SerializedString("currentEnclosure");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString PREDATOR = new SerializedString("predator");
+
+    public AnimalResponseSerializer() {
+        super(AnimalResponse.class);
+    }
+
+    @Override
+    public void serialize(AnimalResponse animal, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(animal);
+        writeString(generator, ID, animal.getId());
+        writeString(generator, NAME, animal.getName());
+        writeString(generator, SPECIES, animal.getSpecies());
+        if (animal.getBirthDate() != null) {
+            generator.writeFieldName(BIRTH_DATE);
+            JavaTimeWriter.writeDate(generator, animal.getBirthDate());
+        }
+        if (animal.getGender() != null) {
+            generator.writeFieldName(GENDER);
+            generator.writeString(animal.getGender().name());
+        }
+        writeString(generator, FAVORITE_FOOD, animal.getFavoriteFood());
+        if (animal.getHealthStatus() != null) {
+            generator.writeFieldName(HEALTH_STATUS);
+            generator.writeString(animal.getHealthStatus().name());
+        }
+        AnimalResponse.EnclosureInfo enclosure = animal.getCurrentEnclosure();
+        if (enclosure != null) {
+            generator.writeFieldName(CURRENT_ENCLOSURE);
+            generator.writeStartObject(enclosure);
+            writeString(generator, ID, enclosure.getId());
+            writeString(generator, TYPE, enclosure.getType());
+            generator.writeEndObject();
+        }
+        generator.writeFieldName(PREDATOR);
+        generator.writeBoolean(animal.isPredator());
+        generator.writeEndObject();
+    }
+
+    static void writeString(JsonGenerator generator, SerializedString name, String value) throws IOException {
+        if (value != null) {
+            generator.writeFieldName(name);
+            generator.writeString(value);
+        }
+    }
+}
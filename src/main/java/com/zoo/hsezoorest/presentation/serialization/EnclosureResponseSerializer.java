@@ -0,0 +1,73 @@
+package com.zoo.hsezoorest.presentation.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.zoo.hsezoorest.presentation.response.EnclosureResponse;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+import static com.zoo.hsezoorest.presentation.serialization.AnimalResponseSerializer.writeString;
+
+// Same output as the bean serializer under spring.jackson.default-property-inclusion=non_null
+@JsonComponent
+public class EnclosureResponseSerializer extends StdSerializer<EnclosureResponse> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString TYPE = new SerializedString("type");
+    private static final SerializedString CAPACITY = new SerializedString("capacity");
+    private static final SerializedString CURRENT_ANIMAL_COUNT = new SerializedString("currentAnimalCount");
+    private static final SerializedString REMAINING_CAPACITY = new SerializedString("remainingCapacity");
+    private static final SerializedString LAST_CLEANING_TIME = new SerializedString("lastCleaningTime");
+    private static final SerializedString ANIMALS = new SerializedString("animals");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString SPECIES = new SerializedString("species");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CLEAN = new SerializedString("clean");
+
+    public EnclosureResponseSerializer() {
+        super(EnclosureResponse.class);
+    }
+
+    @Override
+    public void serialize(EnclosureResponse enclosure, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(enclosure);
+        writeString(generator, ID, enclosure.getId());
+        if (enclosure.getType() != null) {
+            generator.writeFieldName(TYPE);
+            generator.writeString(enclosure.getType().name());
+        }
+        generator.writeFieldName(CAPACITY);
+        generator.writeNumber(enclosure.getCapacity());
+        generator.writeFieldName(CURRENT_ANIMAL_COUNT);
+        generator.writeNumber(enclosure.getCurrentAnimalCount());
+        generator.writeFieldName(REMAINING_CAPACITY);
+        generator.writeNumber(enclosure.getRemainingCapacity());
+        if (enclosure.getLastCleaningTime() != null) {
+            generator.writeFieldName(LAST_CLEANING_TIME);
+            JavaTimeWriter.writeDateTime(generator, enclosure.getLastCleaningTime());
+        }
+        if (enclosure.getAnimals() != null) {
+            generator.writeFieldName(ANIMALS);
+            generator.writeStartArray(enclosure.getAnimals(), enclosure.getAnimals().size());
+            for (EnclosureResponse.AnimalInfo animal : enclosure.getAnimals()) {
+                generator.writeStartObject(animal);
+                writeString(generator, ID, animal.getId());
+                writeString(generator, NAME, animal.getName());
+                writeString(generator, SPECIES, animal.getSpecies());
+                if (animal.getStatus() != null) {
+                    generator.writeFieldName(STATUS);
+                    generator.writeString(animal.getStatus().name());
+                }
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+        generator.writeFieldName(CLEAN);
+        generator.writeBoolean(enclosure.isClean());
+        generator.writeEndObject();
+    }
+}
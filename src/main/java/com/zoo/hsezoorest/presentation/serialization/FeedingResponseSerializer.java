@@ -0,0 +1,76 @@
+package com.zoo.hsezoorest.presentation.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.zoo.hsezoorest.presentation.response.FeedingResponse;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+import static com.zoo.hsezoorest.presentation.serialization.AnimalResponseSerializer.writeString;
+
+// Same output as the bean serializer under spring.jackson.default-property-inclusion=non_null
+@JsonComponent
+public class FeedingResponseSerializer extends StdSerializer<FeedingResponse> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString ANIMAL = new SerializedString("animal");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString SPECIES = new SerializedString("species");
+    private static final SerializedString ENCLOSURE_ID = new SerializedString("enclosureId");
+    private static final SerializedString FEEDING_TIME = new SerializedString("feedingTime");
+    private static final SerializedString FOOD_TYPE = new SerializedString("foodType");
+    private static final SerializedString LAST_FED_TIME = new SerializedString("lastFedTime");
+    private static final SerializedString FEEDING_HISTORY = new SerializedString("feedingHistory");
+    private static final SerializedString COMPLETED = new SerializedString("completed");
+
+    public FeedingResponseSerializer() {
+        super(FeedingResponse.class);
+    }
+
+    @Override
+    public void serialize(FeedingResponse feeding, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(feeding);
+        writeString(generator, ID, feeding.getId());
+        FeedingResponse.AnimalInfo animal = feeding.getAnimal();
+        if (animal != null) {
+            generator.writeFieldName(ANIMAL);
+            generator.writeStartObject(animal);
+            writeString(generator, ID, animal.getId());
+            writeString(generator, NAME, animal.getName());
+            writeString(generator, SPECIES, animal.getSpecies());
+            writeString(generator, ENCLOSURE_ID, animal.getEnclosureId());
+            generator.writeEndObject();
+        }
+        if (feeding.getFeedingTime() != null) {
+            generator.writeFieldName(FEEDING_TIME);
+            JavaTimeWriter.writeTime(generator, feeding.getFeedingTime());
+        }
+        if (feeding.getFoodType() != null) {
+            generator.writeFieldName(FOOD_TYPE);
+            generator.writeString(feeding.getFoodType().name());
+        }
+        if (feeding.getLastFedTime() != null) {
+            generator.writeFieldName(LAST_FED_TIME);
+            JavaTimeWriter.writeDateTime(generator, feeding.getLastFedTime());
+        }
+        if (feeding.getFeedingHistory() != null) {
+            generator.writeFieldName(FEEDING_HISTORY);
+            generator.writeStartArray(feeding.getFeedingHistory(), feeding.getFeedingHistory().size());
+            for (String date : feeding.getFeedingHistory()) {
+                if (date != null) {
+                    generator.writeString(date);
+                } else {
+                    generator.writeNull();
+                }
+            }
+            generator.writeEndArray();
+        }
+        generator.writeFieldName(COMPLETED);
+        generator.writeBoolean(feeding.isCompleted());
+        generator.writeEndObject();
+    }
+}
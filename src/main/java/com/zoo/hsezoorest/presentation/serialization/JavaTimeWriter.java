@@ -0,0 +1,94 @@
+package com.zoo.hsezoorest.presentation.serialization;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes the same text as {@link DateTimeFormatter#ISO_LOCAL_DATE}, {@code ISO_LOCAL_TIME} and
+ * {@code ISO_LOCAL_DATE_TIME} (what jackson-datatype-jsr310 emits), straight from the fields.
+ */
+final class JavaTimeWriter {
+
+    private static final int MAX_LENGTH = 29;
+
+    private JavaTimeWriter() {
+    }
+
+    static void writeDate(JsonGenerator generator, LocalDate date) throws IOException {
+        if (!hasFourDigitYear(date)) {
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE.format(date));
+            return;
+        }
+        char[] buffer = new char[10];
+        int length = appendDate(buffer, 0, date);
+        generator.writeString(buffer, 0, length);
+    }
+
+    static void writeTime(JsonGenerator generator, LocalTime time) throws IOException {
+        char[] buffer = new char[18];
+        int length = appendTime(buffer, 0, time);
+        generator.writeString(buffer, 0, length);
+    }
+
+    static void writeDateTime(JsonGenerator generator, LocalDateTime dateTime) throws IOException {
+        if (!hasFourDigitYear(dateTime.toLocalDate())) {
+            generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime));
+            return;
+        }
+        char[] buffer = new char[MAX_LENGTH];
+        int length = appendDate(buffer, 0, dateTime.toLocalDate());
+        buffer[length++] = 'T';
+        length = appendTime(buffer, length, dateTime.toLocalTime());
+        generator.writeString(buffer, 0, length);
+    }
+
+    private static boolean hasFourDigitYear(LocalDate date) {
+        return date.getYear() >= 0 && date.getYear() <= 9999;
+    }
+
+    private static int appendDate(char[] buffer, int offset, LocalDate date) {
+        int year = date.getYear();
+        offset = appendTwoDigits(buffer, offset, year / 100);
+        offset = appendTwoDigits(buffer, offset, year % 100);
+        buffer[offset++] = '-';
+        offset = appendTwoDigits(buffer, offset, date.getMonthValue());
+        buffer[offset++] = '-';
+        return appendTwoDigits(buffer, offset, date.getDayOfMonth());
+    }
+
+    // Seconds are always written; the fraction only when non-zero, without trailing zeros
+    private static int appendTime(char[] buffer, int offset, LocalTime time) {
+        offset = appendTwoDigits(buffer, offset, time.getHour());
+        buffer[offset++] = ':';
+        offset = appendTwoDigits(buffer, offset, time.getMinute());
+        buffer[offset++] = ':';
+        offset = appendTwoDigits(buffer, offset, time.getSecond());
+
+        int nano = time.getNano();
+        if (nano == 0) {
+            return offset;
+        }
+        buffer[offset++] = '.';
+        int digits = 9;
+        while (nano % 10 == 0) {
+            nano /= 10;
+            digits--;
+        }
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + nano % 10);
+            nano /= 10;
+        }
+        return offset + digits;
+    }
+
+    private static int appendTwoDigits(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+        return offset + 2;
+    }
+}
@@ -0,0 +1,62 @@
+package com.zoo.hsezoorest.application.dto;
+
+import com.zoo.hsezoorest.application.dto.animal.CreateAnimalDto;
+import com.zoo.hsezoorest.application.dto.enclosure.CreateEnclosureDto;
+import com.zoo.hsezoorest.application.dto.feeding.CreateFeedingDto;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CreateDtoValidationTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Test
+    void validate_shouldRejectIncompleteCreateAnimalDto() {
+        // Arrange
+        CreateAnimalDto dto = CreateAnimalDto.builder()
+                .name("Leo")
+                .species(" ")
+                .birthDate(LocalDate.now().plusDays(1))
+                .gender(Gender.MALE)
+                .build();
+
+        // Act
+        Set<String> invalid = invalidFields(dto);
+
+        // Assert
+        assertEquals(Set.of("species", "birthDate", "favoriteFood"), invalid);
+    }
+
+    @Test
+    void validate_shouldRejectCreateEnclosureDtoWithoutRoom() {
+        // Act & Assert
+        assertEquals(Set.of("capacity"), invalidFields(new CreateEnclosureDto(EnclosureType.PREDATOR, 0)));
+        assertTrue(invalidFields(new CreateEnclosureDto(EnclosureType.PREDATOR, 2)).isEmpty());
+    }
+
+    @Test
+    void validate_shouldRejectCreateFeedingDtoWithoutAnimalOrTime() {
+        // Act & Assert
+        assertEquals(Set.of("animalId", "feedingTime"), invalidFields(new CreateFeedingDto("", null, FoodType.MEAT)));
+        assertTrue(invalidFields(new CreateFeedingDto("a-1", LocalTime.NOON, FoodType.MEAT)).isEmpty());
+    }
+
+    private Set<String> invalidFields(Object dto) {
+        return validator.validate(dto).stream()
+                .map(ConstraintViolation::getPropertyPath)
+                .map(Object::toString)
+                .collect(Collectors.toSet());
+    }
+}
@@ -1,15 +1,24 @@
 package com.zoo.hsezoorest.application.service;
 
+import com.zoo.hsezoorest.application.exception.ConcurrentUpdateException;
+import com.zoo.hsezoorest.application.exception.EnclosureFullExpection;
 import com.zoo.hsezoorest.domain.event.AnimalMovedEvent;
 import com.zoo.hsezoorest.domain.model.animal.Animal;
 import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.animal.FavoriteFood;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
 import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.enclosure.Capacity;
 import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
 import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
 import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
 import com.zoo.hsezoorest.domain.repository.AnimalRepository;
 import com.zoo.hsezoorest.domain.repository.EnclosureRepository;
 import com.zoo.hsezoorest.infrastructure.event.EventPublisher;
+import com.zoo.hsezoorest.infrastructure.persistence.EntityChangeNotifier;
+import com.zoo.hsezoorest.infrastructure.persistence.WriteSequence;
+import com.zoo.hsezoorest.infrastructure.persistence.inmemory.InMemoryAnimalRepository;
+import com.zoo.hsezoorest.infrastructure.persistence.inmemory.InMemoryEnclosureRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -19,12 +28,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.mockito.stubbing.Answer;
 
 import javax.persistence.EntityNotFoundException;
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -81,17 +93,23 @@ class AnimalTransferServiceTest {
         when(mockAnimal.getCurrentEnclosure()).thenReturn(mockSourceEnclosure);
         when(mockSourceEnclosure.getId()).thenReturn(sourceEnclosureId);
         when(mockTargetEnclosure.hasAvailableSpace()).thenReturn(true);
-        when(mockTargetEnclosure.canHouseAnimal(mockAnimal)).thenReturn(true);
+        when(mockTargetEnclosure.canHouse(mockSpecies)).thenReturn(true);
         when(mockAnimal.getName()).thenReturn("Simba");
         when(mockSpecies.getValue()).thenReturn("Lion");
+        when(mockAnimalRepository.update(eq(animalId), anyLong(), any())).thenAnswer(applyTo(mockAnimal));
+        when(mockEnclosureRepository.update(eq(targetEnclosureId), anyLong(), any())).thenAnswer(applyTo(mockTargetEnclosure));
+        when(mockEnclosureRepository.update(eq(sourceEnclosureId), anyLong(), any())).thenAnswer(applyTo(mockSourceEnclosure));
 
         // Act
         Animal resultAnimal = animalTransferService.transferAnimal(animalId, targetEnclosureId, reason);
 
         // Assert
         assertEquals(mockAnimal, resultAnimal);
-        verify(mockAnimal).moveToEnclosure(mockTargetEnclosure); // Verify domain object method was called
-        verify(mockAnimalRepository).save(mockAnimal); // Verify animal was saved
+        verify(mockTargetEnclosure).addAnimal(mockAnimal, mockSpecies);
+        verify(mockSourceEnclosure).removeAnimal(mockAnimal);
+        verify(mockAnimal).relocateTo(mockTargetEnclosure);
+        verify(mockAnimalRepository, never()).save(any());
+        verify(mockEnclosureRepository, never()).save(any());
 
         // Verify event publication
         ArgumentCaptor<AnimalMovedEvent> eventCaptor = ArgumentCaptor.forClass(AnimalMovedEvent.class);
@@ -117,7 +135,7 @@ class AnimalTransferServiceTest {
         });
         verify(mockEnclosureRepository, never()).findById(any());
         verify(mockAnimal, never()).moveToEnclosure(any());
-        verify(mockAnimalRepository, never()).save(any());
+        verify(mockAnimalRepository, never()).update(any(), anyLong(), any());
         verify(mockEventPublisher, never()).publish(any());
     }
 
@@ -137,7 +155,7 @@ class AnimalTransferServiceTest {
             animalTransferService.transferAnimal(animalId, targetEnclosureId, "Test");
         });
         verify(mockAnimal, never()).moveToEnclosure(any());
-        verify(mockAnimalRepository, never()).save(any());
+        verify(mockAnimalRepository, never()).update(any(), anyLong(), any());
         verify(mockEventPublisher, never()).publish(any());
     }
 
@@ -158,7 +176,7 @@ class AnimalTransferServiceTest {
             animalTransferService.transferAnimal(animalId, targetEnclosureId, "Test");
         });
         verify(mockAnimal, never()).moveToEnclosure(any());
-        verify(mockAnimalRepository, never()).save(any());
+        verify(mockAnimalRepository, never()).update(any(), anyLong(), any());
         verify(mockEventPublisher, never()).publish(any());
     }
 
@@ -173,7 +191,7 @@ class AnimalTransferServiceTest {
         when(mockAnimalRepository.findById(animalId)).thenReturn(Optional.of(mockAnimal));
         when(mockEnclosureRepository.findById(targetEnclosureId)).thenReturn(Optional.of(mockTargetEnclosure));
         when(mockTargetEnclosure.hasAvailableSpace()).thenReturn(true);
-        when(mockTargetEnclosure.canHouseAnimal(mockAnimal)).thenReturn(false); // Incompatible
+        when(mockTargetEnclosure.canHouse(mockSpecies)).thenReturn(false); // Incompatible
         when(mockSpecies.getValue()).thenReturn("Tiger");
         when(mockTargetEnclosure.getType()).thenReturn(EnclosureType.HERBIVORE); // Example
 
@@ -184,7 +202,7 @@ class AnimalTransferServiceTest {
         assertTrue(exception.getMessage().contains("Tiger"));
         assertTrue(exception.getMessage().contains("HERBIVORE"));
         verify(mockAnimal, never()).moveToEnclosure(any());
-        verify(mockAnimalRepository, never()).save(any());
+        verify(mockAnimalRepository, never()).update(any(), anyLong(), any());
         verify(mockEventPublisher, never()).publish(any());
     }
 
@@ -203,9 +221,11 @@ class AnimalTransferServiceTest {
         when(mockEnclosureRepository.findById(targetEnclosureId)).thenReturn(Optional.of(mockTargetEnclosure));
         when(mockAnimal.getCurrentEnclosure()).thenReturn(null); // Initial assignment
         when(mockTargetEnclosure.hasAvailableSpace()).thenReturn(true);
-        when(mockTargetEnclosure.canHouseAnimal(mockAnimal)).thenReturn(true);
+        when(mockTargetEnclosure.canHouse(mockSpecies)).thenReturn(true);
         when(mockAnimal.getName()).thenReturn("Simba");
         when(mockSpecies.getValue()).thenReturn("Lion");
+        when(mockAnimalRepository.update(eq(animalId), anyLong(), any())).thenAnswer(applyTo(mockAnimal));
+        when(mockEnclosureRepository.update(eq(targetEnclosureId), anyLong(), any())).thenAnswer(applyTo(mockTargetEnclosure));
 
         // Act
         serviceSpy.assignToEnclosure(animalId, targetEnclosureId);
@@ -215,6 +235,106 @@ class AnimalTransferServiceTest {
         verify(mockEventPublisher).publish(any(AnimalMovedEvent.class)); // Ensure event still published
     }
 
+    @Test
+    void transferAnimal_shouldFailWithoutMovingAnyone_whenTargetChangedConcurrently() {
+        // Arrange
+        EntityChangeNotifier notifier = mock(EntityChangeNotifier.class);
+        WriteSequence writeSequence = new WriteSequence();
+        InMemoryAnimalRepository animals = spy(new InMemoryAnimalRepository(notifier, writeSequence));
+        InMemoryEnclosureRepository enclosures = new InMemoryEnclosureRepository(notifier, writeSequence);
+        AnimalTransferService service = new AnimalTransferService(animals, enclosures, mockEventPublisher);
+
+        Animal lion = new Animal(AnimalId.create(), Species.predator("Lion"), "Nala", LocalDate.of(2020, 1, 1),
+                Gender.FEMALE, FavoriteFood.of("Meat"));
+        Enclosure source = new Enclosure(EnclosureId.create(), EnclosureType.PREDATOR, Capacity.of(2));
+        Enclosure target = new Enclosure(EnclosureId.create(), EnclosureType.PREDATOR, Capacity.of(2));
+        lion.moveToEnclosure(source);
+        animals.save(lion);
+        enclosures.save(source);
+        enclosures.save(target);
+
+        // Another request cleans the target after the transfer has read it
+        doAnswer(invocation -> {
+            enclosures.update(target.getId(), Enclosure::markAsDirty);
+            return invocation.callRealMethod();
+        }).when(animals).update(eq(lion.getId()), anyLong(), any());
+
+        // Act & Assert
+        assertThrows(ConcurrentUpdateException.class,
+                () -> service.transferAnimal(lion.getId(), target.getId(), "Test"));
+        assertSame(source, lion.getCurrentEnclosure());
+        assertEquals(List.of(lion), source.getAnimals());
+        assertTrue(target.getAnimals().isEmpty());
+        verify(mockEventPublisher, never()).publish(any());
+    }
+
+    @Test
+    void updateAnimal_shouldChangeSpeciesAndMove_whenOnlyTheTargetFitsTheNewSpecies() {
+        // Arrange
+        EntityChangeNotifier notifier = mock(EntityChangeNotifier.class);
+        WriteSequence writeSequence = new WriteSequence();
+        InMemoryAnimalRepository animals = new InMemoryAnimalRepository(notifier, writeSequence);
+        InMemoryEnclosureRepository enclosures = new InMemoryEnclosureRepository(notifier, writeSequence);
+        AnimalTransferService service = new AnimalTransferService(animals, enclosures, mockEventPublisher);
+
+        Animal animal = new Animal(AnimalId.create(), Species.predator("Lion"), "Nala", LocalDate.of(2020, 1, 1),
+                Gender.FEMALE, FavoriteFood.of("Meat"));
+        Enclosure source = new Enclosure(EnclosureId.create(), EnclosureType.PREDATOR, Capacity.of(2));
+        Enclosure target = new Enclosure(EnclosureId.create(), EnclosureType.HERBIVORE, Capacity.of(2));
+        animal.moveToEnclosure(source);
+        animals.save(animal);
+        enclosures.save(source);
+        enclosures.save(target);
+
+        // Act
+        Animal updated = service.updateAnimal(animal.getId(), animal.getVersion(), Species.herbivore("Zebra"),
+                "Marty", LocalDate.of(2020, 1, 1), Gender.MALE, FavoriteFood.of("Hay"), target.getId());
+
+        // Assert
+        assertEquals("Zebra", updated.getSpecies().getValue());
+        assertEquals("Marty", updated.getName());
+        assertSame(target, updated.getCurrentEnclosure());
+        assertEquals(List.of(animal), target.getAnimals());
+        assertTrue(source.getAnimals().isEmpty());
+        verify(mockEventPublisher).publish(any(AnimalMovedEvent.class));
+    }
+
+    @Test
+    void updateAnimal_shouldKeepDetailsAndVersion_whenMoveIsRejected() {
+        // Arrange
+        EntityChangeNotifier notifier = mock(EntityChangeNotifier.class);
+        WriteSequence writeSequence = new WriteSequence();
+        InMemoryAnimalRepository animals = new InMemoryAnimalRepository(notifier, writeSequence);
+        InMemoryEnclosureRepository enclosures = new InMemoryEnclosureRepository(notifier, writeSequence);
+        AnimalTransferService service = new AnimalTransferService(animals, enclosures, mockEventPublisher);
+
+        Animal animal = new Animal(AnimalId.create(), Species.predator("Lion"), "Nala", LocalDate.of(2020, 1, 1),
+                Gender.FEMALE, FavoriteFood.of("Meat"));
+        Animal resident = new Animal(AnimalId.create(), Species.predator("Tiger"), "Rajah", LocalDate.of(2019, 1, 1),
+                Gender.MALE, FavoriteFood.of("Meat"));
+        Enclosure source = new Enclosure(EnclosureId.create(), EnclosureType.PREDATOR, Capacity.of(2));
+        Enclosure full = new Enclosure(EnclosureId.create(), EnclosureType.PREDATOR, Capacity.of(1));
+        animal.moveToEnclosure(source);
+        resident.moveToEnclosure(full);
+        animals.save(animal);
+        animals.save(resident);
+        enclosures.save(source);
+        enclosures.save(full);
+        long version = animal.getVersion();
+
+        // Act
+        assertThrows(EnclosureFullExpection.class, () -> service.updateAnimal(animal.getId(), version,
+                Species.predator("Lion"), "Renamed", LocalDate.of(2020, 1, 1), Gender.FEMALE,
+                FavoriteFood.of("Fish"), full.getId()));
+
+        // Assert
+        assertEquals("Nala", animal.getName());
+        assertEquals("Meat", animal.getFavoriteFood().getValue());
+        assertEquals(version, animal.getVersion());
+        assertSame(source, animal.getCurrentEnclosure());
+        verify(mockEventPublisher, never()).publish(any());
+    }
+
     // --- Tests for findSuitableEnclosures ---
 
     @Test
@@ -294,4 +414,11 @@ class AnimalTransferServiceTest {
 
     // TODO: Add tests for findSuitableEnclosures
 
+    @SuppressWarnings("unchecked")
+    private static <T> Answer<Optional<T>> applyTo(T entity) {
+        return invocation -> {
+            invocation.getArgument(2, Consumer.class).accept(entity);
+            return Optional.of(entity);
+        };
+    }
 } 
\ No newline at end of file
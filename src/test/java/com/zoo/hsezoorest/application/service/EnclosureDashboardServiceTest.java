@@ -0,0 +1,97 @@
+package com.zoo.hsezoorest.application.service;
+
+import com.zoo.hsezoorest.application.dto.enclosure.EnclosureDashboard;
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.animal.FavoriteFood;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.enclosure.Capacity;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingTime;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import com.zoo.hsezoorest.domain.repository.EnclosureRepository;
+import com.zoo.hsezoorest.domain.repository.FeedingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.EntityNotFoundException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EnclosureDashboardServiceTest {
+
+    @Mock
+    private EnclosureRepository mockEnclosureRepository;
+    @Mock
+    private FeedingRepository mockFeedingRepository;
+
+    @InjectMocks
+    private EnclosureDashboardService dashboardService;
+
+    @Test
+    void getDashboard_shouldGroupFeedingsByResidentWithTodaysStatus() {
+        // Arrange
+        Enclosure enclosure = new Enclosure(EnclosureId.create(), EnclosureType.HERBIVORE, Capacity.of(4));
+        Animal zebra = animal("Marty");
+        Animal giraffe = animal("Melman");
+        giraffe.markAsSick();
+        enclosure.addAnimal(zebra);
+        enclosure.addAnimal(giraffe);
+
+        Feeding evening = new Feeding(FeedingId.create(), zebra, FeedingTime.of(LocalTime.MAX), FoodType.HAY);
+        Feeding midnight = new Feeding(FeedingId.create(), zebra, FeedingTime.of(LocalTime.MIDNIGHT), FoodType.HAY);
+        Feeding completed = new Feeding(FeedingId.create(), giraffe, FeedingTime.of(LocalTime.MIDNIGHT), FoodType.FRUITS);
+        completed.markAsCompleted();
+
+        when(mockEnclosureRepository.findById(enclosure.getId())).thenReturn(Optional.of(enclosure));
+        when(mockFeedingRepository.findByAnimalIds(List.of(zebra.getId(), giraffe.getId())))
+                .thenReturn(List.of(evening, completed, midnight));
+
+        // Act
+        EnclosureDashboard dashboard = dashboardService.getDashboard(enclosure.getId());
+
+        // Assert
+        assertEquals(2, dashboard.getResidents().size());
+        EnclosureDashboard.Resident first = dashboard.getResidents().get(0);
+        assertSame(zebra, first.getAnimal());
+        assertSame(midnight, first.getFeedings().get(0).getFeeding());
+        assertEquals(EnclosureDashboard.FeedingStatus.PENDING, first.getFeedings().get(0).getStatus());
+        assertSame(evening, first.getFeedings().get(1).getFeeding());
+        assertEquals(EnclosureDashboard.FeedingStatus.COMPLETED,
+                dashboard.getResidents().get(1).getFeedings().get(0).getStatus());
+        assertEquals(1, dashboard.getSickAnimals());
+        assertEquals(1, dashboard.getCompletedFeedings());
+        verify(mockFeedingRepository, never()).findAll();
+        verify(mockFeedingRepository, never()).findByAnimalId(any());
+    }
+
+    @Test
+    void getDashboard_shouldThrow_whenEnclosureDoesNotExist() {
+        // Arrange
+        EnclosureId enclosureId = EnclosureId.create();
+        when(mockEnclosureRepository.findById(enclosureId)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> dashboardService.getDashboard(enclosureId));
+        verifyNoInteractions(mockFeedingRepository);
+    }
+
+    private Animal animal(String name) {
+        return new Animal(AnimalId.create(), Species.herbivore("Zebra"), name, LocalDate.of(2020, 1, 1), Gender.FEMALE, FavoriteFood.of("Hay"));
+    }
+}
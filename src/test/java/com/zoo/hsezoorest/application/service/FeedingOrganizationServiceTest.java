@@ -1,6 +1,8 @@
 package com.zoo.hsezoorest.application.service;
 
+import com.zoo.hsezoorest.application.dto.feeding.FeedingCompletionResult;
 import com.zoo.hsezoorest.domain.event.FeedingTimeEvent;
+import com.zoo.hsezoorest.domain.event.FeedingsCompletedEvent;
 import com.zoo.hsezoorest.domain.model.animal.Animal;
 import com.zoo.hsezoorest.domain.model.animal.AnimalId;
 import com.zoo.hsezoorest.domain.model.animal.Species;
@@ -166,6 +168,53 @@ class FeedingOrganizationServiceTest {
         verify(mockFeedingRepository, never()).save(mockFeeding); // Should not save again
     }
 
+    @Test
+    void completeFeedingSchedules_shouldReportOutcomesInOrderAndSaveOnce() {
+        // Arrange
+        Feeding alreadyDone = mock(Feeding.class);
+        FeedingId alreadyDoneId = FeedingId.create();
+        FeedingId missingId = FeedingId.create();
+        when(alreadyDone.getId()).thenReturn(alreadyDoneId);
+        when(alreadyDone.markAsCompleted()).thenReturn(false);
+        when(mockFeeding.markAsCompleted()).thenReturn(true);
+        when(mockFeeding.getFoodType()).thenReturn(FoodType.HAY);
+        when(mockFeedingRepository.findAllById(anyCollection())).thenReturn(List.of(alreadyDone, mockFeeding));
+
+        // Act
+        FeedingCompletionResult result = feedingService.completeFeedingSchedules(
+                List.of(missingId, feedingId, alreadyDoneId, feedingId));
+
+        // Assert
+        assertEquals(3, result.getItems().size());
+        assertEquals(FeedingCompletionResult.Outcome.NOT_FOUND, result.getItems().get(0).getOutcome());
+        assertEquals(FeedingCompletionResult.Outcome.COMPLETED, result.getItems().get(1).getOutcome());
+        assertEquals(FeedingCompletionResult.Outcome.ALREADY_COMPLETED, result.getItems().get(2).getOutcome());
+        assertEquals(1, result.getCompleted());
+        assertEquals(1, result.getAlreadyCompleted());
+        assertEquals(1, result.getNotFound());
+        verify(mockAnimal).feed(FoodType.HAY.getDisplayName());
+        verify(mockFeedingRepository).saveAll(List.of(mockFeeding));
+        verify(mockFeedingRepository, never()).save(any());
+
+        ArgumentCaptor<FeedingsCompletedEvent> eventCaptor = ArgumentCaptor.forClass(FeedingsCompletedEvent.class);
+        verify(mockEventPublisher, times(1)).publish(eventCaptor.capture());
+        assertEquals(List.of(feedingId), eventCaptor.getValue().getCompletedFeedingIds());
+    }
+
+    @Test
+    void completeFeedingSchedules_shouldNotSaveOrPublish_whenNothingWasCompleted() {
+        // Arrange
+        when(mockFeedingRepository.findAllById(anyCollection())).thenReturn(Collections.emptyList());
+
+        // Act
+        FeedingCompletionResult result = feedingService.completeFeedingSchedules(List.of(feedingId));
+
+        // Assert
+        assertEquals(1, result.getNotFound());
+        verify(mockFeedingRepository, never()).saveAll(any());
+        verifyNoInteractions(mockEventPublisher);
+    }
+
     @Test
     void completeFeedingSchedule_shouldThrowEntityNotFound_whenFeedingNotFound() {
         // Arrange
@@ -0,0 +1,116 @@
+package com.zoo.hsezoorest.application.service;
+
+import com.zoo.hsezoorest.application.dto.feeding.FeedingRoundPlan;
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.animal.FavoriteFood;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.enclosure.Capacity;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingTime;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import com.zoo.hsezoorest.domain.repository.FeedingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedingRoundPlannerTest {
+
+    @Mock
+    private FeedingRepository mockFeedingRepository;
+
+    @Test
+    void plan_shouldGroupDueFeedingsByEnclosureAndFoodTypeInTimeOrder() {
+        // Arrange
+        Enclosure savanna = new Enclosure(EnclosureId.create(), EnclosureType.HERBIVORE, Capacity.of(4));
+        Enclosure paddock = new Enclosure(EnclosureId.create(), EnclosureType.HERBIVORE, Capacity.of(4));
+        Animal zebra = animalIn(savanna, "Marty");
+        Animal giraffe = animalIn(savanna, "Melman");
+        Animal horse = animalIn(paddock, "Spirit");
+
+        Feeding zebraHay = feeding(zebra, 9, FoodType.HAY);
+        Feeding giraffeHay = feeding(giraffe, 10, FoodType.HAY);
+        Feeding giraffeFruits = feeding(giraffe, 11, FoodType.FRUITS);
+        Feeding horseHay = feeding(horse, 8, FoodType.HAY);
+        Feeding completed = feeding(horse, 8, FoodType.GRAINS);
+        completed.markAsCompleted();
+        Feeding notYetDue = feeding(zebra, 15, FoodType.HAY);
+
+        when(mockFeedingRepository.findAll())
+                .thenReturn(List.of(zebraHay, giraffeHay, giraffeFruits, horseHay, completed, notYetDue));
+        FeedingRoundPlanner planner = new FeedingRoundPlanner(mockFeedingRepository);
+
+        // Act
+        FeedingRoundPlan plan = planner.plan(LocalTime.of(12, 0));
+
+        // Assert
+        assertEquals(3, plan.getRounds().size());
+        FeedingRoundPlan.Round first = plan.getRounds().get(0);
+        assertSame(paddock, first.getEnclosure());
+        assertEquals(LocalTime.of(8, 0), first.getStartTime());
+        assertEquals(List.of(horseHay), first.getFeedings());
+
+        FeedingRoundPlan.Round second = plan.getRounds().get(1);
+        assertSame(savanna, second.getEnclosure());
+        assertEquals(FoodType.HAY, second.getFoodType());
+        assertEquals(LocalTime.of(9, 0), second.getStartTime());
+        assertEquals(List.of(zebraHay, giraffeHay), second.getFeedings());
+
+        assertEquals(FoodType.FRUITS, plan.getRounds().get(2).getFoodType());
+        assertEquals(3, plan.getFoodTotals().get(FoodType.HAY));
+        assertEquals(1, plan.getFoodTotals().get(FoodType.FRUITS));
+        assertEquals(4, plan.getTotalFeedings());
+    }
+
+    @Test
+    void plan_shouldFollowCompletionsAndTransfers() {
+        // Arrange
+        Enclosure savanna = new Enclosure(EnclosureId.create(), EnclosureType.HERBIVORE, Capacity.of(4));
+        Enclosure paddock = new Enclosure(EnclosureId.create(), EnclosureType.HERBIVORE, Capacity.of(4));
+        Animal zebra = animalIn(savanna, "Marty");
+        Animal giraffe = animalIn(savanna, "Melman");
+        Feeding zebraHay = feeding(zebra, 9, FoodType.HAY);
+        Feeding giraffeHay = feeding(giraffe, 9, FoodType.HAY);
+
+        when(mockFeedingRepository.findAll()).thenReturn(List.of());
+        FeedingRoundPlanner planner = new FeedingRoundPlanner(mockFeedingRepository);
+        planner.onFeedingsSaved(List.of(zebraHay, giraffeHay));
+
+        // Act
+        zebraHay.markAsCompleted();
+        planner.onFeedingSaved(zebraHay, zebraHay);
+        giraffe.moveToEnclosure(paddock);
+        planner.onAnimalSaved(giraffe, giraffe);
+        FeedingRoundPlan plan = planner.plan(LocalTime.of(12, 0));
+
+        // Assert
+        assertEquals(1, plan.getRounds().size());
+        assertSame(paddock, plan.getRounds().get(0).getEnclosure());
+        assertEquals(List.of(giraffeHay), plan.getRounds().get(0).getFeedings());
+        assertEquals(1, plan.getTotalFeedings());
+    }
+
+    private Animal animalIn(Enclosure enclosure, String name) {
+        Animal animal = new Animal(AnimalId.create(), Species.herbivore("Zebra"), name, LocalDate.of(2020, 1, 1), Gender.FEMALE, FavoriteFood.of("Hay"));
+        animal.moveToEnclosure(enclosure);
+        return animal;
+    }
+
+    private Feeding feeding(Animal animal, int hour, FoodType foodType) {
+        return new Feeding(FeedingId.create(), animal, FeedingTime.of(hour, 0), foodType);
+    }
+}
@@ -0,0 +1,98 @@
+package com.zoo.hsezoorest.application.service;
+
+import com.zoo.hsezoorest.application.dto.feeding.FoodDemandForecast;
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.animal.FavoriteFood;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingTime;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import com.zoo.hsezoorest.domain.repository.FeedingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FoodDemandForecastServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 1, 5);
+
+    @Mock
+    private FeedingRepository mockFeedingRepository;
+
+    @Test
+    void forecast_shouldCountDailyPortionsPerFoodTypeInsideTheWindow() {
+        // Arrange
+        Animal lion = animal();
+        when(mockFeedingRepository.findAll()).thenReturn(List.of(
+                feeding(lion, 8, FoodType.MEAT),
+                feeding(lion, 18, FoodType.MEAT),
+                feeding(lion, 12, FoodType.FISH)));
+        FoodDemandForecastService forecastService = new FoodDemandForecastService(mockFeedingRepository);
+
+        // Act
+        FoodDemandForecast forecast = forecastService.forecast(DAY.atTime(10, 0), DAY.plusDays(2).atTime(12, 0));
+
+        // Assert
+        assertEquals(3, forecast.getDays().size());
+        assertEquals(Map.of(FoodType.MEAT, 1L, FoodType.FISH, 1L), forecast.getDays().get(0).getPortions());
+        assertEquals(Map.of(FoodType.MEAT, 2L, FoodType.FISH, 1L), forecast.getDays().get(1).getPortions());
+        assertEquals(Map.of(FoodType.MEAT, 1L), forecast.getDays().get(2).getPortions());
+        assertEquals(4L, forecast.getTotals().get(FoodType.MEAT));
+        assertEquals(6L, forecast.getTotalPortions());
+    }
+
+    @Test
+    void forecast_shouldFollowScheduleChangesAndDeletes() {
+        // Arrange
+        Animal lion = animal();
+        Feeding morning = feeding(lion, 8, FoodType.MEAT);
+        Feeding evening = feeding(lion, 18, FoodType.MEAT);
+        when(mockFeedingRepository.findAll()).thenReturn(List.of());
+        FoodDemandForecastService forecastService = new FoodDemandForecastService(mockFeedingRepository);
+        forecastService.onFeedingsSaved(List.of(morning, evening));
+
+        // Act
+        morning.changeFoodType(FoodType.FISH);
+        morning.changeFeedingTime(FeedingTime.of(9, 30));
+        forecastService.onFeedingSaved(morning, morning);
+        forecastService.onFeedingDeleted(evening);
+        FoodDemandForecast forecast = forecastService.forecast(DAY.atStartOfDay(), DAY.atTime(9, 30));
+
+        // Assert
+        assertEquals(Map.of(), forecast.getTotals());
+        assertEquals(Map.of(FoodType.FISH, 1L),
+                forecastService.forecast(DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay()).getTotals());
+    }
+
+    @Test
+    void forecast_shouldRejectEmptyWindow() {
+        // Arrange
+        when(mockFeedingRepository.findAll()).thenReturn(List.of());
+        FoodDemandForecastService forecastService = new FoodDemandForecastService(mockFeedingRepository);
+        LocalDateTime start = DAY.atStartOfDay();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> forecastService.forecast(start, start));
+    }
+
+    private Animal animal() {
+        return new Animal(AnimalId.create(), Species.predator("Lion"), "Simba", LocalDate.of(2020, 1, 1), Gender.MALE, FavoriteFood.of("Meat"));
+    }
+
+    private Feeding feeding(Animal animal, int hour, FoodType foodType) {
+        return new Feeding(FeedingId.create(), animal, FeedingTime.of(hour, 0), foodType);
+    }
+}
@@ -0,0 +1,238 @@
+package com.zoo.hsezoorest.application.service;
+
+import com.zoo.hsezoorest.application.dto.statistics.StatisticsDto;
+import com.zoo.hsezoorest.application.dto.statistics.StatisticsMetric;
+import com.zoo.hsezoorest.application.dto.statistics.StatisticsResult;
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.animal.FavoriteFood;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.enclosure.Capacity;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import com.zoo.hsezoorest.domain.repository.AnimalRepository;
+import com.zoo.hsezoorest.domain.repository.EnclosureRepository;
+import com.zoo.hsezoorest.domain.repository.FeedingRepository;
+import com.zoo.hsezoorest.infrastructure.persistence.EntityChangeNotifier;
+import com.zoo.hsezoorest.infrastructure.persistence.WriteSequence;
+import com.zoo.hsezoorest.infrastructure.persistence.inmemory.InMemoryAnimalRepository;
+import com.zoo.hsezoorest.infrastructure.persistence.inmemory.InMemoryEnclosureRepository;
+import com.zoo.hsezoorest.infrastructure.persistence.inmemory.InMemoryFeedingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ZooStatisticsServiceTest {
+
+    @Mock
+    private AnimalRepository mockAnimalRepository;
+    @Mock
+    private EnclosureRepository mockEnclosureRepository;
+    @Mock
+    private FeedingRepository mockFeedingRepository;
+    @Spy
+    private WriteSequence writeSequence = new WriteSequence();
+
+    @InjectMocks
+    private ZooStatisticsService statisticsService;
+
+    @Test
+    void getZooStatistics_shouldCountAnimalsBySpeciesName() {
+        // Arrange
+        Animal lion1 = animal(Species.predator("Lion"));
+        Animal lion2 = animal(Species.predator("Lion"));
+        Animal zebra = animal(Species.herbivore("Zebra"));
+        zebra.markAsSick();
+        Animal owl = animal(Species.avianPredator("Owl"));
+        Enclosure enclosure = new Enclosure(EnclosureId.create(), EnclosureType.PREDATOR, Capacity.of(4));
+
+        when(mockAnimalRepository.findAll()).thenReturn(List.of(lion1, lion2, zebra, owl));
+        when(mockEnclosureRepository.findAll()).thenReturn(List.of(enclosure));
+
+        // Act
+        StatisticsDto statistics = statisticsService.getZooStatistics();
+
+        // Assert
+        assertEquals(4, statistics.getTotalAnimals());
+        assertEquals(3, statistics.getHealthyAnimals());
+        assertEquals(1, statistics.getSickAnimals());
+        assertEquals(3, statistics.getPredators());
+        assertEquals(1, statistics.getHerbivores());
+        assertEquals(3, statistics.getAnimalsBySpecies().size());
+        assertEquals(2L, statistics.getAnimalsBySpecies().get("Lion"));
+        assertEquals(1L, statistics.getAnimalsBySpecies().get("Zebra"));
+        assertEquals(1L, statistics.getEnclosuresByType().get("Predator"));
+        assertTrue(statistics.getFeedingsByFoodType().isEmpty());
+    }
+
+    @Test
+    void query_shouldOnlyReadRepositoriesBackingRequestedMetrics() {
+        // Arrange
+        Enclosure full = new Enclosure(EnclosureId.create(), EnclosureType.HERBIVORE, Capacity.of(2));
+        full.addAnimal(animal(Species.herbivore("Zebra")));
+        full.addAnimal(animal(Species.herbivore("Zebra")));
+        Enclosure empty = new Enclosure(EnclosureId.create(), EnclosureType.AVIARY, Capacity.of(6));
+
+        when(mockEnclosureRepository.findAll()).thenReturn(List.of(full, empty));
+
+        // Act
+        StatisticsResult result = statisticsService.query(EnumSet.of(
+                StatisticsMetric.TOTAL_CAPACITY, StatisticsMetric.USED_CAPACITY,
+                StatisticsMetric.EMPTY_ENCLOSURES, StatisticsMetric.OCCUPANCY_RATE));
+
+        // Assert
+        assertEquals(EnumSet.of(StatisticsMetric.TOTAL_CAPACITY, StatisticsMetric.USED_CAPACITY,
+                StatisticsMetric.EMPTY_ENCLOSURES, StatisticsMetric.OCCUPANCY_RATE), result.getMetrics());
+        assertEquals(8, result.getCount(StatisticsMetric.TOTAL_CAPACITY));
+        assertEquals(2, result.getCount(StatisticsMetric.USED_CAPACITY));
+        assertEquals(1, result.getCount(StatisticsMetric.EMPTY_ENCLOSURES));
+        assertEquals(25.0, result.getOccupancyRate());
+        assertThrows(IllegalArgumentException.class, () -> result.getCount(StatisticsMetric.TOTAL_ENCLOSURES));
+        verify(mockEnclosureRepository, times(1)).findAll();
+        verify(mockEnclosureRepository, never()).countEmpty();
+        verifyNoInteractions(mockAnimalRepository, mockFeedingRepository);
+    }
+
+    @Test
+    void query_shouldCountFeedingsFromRepositoryCounters() {
+        // Arrange
+        when(mockFeedingRepository.countPending(any())).thenReturn(3L);
+        when(mockFeedingRepository.countCompletedOnDate(LocalDate.now())).thenReturn(1L);
+        when(mockFeedingRepository.countByFoodType(any())).thenReturn(0L);
+        when(mockFeedingRepository.countByFoodType(FoodType.VEGETABLES)).thenReturn(2L);
+
+        // Act
+        StatisticsResult result = statisticsService.query(EnumSet.of(StatisticsMetric.PENDING_FEEDINGS,
+                StatisticsMetric.COMPLETED_FEEDINGS, StatisticsMetric.FEEDINGS_BY_FOOD_TYPE));
+
+        // Assert
+        assertEquals(3, result.getCount(StatisticsMetric.PENDING_FEEDINGS));
+        assertEquals(1, result.getCount(StatisticsMetric.COMPLETED_FEEDINGS));
+        assertEquals(Map.of("Vegetables", 2L), result.getBreakdown(StatisticsMetric.FEEDINGS_BY_FOOD_TYPE));
+        assertFalse(result.getMetrics().contains(StatisticsMetric.TOTAL_FEEDING_SCHEDULES));
+        verify(mockFeedingRepository, never()).findAll();
+        verifyNoInteractions(mockAnimalRepository, mockEnclosureRepository);
+    }
+
+    @Test
+    void query_shouldAnswerPlainTotalsFromRepositoryCounters() {
+        // Arrange
+        when(mockAnimalRepository.count()).thenReturn(5L);
+        when(mockAnimalRepository.countSickAnimals()).thenReturn(2L);
+        when(mockEnclosureRepository.count()).thenReturn(3L);
+        when(mockEnclosureRepository.countEmpty()).thenReturn(1L);
+        when(mockFeedingRepository.count()).thenReturn(7L);
+
+        // Act
+        StatisticsResult result = statisticsService.query(EnumSet.of(
+                StatisticsMetric.TOTAL_ANIMALS, StatisticsMetric.SICK_ANIMALS, StatisticsMetric.TOTAL_ENCLOSURES,
+                StatisticsMetric.EMPTY_ENCLOSURES, StatisticsMetric.TOTAL_FEEDING_SCHEDULES));
+
+        // Assert
+        assertEquals(5, result.getCount(StatisticsMetric.TOTAL_ANIMALS));
+        assertEquals(2, result.getCount(StatisticsMetric.SICK_ANIMALS));
+        assertEquals(3, result.getCount(StatisticsMetric.TOTAL_ENCLOSURES));
+        assertEquals(1, result.getCount(StatisticsMetric.EMPTY_ENCLOSURES));
+        assertEquals(7, result.getCount(StatisticsMetric.TOTAL_FEEDING_SCHEDULES));
+        verify(mockAnimalRepository, never()).findAll();
+        verify(mockEnclosureRepository, never()).findAll();
+        verify(mockFeedingRepository, never()).findAll();
+    }
+
+    @Test
+    void query_shouldReadEveryMetricFromOneSnapshot_whileWritersRun() throws Exception {
+        // Arrange
+        WriteSequence sequence = new WriteSequence();
+        EntityChangeNotifier notifier = mock(EntityChangeNotifier.class);
+        InMemoryAnimalRepository animals = new InMemoryAnimalRepository(notifier, sequence);
+        InMemoryEnclosureRepository enclosures = new InMemoryEnclosureRepository(notifier, sequence);
+        Enclosure pen = enclosures.save(new Enclosure(EnclosureId.create(), EnclosureType.HERBIVORE, Capacity.of(1)));
+        ZooStatisticsService service = new ZooStatisticsService(animals, enclosures,
+                new InMemoryFeedingRepository(notifier, sequence), sequence);
+        Set<StatisticsMetric> metrics = EnumSet.of(StatisticsMetric.TOTAL_ANIMALS, StatisticsMetric.SICK_ANIMALS,
+                StatisticsMetric.TOTAL_CAPACITY, StatisticsMetric.USED_CAPACITY);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // A sick animal arrives and leaves; a resident is admitted, housed, moved out and removed
+        CompletableFuture<Void> sickWriter = CompletableFuture.runAsync(() -> {
+            while (running.get()) {
+                Animal patient = animal(Species.herbivore("Zebra"));
+                patient.markAsSick();
+                animals.save(patient);
+                animals.deleteById(patient.getId());
+            }
+        });
+        CompletableFuture<Void> residentWriter = CompletableFuture.runAsync(() -> {
+            while (running.get()) {
+                Animal resident = animal(Species.herbivore("Okapi"));
+                animals.save(resident);
+                enclosures.update(pen.getId(), enclosure -> enclosure.addAnimal(resident));
+                enclosures.update(pen.getId(), enclosure -> enclosure.removeAnimal(resident));
+                animals.deleteById(resident.getId());
+            }
+        });
+
+        // Act
+        List<StatisticsResult> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 5_000; i++) {
+                results.add(service.query(metrics));
+            }
+        } finally {
+            running.set(false);
+        }
+        CompletableFuture.allOf(sickWriter, residentWriter).get(10, TimeUnit.SECONDS);
+
+        // Assert
+        for (StatisticsResult result : results) {
+            long total = result.getCount(StatisticsMetric.TOTAL_ANIMALS);
+            long used = result.getCount(StatisticsMetric.USED_CAPACITY);
+            assertTrue(result.getCount(StatisticsMetric.SICK_ANIMALS) <= total, "sick animals exceed the total");
+            assertTrue(used <= result.getCount(StatisticsMetric.TOTAL_CAPACITY), "occupancy exceeds capacity");
+            assertTrue(used <= total, "housed animals exceed the total");
+        }
+    }
+
+    @Test
+    void statisticsMetric_fromKey_shouldRejectUnknownMetric() {
+        assertSame(StatisticsMetric.OCCUPANCY_RATE, StatisticsMetric.fromKey("occupancyRate"));
+        assertSame(StatisticsMetric.SICK_ANIMALS, StatisticsMetric.fromKey("SICK_ANIMALS"));
+        assertThrows(IllegalArgumentException.class, () -> StatisticsMetric.fromKey("unicorns"));
+    }
+
+    @Test
+    void species_shouldBeInternedWithStableOrdinal() {
+        Species first = Species.herbivore("Giraffe");
+        Species second = Species.herbivore("Giraffe");
+
+        assertSame(first, second);
+        assertNotEquals(first, Species.avianHerbivore("Giraffe"));
+        assertTrue(first.getOrdinal() < Species.registeredCount());
+        assertSame(FavoriteFood.of("Leaves"), FavoriteFood.of("Leaves"));
+    }
+
+    private Animal animal(Species species) {
+        return new Animal(AnimalId.create(), species, "Name", LocalDate.of(2020, 1, 1), Gender.FEMALE, FavoriteFood.of("Food"));
+    }
+}
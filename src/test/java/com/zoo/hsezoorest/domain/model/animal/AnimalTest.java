@@ -138,4 +138,48 @@ class AnimalTest {
         verify(mockEnclosure1).removeAnimal(animal);
         verify(mockEnclosure2).addAnimal(animal);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void updateDetails_shouldReplaceDetailsAndKeepEnclosure() {
+        when(mockEnclosure1.canHouseAnimal(animal)).thenReturn(true);
+        doNothing().when(mockEnclosure1).addAnimal(animal);
+        animal.moveToEnclosure(mockEnclosure1);
+        long versionBefore = animal.getVersion();
+
+        animal.updateDetails(Species.predator("Tiger"), "Shere Khan", birthDate, Gender.MALE, FavoriteFood.of("Beef"));
+
+        assertEquals("Tiger", animal.getSpecies().getValue());
+        assertEquals("Shere Khan", animal.getName());
+        assertEquals("Beef", animal.getFavoriteFood().getValue());
+        assertEquals(mockEnclosure1, animal.getCurrentEnclosure());
+        assertTrue(animal.getVersion() > versionBefore);
+    }
+
+    @Test
+    void updateDetails_shouldThrowAndKeepSpecies_whenEnclosureCannotHouseNewSpecies() {
+        when(mockEnclosure1.canHouseAnimal(animal)).thenReturn(true, false);
+        doNothing().when(mockEnclosure1).addAnimal(animal);
+        when(mockEnclosure1.getType()).thenReturn(EnclosureType.PREDATOR);
+        animal.moveToEnclosure(mockEnclosure1);
+        long versionBefore = animal.getVersion();
+
+        assertThrows(IllegalArgumentException.class, () ->
+                animal.updateDetails(Species.avianHerbivore("Parrot"), name, birthDate, gender, favoriteFood));
+
+        assertEquals(species, animal.getSpecies());
+        assertEquals(versionBefore, animal.getVersion());
+    }
+
+    @Test
+    void version_shouldIncrease_onEachStateChange() {
+        assertEquals(0, animal.getVersion());
+
+        animal.markAsSick();
+        animal.heal();
+        animal.changeFavoriteFood(FavoriteFood.of("Fish"));
+
+        assertEquals(3, animal.getVersion());
+        animal.heal(); // already healthy, nothing changes
+        assertEquals(3, animal.getVersion());
+    }
+}
@@ -207,4 +207,36 @@ class EnclosureTest {
         verify(mockType, times(2)).canHouseAnimal(mockAnimal1); // Called again
     }
 
-} 
\ No newline at end of file
+    @Test
+    void reconfigure_shouldChangeTypeAndCapacity_whenAnimalsStillFit() {
+        // Arrange
+        when(mockCapacity.hasAvailableSpace(anyInt())).thenReturn(true);
+        when(mockType.canHouseAnimal(mockAnimal1)).thenReturn(true);
+        when(mockAnimal1.getSpecies()).thenReturn(Species.herbivore("Zebra"));
+        enclosure.addAnimal(mockAnimal1);
+        long versionBefore = enclosure.getVersion();
+
+        // Act
+        enclosure.reconfigure(EnclosureType.HERBIVORE, Capacity.of(3));
+
+        // Assert
+        assertEquals(EnclosureType.HERBIVORE, enclosure.getType());
+        assertEquals(3, enclosure.getCapacity().getMaximum());
+        assertEquals(1, enclosure.getCurrentAnimalCount());
+        assertTrue(enclosure.getVersion() > versionBefore);
+    }
+
+    @Test
+    void reconfigure_shouldThrow_whenCapacityBelowAnimalCount() {
+        // Arrange
+        when(mockCapacity.hasAvailableSpace(anyInt())).thenReturn(true);
+        when(mockType.canHouseAnimal(any(Animal.class))).thenReturn(true);
+        enclosure.addAnimal(mockAnimal1);
+        enclosure.addAnimal(mockAnimal2);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> enclosure.reconfigure(EnclosureType.HERBIVORE, Capacity.of(1)));
+        assertEquals(mockType, enclosure.getType());
+        assertEquals(mockCapacity, enclosure.getCapacity());
+    }
+}
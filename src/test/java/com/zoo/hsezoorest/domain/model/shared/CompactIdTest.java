@@ -0,0 +1,37 @@
+package com.zoo.hsezoorest.domain.model.shared;
+
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactIdTest {
+
+    @Test
+    void of_shouldRoundTripCanonicalUuidString() {
+        String value = "3b986bd6-5cd7-44b3-b8b8-f01dc9838cb8";
+
+        AnimalId id = AnimalId.of(value);
+
+        assertEquals(value, id.getValue());
+        assertEquals(value, id.toString());
+    }
+
+    @Test
+    void equals_shouldCompareBitsAndType() {
+        AnimalId id = AnimalId.create();
+
+        assertEquals(id, AnimalId.of(id.getValue()));
+        assertEquals(id.hashCode(), AnimalId.of(id.getValue()).hashCode());
+        assertNotEquals(id, AnimalId.create());
+        assertNotEquals(id, EnclosureId.of(id.getValue()));
+    }
+
+    @Test
+    void of_shouldThrowIllegalArgumentException_whenValueIsNotUuid() {
+        assertThrows(IllegalArgumentException.class, () -> AnimalId.of("not-a-uuid"));
+        assertThrows(IllegalArgumentException.class, () -> AnimalId.of("1-1-1-1-1"));
+        assertThrows(IllegalArgumentException.class, () -> AnimalId.of(null));
+    }
+}
@@ -0,0 +1,52 @@
+package com.zoo.hsezoorest.domain.model.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InternPoolTest {
+
+    private record Value(String name, int ordinal) {
+    }
+
+    @Test
+    void intern_shouldReuseInstancesAndAssignDenseOrdinals() {
+        InternPool<String, Value> pool = new InternPool<>(4);
+
+        Value first = pool.intern("a", Value::new);
+        Value second = pool.intern("b", Value::new);
+
+        assertSame(first, pool.intern("a", Value::new));
+        assertEquals(0, first.ordinal());
+        assertEquals(1, second.ordinal());
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    void intern_shouldStopPoolingAtCapacity() {
+        InternPool<String, Value> pool = new InternPool<>(2);
+        pool.intern("a", Value::new);
+        pool.intern("b", Value::new);
+
+        Value overflow = pool.intern("c", Value::new);
+
+        assertEquals(InternPool.UNPOOLED, overflow.ordinal());
+        assertNotSame(overflow, pool.intern("c", Value::new));
+        assertEquals(0, pool.intern("a", Value::new).ordinal());
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    void intern_shouldStayBoundedUnderManyDistinctKeys() {
+        InternPool<Integer, Map.Entry<Integer, Integer>> pool = new InternPool<>(100);
+
+        for (int key = 0; key < 10_000; key++) {
+            Map.Entry<Integer, Integer> entry = pool.intern(key, Map::entry);
+            assertTrue(entry.getValue() < 100);
+        }
+
+        assertEquals(100, pool.size());
+    }
+}
@@ -0,0 +1,65 @@
+package com.zoo.hsezoorest.domain.model.shared;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimeOrderedIdsTest {
+
+    @Test
+    void next_shouldProduceVersion7UuidsCarryingTheCurrentTime() {
+        long before = System.currentTimeMillis();
+
+        UUID id = TimeOrderedIds.next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        long millis = id.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void next_shouldIncreaseStrictlyWithinAThread() {
+        UUID previous = TimeOrderedIds.next();
+        for (int i = 0; i < 20_000; i++) {
+            UUID current = TimeOrderedIds.next();
+
+            assertTrue(previous.compareTo(current) < 0, previous + " should sort before " + current);
+            previous = current;
+        }
+    }
+
+    @Test
+    void next_shouldNotRepeatAcrossThreads() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(TimeOrderedIds.next());
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * perThread, ids.size());
+    }
+}
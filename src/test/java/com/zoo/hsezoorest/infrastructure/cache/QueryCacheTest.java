@@ -0,0 +1,123 @@
+package com.zoo.hsezoorest.infrastructure.cache;
+
+import com.zoo.hsezoorest.domain.model.enclosure.Capacity;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QueryCacheTest {
+
+    private QueryCache queryCache;
+    private CacheInvalidator invalidator;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        queryCache = new QueryCache(100, Duration.ofMinutes(5), Duration.ofSeconds(30));
+        invalidator = new CacheInvalidator(queryCache);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void get_shouldLoadOnceAndReuseEntry() {
+        CachedResult<Integer> first = queryCache.get(CacheRegion.STATISTICS, "full", loads::incrementAndGet);
+        CachedResult<Integer> second = queryCache.get(CacheRegion.STATISTICS, "full", loads::incrementAndGet);
+
+        assertEquals(1, loads.get());
+        assertEquals(first.getValue(), second.getValue());
+        assertEquals(first.getEtag(), second.getEtag());
+        assertEquals(1, queryCache.getStats().get(CacheRegion.STATISTICS).hitCount());
+        assertEquals(1, queryCache.getStats().get(CacheRegion.STATISTICS).missCount());
+    }
+
+    @Test
+    void get_shouldIssueNewEtag_afterInvalidation() {
+        CachedResult<Integer> first = queryCache.get(CacheRegion.STATISTICS, "full", loads::incrementAndGet);
+        queryCache.invalidate(CacheRegion.STATISTICS);
+        CachedResult<Integer> second = queryCache.get(CacheRegion.STATISTICS, "full", loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+        assertNotEquals(first.getEtag(), second.getEtag());
+    }
+
+    @Test
+    void enclosureSave_shouldOnlyEvictItsOwnType() {
+        queryCache.get(CacheRegion.ENCLOSURES_BY_TYPE, EnclosureType.PREDATOR, loads::incrementAndGet);
+        queryCache.get(CacheRegion.ENCLOSURES_BY_TYPE, EnclosureType.AVIARY, loads::incrementAndGet);
+        queryCache.get(CacheRegion.PENDING_FEEDINGS, "10:00", loads::incrementAndGet);
+
+        Enclosure enclosure = new Enclosure(EnclosureId.create(), EnclosureType.PREDATOR, Capacity.of(3));
+        invalidator.onEnclosureSaved(null, enclosure);
+
+        assertEquals(1, queryCache.size(CacheRegion.ENCLOSURES_BY_TYPE));
+        assertEquals(1, queryCache.size(CacheRegion.PENDING_FEEDINGS));
+        queryCache.get(CacheRegion.ENCLOSURES_BY_TYPE, EnclosureType.AVIARY, loads::incrementAndGet);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void feedingChange_shouldEvictPendingFeedingsAndStatistics() {
+        queryCache.get(CacheRegion.PENDING_FEEDINGS, "10:00", loads::incrementAndGet);
+        queryCache.get(CacheRegion.STATISTICS, "summary", loads::incrementAndGet);
+        queryCache.get(CacheRegion.AVAILABLE_ENCLOSURES, "all", loads::incrementAndGet);
+
+        invalidator.onFeedingDeleted(null);
+
+        assertEquals(0, queryCache.size(CacheRegion.PENDING_FEEDINGS));
+        assertEquals(0, queryCache.size(CacheRegion.STATISTICS));
+        assertEquals(1, queryCache.size(CacheRegion.AVAILABLE_ENCLOSURES));
+    }
+
+    @Test
+    void isCurrent_shouldTrackEtagsOfLiveEntries() {
+        CachedResult<Integer> first = queryCache.get(CacheRegion.STATISTICS, "full", loads::incrementAndGet);
+        assertTrue(queryCache.isCurrent(first.getEtag()));
+
+        queryCache.invalidate(CacheRegion.STATISTICS);
+        CachedResult<Integer> second = queryCache.get(CacheRegion.STATISTICS, "full", loads::incrementAndGet);
+
+        assertFalse(queryCache.isCurrent(first.getEtag()));
+        assertTrue(queryCache.isCurrent(second.getEtag()));
+        assertFalse(queryCache.isCurrent("\"d6198e277491b407\""));
+    }
+
+    @Test
+    void get_shouldNotKeepValueLoadedAcrossInvalidation() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch invalidated = new CountDownLatch(1);
+        CompletableFuture<CachedResult<Integer>> inFlight = CompletableFuture.supplyAsync(() ->
+                queryCache.get(CacheRegion.STATISTICS, "full", () -> {
+                    loading.countDown();
+                    await(invalidated);
+                    return loads.incrementAndGet();
+                }));
+
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        queryCache.invalidateAll();
+        invalidated.countDown();
+        CachedResult<Integer> stale = inFlight.get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, stale.getValue());
+        assertFalse(queryCache.isCurrent(stale.getEtag()));
+        assertEquals(0, queryCache.size(CacheRegion.STATISTICS));
+        assertEquals(2, queryCache.get(CacheRegion.STATISTICS, "full", loads::incrementAndGet).getValue());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.zoo.hsezoorest.infrastructure.compression;
+
+import com.zoo.hsezoorest.infrastructure.cache.CacheRegion;
+import com.zoo.hsezoorest.infrastructure.cache.QueryCache;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressionFilterTest {
+
+    private static final byte[] BODY = "{\"species\":\"Lion\"},".repeat(200).getBytes(StandardCharsets.UTF_8);
+
+    private QueryCache queryCache;
+    private CompressionFilter filter;
+    private String etag;
+
+    @BeforeEach
+    void setUp() {
+        queryCache = new QueryCache(100, Duration.ofMinutes(5), Duration.ofSeconds(30));
+        filter = new CompressionFilter(new GzipCompressor(2, Deflater.DEFAULT_COMPRESSION), queryCache,
+                DataSize.ofBytes(256), List.of(MediaType.APPLICATION_JSON), DataSize.ofMegabytes(1));
+        etag = queryCache.get(CacheRegion.STATISTICS, "full", () -> 1).getEtag();
+    }
+
+    @Test
+    void doFilter_shouldTagGzippedBodyAsSeparateVariant() throws Exception {
+        // Act
+        MockHttpServletResponse gzipped = send(request(true));
+        MockHttpServletResponse replayed = send(request(true));
+        MockHttpServletResponse identity = send(request(false));
+
+        // Assert
+        assertEquals("gzip", gzipped.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(etag.substring(0, etag.length() - 1) + "-gzip\"", gzipped.getHeader(HttpHeaders.ETAG));
+        assertEquals(gzipped.getHeader(HttpHeaders.ETAG), replayed.getHeader(HttpHeaders.ETAG));
+        assertEquals(etag, identity.getHeader(HttpHeaders.ETAG));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, gzipped.getHeader(HttpHeaders.VARY));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, identity.getHeader(HttpHeaders.VARY));
+    }
+
+    @Test
+    void doFilter_shouldAnswerGzipValidatorWithNotModified() throws Exception {
+        // Arrange
+        String gzipTag = send(request(true)).getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest conditional = request(true);
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, gzipTag);
+
+        // Act
+        MockHttpServletResponse response = send(conditional);
+
+        // Assert
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, response.getStatus());
+        assertEquals(gzipTag, response.getHeader(HttpHeaders.ETAG));
+    }
+
+    private MockHttpServletRequest request(boolean acceptsGzip) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/zoo/api/statistics");
+        if (acceptsGzip) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate");
+        }
+        return request;
+    }
+
+    // Stands in for a handler that serves a cached body and answers If-None-Match itself
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain handler = (req, res) -> {
+            if (new ServletWebRequest((HttpServletRequest) req, (HttpServletResponse) res)
+                    .checkNotModified(etag)) {
+                return;
+            }
+            res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            res.getOutputStream().write(BODY);
+        };
+        filter.doFilter(request, response, handler);
+        return response;
+    }
+}
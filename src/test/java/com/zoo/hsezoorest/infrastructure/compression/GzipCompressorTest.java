@@ -0,0 +1,76 @@
+package com.zoo.hsezoorest.infrastructure.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GzipCompressorTest {
+
+    @Test
+    void compress_shouldProduceStandardGzip() throws IOException {
+        // Arrange
+        GzipCompressor compressor = new GzipCompressor(2, Deflater.DEFAULT_COMPRESSION);
+        byte[] input = "{\"type\":\"PREDATOR\",\"species\":\"Lion\"},".repeat(500).getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        byte[] compressed = compressor.compress(input, input.length);
+
+        // Assert
+        assertTrue(compressed.length < input.length / 10);
+        assertArrayEquals(input, gunzip(compressed));
+    }
+
+    @Test
+    void compress_shouldOnlyUseTheGivenLength() throws IOException {
+        // Arrange
+        GzipCompressor compressor = new GzipCompressor(2, Deflater.DEFAULT_COMPRESSION);
+        byte[] buffer = "Simba|garbage".getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        byte[] compressed = compressor.compress(buffer, 5);
+
+        // Assert
+        assertEquals("Simba", new String(gunzip(compressed), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void compress_shouldHandleEmptyAndIncompressibleInput() throws IOException {
+        // Arrange
+        GzipCompressor compressor = new GzipCompressor(1, Deflater.BEST_SPEED);
+        byte[] random = new byte[10_000];
+        new Random(42).nextBytes(random);
+
+        // Act & Assert
+        assertArrayEquals(new byte[0], gunzip(compressor.compress(new byte[0], 0)));
+        assertArrayEquals(random, gunzip(compressor.compress(random, random.length)));
+    }
+
+    @Test
+    void pool_shouldReuseReleasedDeflatersUpToCapacity() {
+        // Arrange
+        DeflaterPool pool = new DeflaterPool(1, Deflater.DEFAULT_COMPRESSION);
+        Deflater first = pool.borrow();
+        Deflater second = pool.borrow();
+
+        // Act
+        pool.release(first);
+        pool.release(second);
+
+        // Assert
+        assertEquals(1, pool.idleCount());
+        assertSame(first, pool.borrow());
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+}
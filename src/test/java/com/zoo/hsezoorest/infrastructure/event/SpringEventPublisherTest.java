@@ -0,0 +1,66 @@
+package com.zoo.hsezoorest.infrastructure.event;
+
+import com.zoo.hsezoorest.application.service.FeedingOrganizationService;
+import com.zoo.hsezoorest.domain.event.FeedingTimeEvent;
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.animal.FavoriteFood;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingTime;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import com.zoo.hsezoorest.domain.repository.AnimalRepository;
+import com.zoo.hsezoorest.domain.repository.FeedingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpringEventPublisherTest {
+
+    @Mock
+    private ApplicationEventPublisher mockApplicationEventPublisher;
+    @Mock
+    private AnimalRepository mockAnimalRepository;
+    @Mock
+    private FeedingRepository mockFeedingRepository;
+
+    @Test
+    void publish_shouldCountFeedingTimeEventsOnOneTimerPerType() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        SpringEventPublisher publisher = new SpringEventPublisher(mockApplicationEventPublisher, registry);
+        FeedingOrganizationService feedingService =
+                new FeedingOrganizationService(mockAnimalRepository, mockFeedingRepository, publisher);
+        when(mockFeedingRepository.findPendingFeedings(any(LocalTime.class)))
+                .thenReturn(List.of(feeding("Leo", FoodType.MEAT), feeding("Zara", FoodType.HAY)));
+
+        // Act
+        feedingService.checkFeedingTimes();
+        feedingService.checkFeedingTimes();
+
+        // Assert
+        assertEquals(4, registry.get("zoo.events.publish").tag("type", "FeedingTimeEvent").timer().count());
+        assertEquals(1, registry.find("zoo.events.publish").timers().size());
+        verify(mockApplicationEventPublisher, times(4)).publishEvent(any(FeedingTimeEvent.class));
+    }
+
+    private Feeding feeding(String name, FoodType foodType) {
+        Animal animal = new Animal(AnimalId.create(), Species.herbivore("Zebra"), name,
+                LocalDate.of(2020, 1, 1), Gender.FEMALE, FavoriteFood.of("Hay"));
+        return new Feeding(FeedingId.create(), animal, FeedingTime.of(8, 0), foodType);
+    }
+}
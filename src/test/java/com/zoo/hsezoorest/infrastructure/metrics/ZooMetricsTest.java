@@ -0,0 +1,46 @@
+package com.zoo.hsezoorest.infrastructure.metrics;
+
+import com.zoo.hsezoorest.domain.repository.AnimalRepository;
+import com.zoo.hsezoorest.domain.repository.EnclosureRepository;
+import com.zoo.hsezoorest.domain.repository.FeedingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ZooMetricsTest {
+
+    @Mock
+    private AnimalRepository mockAnimalRepository;
+    @Mock
+    private EnclosureRepository mockEnclosureRepository;
+    @Mock
+    private FeedingRepository mockFeedingRepository;
+
+    @InjectMocks
+    private ZooMetrics zooMetrics;
+
+    @Test
+    void occupancy_shouldBeReadFromMaintainedCapacityCounters() {
+        // Arrange
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        zooMetrics.bindTo(registry);
+        when(mockEnclosureRepository.totalCapacity()).thenReturn(8L, 0L);
+        when(mockEnclosureRepository.usedCapacity()).thenReturn(6L);
+
+        // Act
+        double occupied = registry.get("zoo.enclosures.occupancy").gauge().value();
+        double noEnclosures = registry.get("zoo.enclosures.occupancy").gauge().value();
+
+        // Assert
+        assertEquals(0.75, occupied);
+        assertEquals(0, noEnclosures);
+        verify(mockEnclosureRepository, never()).findAll();
+    }
+}
@@ -0,0 +1,135 @@
+package com.zoo.hsezoorest.infrastructure.persistence.inmemory;
+
+import com.zoo.hsezoorest.application.exception.ConcurrentUpdateException;
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.animal.FavoriteFood;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.animal.HealthStatus;
+import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.enclosure.Capacity;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import com.zoo.hsezoorest.infrastructure.persistence.EntityChangeNotifier;
+import com.zoo.hsezoorest.infrastructure.persistence.WriteSequence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryAnimalRepositoryTest {
+
+    @Mock
+    private EntityChangeNotifier changeNotifier;
+
+    private InMemoryAnimalRepository repository;
+    private Animal animal;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryAnimalRepository(changeNotifier, new WriteSequence());
+        animal = new Animal(AnimalId.create(), Species.predator("Lion"), "Simba",
+                LocalDate.of(2020, 1, 1), Gender.MALE, FavoriteFood.of("Meat"));
+        repository.save(animal);
+    }
+
+    @Test
+    void update_shouldApplyChanges_whenVersionMatches() {
+        // Act
+        Optional<Animal> updated = repository.update(animal.getId(), animal.getVersion(), Animal::markAsSick);
+
+        // Assert
+        assertTrue(updated.isPresent());
+        assertEquals(HealthStatus.SICK, updated.get().getHealthStatus());
+        assertEquals(1, updated.get().getVersion());
+        verify(changeNotifier, times(2)).notify(any());
+    }
+
+    @Test
+    void update_shouldThrowAndLeaveAnimalUntouched_whenVersionIsStale() {
+        // Arrange
+        long staleVersion = animal.getVersion();
+        repository.update(animal.getId(), Animal::markAsSick);
+
+        // Act & Assert
+        assertThrows(ConcurrentUpdateException.class,
+                () -> repository.update(animal.getId(), staleVersion, current -> current.changeFavoriteFood(FavoriteFood.of("Fish"))));
+        assertEquals("Meat", animal.getFavoriteFood().getValue());
+        assertEquals(1, animal.getVersion());
+    }
+
+    @Test
+    void update_shouldReturnEmpty_whenAnimalDoesNotExist() {
+        // Act
+        Optional<Animal> updated = repository.update(AnimalId.create(), Animal::markAsSick);
+
+        // Assert
+        assertTrue(updated.isEmpty());
+    }
+
+    @Test
+    void countSickAnimals_shouldFollowUpdatesAndDeletes() {
+        // Arrange
+        repository.update(animal.getId(), Animal::markAsSick);
+
+        // Act & Assert
+        assertEquals(1, repository.countSickAnimals());
+        assertTrue(repository.existsSickAnimals());
+        assertEquals(repository.findSickAnimals().size(), repository.countSickAnimals());
+
+        repository.update(animal.getId(), Animal::heal);
+        assertEquals(0, repository.countSickAnimals());
+
+        repository.update(animal.getId(), Animal::markAsSick);
+        repository.deleteById(animal.getId());
+        assertFalse(repository.existsSickAnimals());
+    }
+
+    @Test
+    void countByEnclosureId_shouldMoveWithTheAnimal() {
+        // Arrange
+        Enclosure first = new Enclosure(EnclosureId.create(), EnclosureType.PREDATOR, Capacity.of(2));
+        Enclosure second = new Enclosure(EnclosureId.create(), EnclosureType.PREDATOR, Capacity.of(2));
+        animal.moveToEnclosure(first);
+        repository.save(animal);
+
+        // Act
+        animal.moveToEnclosure(second);
+        repository.save(animal);
+
+        // Assert
+        assertEquals(0, repository.countByEnclosureId(first.getId()));
+        assertEquals(1, repository.countByEnclosureId(second.getId()));
+        assertEquals(1, repository.countBySpecies(Species.predator("Lion")));
+        assertFalse(repository.existsBySpecies(Species.herbivore("Lion")));
+        assertEquals(repository.findBySpecies(Species.predator("Lion")).size(), repository.countBySpecies(Species.predator("Lion")));
+        assertFalse(repository.existsByEnclosureId(first.getId()));
+        assertTrue(repository.existsByEnclosureId(second.getId()));
+        assertEquals(repository.findByEnclosureId(second.getId()).size(), repository.countByEnclosureId(second.getId()));
+    }
+
+    @Test
+    void findAllById_shouldReturnExistingAnimalsInRequestOrder() {
+        // Arrange
+        Animal zebra = repository.save(new Animal(AnimalId.create(), Species.herbivore("Zebra"), "Marty",
+                LocalDate.of(2019, 5, 1), Gender.MALE, FavoriteFood.of("Grass")));
+        AnimalId unknown = AnimalId.create();
+
+        // Act
+        List<Animal> found = repository.findAllById(List.of(zebra.getId(), unknown, animal.getId()));
+
+        // Assert
+        assertEquals(List.of(zebra, animal), found);
+    }
+}
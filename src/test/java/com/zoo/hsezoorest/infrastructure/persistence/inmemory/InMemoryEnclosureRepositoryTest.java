@@ -0,0 +1,95 @@
+package com.zoo.hsezoorest.infrastructure.persistence.inmemory;
+
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.animal.FavoriteFood;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.enclosure.Capacity;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import com.zoo.hsezoorest.infrastructure.persistence.EntityChangeNotifier;
+import com.zoo.hsezoorest.infrastructure.persistence.WriteSequence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryEnclosureRepositoryTest {
+
+    @Mock
+    private EntityChangeNotifier changeNotifier;
+
+    private InMemoryEnclosureRepository repository;
+    private Enclosure predatorPen;
+    private Enclosure mixedPen;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryEnclosureRepository(changeNotifier, new WriteSequence());
+        predatorPen = repository.save(new Enclosure(EnclosureId.create(), EnclosureType.PREDATOR, Capacity.of(1)));
+        mixedPen = repository.save(new Enclosure(EnclosureId.create(), EnclosureType.MIXED, Capacity.of(2)));
+    }
+
+    @Test
+    void countAvailableEnclosures_shouldDropEnclosuresThatFillUp() {
+        // Act
+        long before = repository.countAvailableEnclosures();
+        repository.update(predatorPen.getId(), enclosure -> enclosure.addAnimal(animal(Species.predator("Lion"))));
+
+        // Assert
+        assertEquals(2, before);
+        assertEquals(1, repository.countAvailableEnclosures());
+        assertEquals(repository.findAvailableEnclosures().size(), repository.countAvailableEnclosures());
+        assertTrue(repository.existsAvailableEnclosures());
+
+        repository.deleteById(mixedPen.getId());
+        assertFalse(repository.existsAvailableEnclosures());
+    }
+
+    @Test
+    void countSuitableForAnimalType_shouldMatchFindSuitableForAnimalType() {
+        // Arrange
+        repository.update(predatorPen.getId(), enclosure -> enclosure.addAnimal(animal(Species.predator("Lion"))));
+
+        // Act & Assert
+        assertEquals(1, repository.countSuitableForAnimalType("predator"));
+        assertEquals(1, repository.countSuitableForAnimalType("herbivore"));
+        assertEquals(repository.findSuitableForAnimalType("predator").size(), repository.countSuitableForAnimalType("predator"));
+        assertTrue(repository.existsSuitableForAnimalType("predator"));
+
+        repository.update(mixedPen.getId(), enclosure -> {
+            enclosure.addAnimal(animal(Species.herbivore("Zebra")));
+            enclosure.addAnimal(animal(Species.herbivore("Okapi")));
+        });
+        assertFalse(repository.existsSuitableForAnimalType("herbivore"));
+        assertEquals(repository.findSuitableForAnimalType("herbivore").size(), repository.countSuitableForAnimalType("herbivore"));
+        assertTrue(repository.existsByType(EnclosureType.MIXED));
+        assertFalse(repository.existsByType(EnclosureType.AQUARIUM));
+    }
+
+    @Test
+    void usedCapacity_shouldFollowResidentsAcrossUpdatesAndDeletes() {
+        // Act
+        repository.update(mixedPen.getId(), enclosure -> enclosure.addAnimal(animal(Species.herbivore("Zebra"))));
+        long usedAfterMove = repository.usedCapacity();
+        repository.deleteById(predatorPen.getId());
+
+        // Assert
+        assertEquals(1, usedAfterMove);
+        assertEquals(2, repository.totalCapacity());
+        assertEquals(1, repository.usedCapacity());
+        assertEquals(repository.findAll().stream().mapToInt(Enclosure::getCurrentAnimalCount).sum(), repository.usedCapacity());
+    }
+
+    private Animal animal(Species species) {
+        return new Animal(AnimalId.create(), species, "Name", LocalDate.of(2020, 1, 1), Gender.FEMALE, FavoriteFood.of("Food"));
+    }
+}
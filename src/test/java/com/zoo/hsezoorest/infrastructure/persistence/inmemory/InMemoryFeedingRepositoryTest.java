@@ -0,0 +1,164 @@
+package com.zoo.hsezoorest.infrastructure.persistence.inmemory;
+
+import com.zoo.hsezoorest.application.exception.ConcurrentUpdateException;
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.animal.FavoriteFood;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingTime;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import com.zoo.hsezoorest.infrastructure.persistence.EntityChangeNotifier;
+import com.zoo.hsezoorest.infrastructure.persistence.WriteSequence;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+class InMemoryFeedingRepositoryTest {
+
+    @Mock
+    private EntityChangeNotifier changeNotifier;
+
+    private InMemoryFeedingRepository repository;
+    private Animal animal;
+
+    @BeforeEach
+    void setUp() {
+        repository = new InMemoryFeedingRepository(changeNotifier, new WriteSequence());
+        animal = new Animal(AnimalId.create(), Species.herbivore("Zebra"), "Marty",
+                LocalDate.of(2020, 1, 1), Gender.MALE, FavoriteFood.of("Grass"));
+    }
+
+    @Test
+    void countPending_shouldMatchFindPendingFeedings() {
+        // Arrange
+        Feeding morning = repository.save(feeding(LocalTime.of(8, 0)));
+        repository.save(feeding(LocalTime.of(12, 0)));
+        repository.save(feeding(LocalTime.of(18, 0)));
+        LocalTime noon = LocalTime.NOON;
+
+        // Act
+        long before = repository.countPending(noon);
+        morning.markAsCompleted();
+        repository.save(morning);
+        long after = repository.countPending(noon);
+
+        // Assert
+        assertEquals(2, before);
+        assertEquals(1, after);
+        assertEquals(repository.findPendingFeedings(noon).size(), after);
+        assertTrue(repository.existsPending(noon));
+        assertFalse(repository.existsPending(LocalTime.of(7, 0)));
+    }
+
+    @Test
+    void countCompletedOnDate_shouldDropFeedingsThatWereReset() {
+        // Arrange
+        Feeding feeding = repository.save(feeding(LocalTime.of(8, 0)));
+        feeding.markAsCompleted();
+        repository.save(feeding);
+        LocalDate today = LocalDate.now();
+
+        // Act & Assert
+        assertEquals(1, repository.countCompletedOnDate(today));
+        assertTrue(repository.existsCompletedOnDate(today));
+
+        feeding.resetCompletionStatus();
+        repository.save(feeding);
+        assertEquals(0, repository.countCompletedOnDate(today));
+        assertEquals(repository.findCompletedFeedingsByDate(today).size(), repository.countCompletedOnDate(today));
+    }
+
+    @Test
+    void update_shouldRescheduleAndReindex_whenVersionMatches() {
+        // Arrange
+        Feeding feeding = repository.save(feeding(LocalTime.of(8, 0)));
+
+        // Act
+        repository.update(feeding.getId(), feeding.getVersion(),
+                current -> current.reschedule(FeedingTime.of(14, 0), FoodType.FRUITS));
+
+        // Assert
+        assertEquals(1, feeding.getVersion());
+        assertEquals(0, repository.countByFoodType(FoodType.HAY));
+        assertEquals(1, repository.countByFoodType(FoodType.FRUITS));
+        assertEquals(0, repository.countPending(LocalTime.NOON));
+    }
+
+    @Test
+    void update_shouldThrowAndLeaveFeedingUntouched_whenVersionIsStale() {
+        // Arrange
+        Feeding feeding = repository.save(feeding(LocalTime.of(8, 0)));
+        long staleVersion = feeding.getVersion();
+        repository.update(feeding.getId(), Feeding::markAsCompleted);
+
+        // Act & Assert
+        assertThrows(ConcurrentUpdateException.class, () -> repository.update(feeding.getId(), staleVersion,
+                current -> current.reschedule(FeedingTime.of(14, 0), FoodType.FRUITS)));
+        assertEquals(LocalTime.of(8, 0), feeding.getFeedingTime().getTime());
+        assertEquals(FoodType.HAY, feeding.getFoodType());
+    }
+
+    @Test
+    void deleteById_shouldKeepFeeding_whenVersionIsStale() {
+        // Arrange
+        Feeding feeding = repository.save(feeding(LocalTime.of(8, 0)));
+        long staleVersion = feeding.getVersion();
+        repository.update(feeding.getId(), Feeding::markAsCompleted);
+
+        // Act & Assert
+        assertThrows(ConcurrentUpdateException.class, () -> repository.deleteById(feeding.getId(), staleVersion));
+        assertTrue(repository.existsById(feeding.getId()));
+        assertEquals(1, repository.countByFoodType(FoodType.HAY));
+        assertTrue(repository.deleteById(feeding.getId(), feeding.getVersion()));
+        assertEquals(0, repository.countByFoodType(FoodType.HAY));
+    }
+
+    @Test
+    void countByTimeRange_shouldIncludeBoundsAndIgnoreInvertedRanges() {
+        // Arrange
+        repository.save(feeding(LocalTime.of(8, 0)));
+        repository.save(feeding(LocalTime.of(12, 0)));
+        repository.save(feeding(LocalTime.of(18, 0)));
+
+        // Act & Assert
+        assertEquals(2, repository.countByTimeRange(LocalTime.of(8, 0), LocalTime.of(12, 0)));
+        assertEquals(0, repository.countByTimeRange(LocalTime.of(18, 0), LocalTime.of(8, 0)));
+        assertFalse(repository.existsByTimeRange(LocalTime.of(13, 0), LocalTime.of(17, 0)));
+        assertTrue(repository.existsByTimeRange(LocalTime.of(12, 0), LocalTime.of(12, 0)));
+        assertEquals(repository.findByTimeRange(LocalTime.of(8, 0), LocalTime.of(12, 0)).size(),
+                repository.countByTimeRange(LocalTime.of(8, 0), LocalTime.of(12, 0)));
+    }
+
+    @Test
+    void countByAnimalId_shouldFollowDeletes() {
+        // Arrange
+        repository.save(feeding(LocalTime.of(8, 0)));
+        repository.save(feeding(LocalTime.of(18, 0)));
+
+        // Act
+        long before = repository.countByAnimalId(animal.getId());
+        repository.deleteByAnimalId(animal.getId());
+
+        // Assert
+        assertEquals(2, before);
+        assertEquals(0, repository.countByAnimalId(animal.getId()));
+        assertFalse(repository.existsByAnimalId(animal.getId()));
+        assertFalse(repository.existsByFoodType(FoodType.HAY));
+        assertEquals(0, repository.countPending(LocalTime.MAX));
+    }
+
+    private Feeding feeding(LocalTime time) {
+        return new Feeding(FeedingId.create(), animal, FeedingTime.of(time), FoodType.HAY);
+    }
+}
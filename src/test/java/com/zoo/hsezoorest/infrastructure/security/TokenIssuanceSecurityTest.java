@@ -0,0 +1,58 @@
+package com.zoo.hsezoorest.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.shell.interactive.enabled=false",
+        "spring.security.user.name=keeper",
+        "spring.security.user.password=secret"
+})
+class TokenIssuanceSecurityTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Test
+    void issueToken_shouldAcceptBasicCredentials() {
+        // Act
+        ResponseEntity<String> response = restTemplate.withBasicAuth("keeper", "secret")
+                .postForEntity("/api/auth/token", null, String.class);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().contains("accessToken"));
+    }
+
+    @Test
+    void issueToken_shouldRejectBearerToken() {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(tokenService.issue("keeper", Instant.now()));
+
+        // Act
+        ResponseEntity<String> refresh = restTemplate.exchange(
+                "/api/auth/token", HttpMethod.POST, new HttpEntity<>(headers), String.class);
+        ResponseEntity<String> read = restTemplate.exchange(
+                "/api/statistics", HttpMethod.GET, new HttpEntity<>(headers), String.class);
+
+        // Assert
+        assertTrue(refresh.getStatusCode() == HttpStatus.UNAUTHORIZED || refresh.getStatusCode() == HttpStatus.FORBIDDEN);
+        assertFalse(refresh.hasBody() && refresh.getBody().contains("accessToken"));
+        assertEquals(HttpStatus.OK, read.getStatusCode());
+    }
+}
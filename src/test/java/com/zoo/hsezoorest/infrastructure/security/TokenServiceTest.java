@@ -0,0 +1,64 @@
+package com.zoo.hsezoorest.infrastructure.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+    private TokenService tokenService;
+
+    @BeforeEach
+    void setUp() {
+        tokenService = new TokenService("test-secret", Duration.ofHours(1), 100);
+    }
+
+    @Test
+    void verify_shouldAcceptIssuedToken() {
+        String token = tokenService.issue("keeper", NOW);
+
+        Optional<VerifiedToken> verified = tokenService.verify(token, NOW.plusSeconds(60));
+
+        assertTrue(verified.isPresent());
+        assertEquals("keeper", verified.get().getUsername());
+        assertEquals(NOW.plus(Duration.ofHours(1)), verified.get().getExpiresAt());
+    }
+
+    @Test
+    void verify_shouldRejectExpiredToken() {
+        String token = tokenService.issue("keeper", NOW);
+        tokenService.verify(token, NOW);
+
+        assertTrue(tokenService.verify(token, NOW.plus(Duration.ofHours(1))).isEmpty());
+    }
+
+    @Test
+    void verify_shouldRejectTamperedPayload() {
+        String token = tokenService.issue("keeper", NOW);
+        String forged = tokenService.issue("admin", NOW);
+        String tampered = forged.substring(0, forged.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        assertTrue(tokenService.verify(tampered, NOW).isEmpty());
+    }
+
+    @Test
+    void verify_shouldRejectTokenSignedWithAnotherSecret() {
+        TokenService other = new TokenService("other-secret", Duration.ofHours(1), 100);
+
+        assertTrue(tokenService.verify(other.issue("keeper", NOW), NOW).isEmpty());
+    }
+
+    @Test
+    void verify_shouldRejectMalformedToken() {
+        assertTrue(tokenService.verify("not-a-token", NOW).isEmpty());
+        assertTrue(tokenService.verify("a.b.c", NOW).isEmpty());
+        assertTrue(tokenService.verify("!!!.???", NOW).isEmpty());
+    }
+}
@@ -0,0 +1,57 @@
+package com.zoo.hsezoorest.infrastructure.tracing;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestLatencyRecorderTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestTrace.clear();
+    }
+
+    @Test
+    void trace_shouldChargeNestedPhasesExclusively() {
+        RequestTrace trace = RequestTrace.start(RequestPhase.SECURITY);
+        trace.switchTo(RequestPhase.CONTROLLER);
+        trace.enter(RequestPhase.SERVICE);
+        trace.enter(RequestPhase.REPOSITORY);
+        LockSupport.parkNanos(5_000_000);
+        trace.exit();
+        trace.exit();
+        trace.switchTo(RequestPhase.SERIALIZATION);
+        long total = trace.finish();
+
+        long sum = 0;
+        for (RequestPhase phase : RequestPhase.values()) {
+            sum += trace.getPhaseNanos(phase);
+        }
+        assertEquals(total, sum);
+        assertTrue(trace.getPhaseNanos(RequestPhase.REPOSITORY) >= 5_000_000);
+        assertTrue(trace.getPhaseNanos(RequestPhase.SERVICE) < trace.getPhaseNanos(RequestPhase.REPOSITORY));
+    }
+
+    @Test
+    void record_shouldKeepSeparateHistogramsPerRouteAndStatus() {
+        RequestLatencyRecorder recorder = new RequestLatencyRecorder();
+        RequestTrace trace = RequestTrace.start(RequestPhase.SECURITY);
+        long total = trace.finish();
+
+        recorder.record("GET", "/api/animals/{id}", 200, trace, total);
+        recorder.record("GET", "/api/animals/{id}", 200, trace, total);
+        recorder.record("GET", "/api/animals/{id}", 404, trace, total);
+
+        List<RouteLatency> routes = recorder.getRoutes();
+        assertEquals(2, routes.size());
+        assertEquals(2, routes.get(0).getTotal().getTotalCount());
+        assertEquals(404, routes.get(1).getStatus());
+
+        recorder.reset();
+        assertTrue(recorder.getRoutes().isEmpty());
+    }
+}
@@ -0,0 +1,82 @@
+package com.zoo.hsezoorest.presentation.advice;
+
+import com.zoo.hsezoorest.application.exception.AnimalNotFoundException;
+import com.zoo.hsezoorest.application.exception.ConcurrentUpdateException;
+import com.zoo.hsezoorest.application.exception.EnclosureFullExpection;
+import com.zoo.hsezoorest.application.exception.ErrorCode;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.infrastructure.logging.LogRateLimiter;
+import com.zoo.hsezoorest.presentation.response.ApiResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.method.annotation.ExceptionHandlerMethodResolver;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(Duration.ofSeconds(10));
+
+    @Test
+    void handleEntityNotFound_shouldReportErrorCodeOfDomainException() {
+        // Arrange
+        AnimalId animalId = AnimalId.create();
+        AnimalNotFoundException exception = new AnimalNotFoundException(animalId);
+
+        // Act
+        ApiResponse<Object> response = handler.handleEntityNotFound(exception);
+
+        // Assert
+        assertFalse(response.isSuccess());
+        assertEquals("ANIMAL_NOT_FOUND", response.getErrorCode());
+        assertEquals("Animal not found with ID: " + animalId.getValue(), response.getMessage());
+        assertEquals(0, exception.getStackTrace().length);
+    }
+
+    @Test
+    void handleIllegalArgument_shouldKeepPlainMessageWithoutErrorCode() {
+        // Act
+        ApiResponse<Object> rejected = handler.handleIllegalArgument(new EnclosureFullExpection());
+        ApiResponse<Object> invalid = handler.handleIllegalArgument(new IllegalArgumentException("Invalid identifier: x"));
+
+        // Assert
+        assertEquals("ENCLOSURE_FULL", rejected.getErrorCode());
+        assertNull(invalid.getErrorCode());
+        assertEquals("Invalid identifier: x", invalid.getMessage());
+    }
+
+    @Test
+    void handleConcurrentUpdate_shouldReportConflictRatherThanInvalidRequest() {
+        // Arrange
+        ConcurrentUpdateException exception = new ConcurrentUpdateException("Animal", "a-1", 2, 3);
+        ExceptionHandlerMethodResolver resolver = new ExceptionHandlerMethodResolver(GlobalExceptionHandler.class);
+
+        // Act
+        ApiResponse<Object> response = handler.handleConcurrentUpdate(exception);
+
+        // Assert
+        assertEquals("handleConcurrentUpdate", resolver.resolveMethod(exception).getName());
+        assertEquals("CONFLICT", response.getErrorCode());
+        assertEquals("Animal a-1 was modified concurrently (expected version 2, found 3)", response.getMessage());
+    }
+
+    @Test
+    void tryAcquire_shouldPermitOncePerIntervalAndCountTheRest() {
+        // Arrange
+        LogRateLimiter limiter = new LogRateLimiter(Duration.ofMillis(50));
+
+        // Act & Assert
+        assertEquals(0, limiter.tryAcquire(ErrorCode.ANIMAL_NOT_FOUND));
+        assertEquals(-1, limiter.tryAcquire(ErrorCode.ANIMAL_NOT_FOUND));
+        assertEquals(-1, limiter.tryAcquire(ErrorCode.ANIMAL_NOT_FOUND));
+        assertEquals(0, limiter.tryAcquire(ErrorCode.ENCLOSURE_FULL));
+
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        long suppressed;
+        do {
+            suppressed = limiter.tryAcquire(ErrorCode.ANIMAL_NOT_FOUND);
+        } while (suppressed < 0 && System.nanoTime() < deadline);
+        assertTrue(suppressed >= 2);
+    }
+}
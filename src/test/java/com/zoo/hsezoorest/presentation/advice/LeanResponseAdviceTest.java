@@ -0,0 +1,77 @@
+package com.zoo.hsezoorest.presentation.advice;
+
+import com.zoo.hsezoorest.presentation.response.ApiResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LeanResponseAdviceTest {
+
+    private LeanResponseAdvice advice;
+    private MockHttpServletResponse servletResponse;
+    private ServletServerHttpResponse response;
+
+    @BeforeEach
+    void setUp() {
+        advice = new LeanResponseAdvice();
+        servletResponse = new MockHttpServletResponse();
+        response = new ServletServerHttpResponse(servletResponse);
+    }
+
+    @Test
+    void beforeBodyWrite_shouldKeepEnvelopeForPlainJson() {
+        // Arrange
+        ApiResponse<List<String>> envelope = ApiResponse.success(List.of("Simba"));
+
+        // Act
+        Object body = write(envelope, MediaType.APPLICATION_JSON);
+
+        // Assert
+        assertSame(envelope, body);
+        assertFalse(response.getHeaders().containsKey(LeanResponseAdvice.SUCCESS_HEADER));
+    }
+
+    @Test
+    void beforeBodyWrite_shouldUnwrapPayloadForLeanJson() {
+        // Arrange
+        ApiResponse<List<String>> envelope = ApiResponse.success(List.of("Simba"));
+
+        // Act
+        Object body = write(envelope, LeanResponseAdvice.LEAN_JSON);
+
+        // Assert
+        assertEquals(List.of("Simba"), body);
+        assertEquals("true", response.getHeaders().getFirst(LeanResponseAdvice.SUCCESS_HEADER));
+        assertEquals("Operation successful", response.getHeaders().getFirst(LeanResponseAdvice.MESSAGE_HEADER));
+        assertNotNull(response.getHeaders().getFirst(LeanResponseAdvice.TIMESTAMP_HEADER));
+    }
+
+    @Test
+    void beforeBodyWrite_shouldWriteHeadersWhenThereIsNoPayload() {
+        // Arrange
+        ApiResponse<Object> envelope = ApiResponse.error("Animal not found\r\nX-Injected: yes");
+
+        // Act
+        Object body = write(envelope, LeanResponseAdvice.LEAN_JSON);
+
+        // Assert
+        assertNull(body);
+        assertEquals("false", servletResponse.getHeader(LeanResponseAdvice.SUCCESS_HEADER));
+        assertEquals("Animal not found  X-Injected: yes", servletResponse.getHeader(LeanResponseAdvice.MESSAGE_HEADER));
+        assertNull(servletResponse.getHeader("X-Injected"));
+    }
+
+    private Object write(Object body, MediaType contentType) {
+        return advice.beforeBodyWrite(body, null, contentType, MappingJackson2HttpMessageConverter.class,
+                new ServletServerHttpRequest(new MockHttpServletRequest()), response);
+    }
+}
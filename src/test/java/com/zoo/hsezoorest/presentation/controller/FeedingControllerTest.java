@@ -0,0 +1,146 @@
+package com.zoo.hsezoorest.presentation.controller;
+
+import com.zoo.hsezoorest.application.exception.ConcurrentUpdateException;
+import com.zoo.hsezoorest.application.service.FeedingOrganizationService;
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.animal.FavoriteFood;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingTime;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import com.zoo.hsezoorest.domain.repository.FeedingRepository;
+import com.zoo.hsezoorest.infrastructure.persistence.EntityChangeNotifier;
+import com.zoo.hsezoorest.infrastructure.persistence.WriteSequence;
+import com.zoo.hsezoorest.infrastructure.persistence.inmemory.InMemoryFeedingRepository;
+import com.zoo.hsezoorest.presentation.etag.EntityTags;
+import com.zoo.hsezoorest.presentation.etag.PreconditionFailedException;
+import com.zoo.hsezoorest.presentation.mapper.FeedingResponseMapper;
+import com.zoo.hsezoorest.presentation.request.FeedingCompletionRequest;
+import com.zoo.hsezoorest.presentation.request.FeedingRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FeedingControllerTest {
+
+    @Mock
+    private FeedingRepository mockFeedingRepository;
+    @Mock
+    private FeedingOrganizationService mockFeedingService;
+    @Mock
+    private FeedingResponseMapper mockFeedingResponseMapper;
+
+    @InjectMocks
+    private FeedingController feedingController;
+
+    @Test
+    void updateFeedingSchedule_shouldReplaceScheduleWithoutTouchingIt_whenAnimalChanges() {
+        // Arrange
+        Animal zebra = animal(Species.herbivore("Zebra"));
+        Animal giraffe = animal(Species.herbivore("Giraffe"));
+        Feeding schedule = new Feeding(FeedingId.create(), zebra, FeedingTime.of(LocalTime.of(8, 0)), FoodType.HAY);
+        Feeding replacement = new Feeding(FeedingId.create(), giraffe, FeedingTime.of(LocalTime.of(9, 0)), FoodType.FRUITS);
+        FeedingRequest request = new FeedingRequest(giraffe.getId().getValue(), LocalTime.of(9, 0), FoodType.FRUITS);
+
+        when(mockFeedingRepository.findById(schedule.getId())).thenReturn(Optional.of(schedule));
+        when(mockFeedingService.createFeedingSchedule(any(AnimalId.class), any(FeedingTime.class), any(FoodType.class)))
+                .thenReturn(replacement);
+        when(mockFeedingRepository.deleteById(schedule.getId(), 0L)).thenReturn(true);
+
+        // Act
+        feedingController.updateFeedingSchedule(schedule.getId().getValue(), request, null, new MockHttpServletResponse());
+
+        // Assert
+        assertEquals(LocalTime.of(8, 0), schedule.getFeedingTime().getTime());
+        assertEquals(FoodType.HAY, schedule.getFoodType());
+        verify(mockFeedingService).createFeedingSchedule(giraffe.getId(), FeedingTime.of(LocalTime.of(9, 0)), FoodType.FRUITS);
+        verify(mockFeedingRepository).deleteById(schedule.getId(), 0L);
+        verify(mockFeedingRepository, never()).save(any());
+    }
+
+    @Test
+    void updateFeedingSchedule_shouldDropReplacement_whenOldScheduleChangedMeanwhile() {
+        // Arrange
+        Animal zebra = animal(Species.herbivore("Zebra"));
+        Animal giraffe = animal(Species.herbivore("Giraffe"));
+        Feeding schedule = new Feeding(FeedingId.create(), zebra, FeedingTime.of(LocalTime.of(8, 0)), FoodType.HAY);
+        Feeding replacement = new Feeding(FeedingId.create(), giraffe, FeedingTime.of(LocalTime.of(9, 0)), FoodType.FRUITS);
+        FeedingRequest request = new FeedingRequest(giraffe.getId().getValue(), LocalTime.of(9, 0), FoodType.FRUITS);
+
+        when(mockFeedingRepository.findById(schedule.getId())).thenReturn(Optional.of(schedule));
+        when(mockFeedingService.createFeedingSchedule(any(AnimalId.class), any(FeedingTime.class), any(FoodType.class)))
+                .thenReturn(replacement);
+        when(mockFeedingRepository.deleteById(schedule.getId(), 0L))
+                .thenThrow(new ConcurrentUpdateException("Feeding schedule", schedule.getId().getValue(), 0, 1));
+
+        // Act & Assert
+        assertThrows(ConcurrentUpdateException.class, () -> feedingController.updateFeedingSchedule(
+                schedule.getId().getValue(), request, null, new MockHttpServletResponse()));
+        verify(mockFeedingRepository).deleteById(replacement.getId());
+    }
+
+    @Test
+    void updateFeedingSchedule_shouldApplyChangesAgainstMatchedVersion_whenAnimalStaysTheSame() {
+        // Arrange
+        Animal zebra = animal(Species.herbivore("Zebra"));
+        InMemoryFeedingRepository repository = new InMemoryFeedingRepository(mock(EntityChangeNotifier.class), new WriteSequence());
+        Feeding schedule = repository.save(
+                new Feeding(FeedingId.create(), zebra, FeedingTime.of(LocalTime.of(8, 0)), FoodType.HAY));
+        String ifMatch = EntityTags.forFeeding(schedule);
+        FeedingController controller = new FeedingController(repository, mockFeedingService, null, null, null,
+                mockFeedingResponseMapper);
+        FeedingRequest request = new FeedingRequest(zebra.getId().getValue(), LocalTime.of(10, 0), FoodType.VEGETABLES);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        controller.updateFeedingSchedule(schedule.getId().getValue(), request, ifMatch, response);
+
+        // Assert
+        assertEquals(LocalTime.of(10, 0), schedule.getFeedingTime().getTime());
+        assertEquals(FoodType.VEGETABLES, schedule.getFoodType());
+        assertEquals(1, schedule.getVersion());
+        assertEquals(EntityTags.forFeeding(schedule), response.getHeader(HttpHeaders.ETAG));
+        assertThrows(PreconditionFailedException.class, () -> controller.updateFeedingSchedule(
+                schedule.getId().getValue(), request, ifMatch, new MockHttpServletResponse()));
+        verifyNoInteractions(mockFeedingService);
+    }
+
+    @Test
+    void completeFeedingSchedules_requestShouldRejectMissingAndBlankIds() {
+        // Arrange
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        FeedingCompletionRequest request = new FeedingCompletionRequest(Arrays.asList(FeedingId.create().getValue(), null, " "));
+
+        // Act
+        Set<ConstraintViolation<FeedingCompletionRequest>> violations = validator.validate(request);
+
+        // Assert
+        assertEquals(2, violations.size());
+        assertTrue(violations.stream().allMatch(v -> v.getPropertyPath().toString().startsWith("feedingIds[")));
+    }
+
+    private Animal animal(Species species) {
+        return new Animal(AnimalId.create(), species, "Name", LocalDate.of(2020, 1, 1), Gender.FEMALE, FavoriteFood.of("Food"));
+    }
+}
@@ -0,0 +1,41 @@
+package com.zoo.hsezoorest.presentation.etag;
+
+import com.zoo.hsezoorest.domain.model.enclosure.Capacity;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityTagsTest {
+
+    @Test
+    void matchedVersion_shouldReadTheVersionTheClientSaw() {
+        // Arrange
+        Enclosure enclosure = new Enclosure(EnclosureId.create(), EnclosureType.PREDATOR, Capacity.of(2));
+        enclosure.markAsDirty();
+        enclosure.clean();
+        String tag = EntityTags.forEnclosure(enclosure);
+
+        // Act
+        OptionalLong version = EntityTags.matchedVersion("\"0-1\", " + tag, tag);
+
+        // Assert
+        assertEquals(OptionalLong.of(2), version);
+    }
+
+    @Test
+    void matchedVersion_shouldBeEmptyWithoutAMatchingTag() {
+        // Arrange
+        Enclosure enclosure = new Enclosure(EnclosureId.create(), EnclosureType.PREDATOR, Capacity.of(2));
+        String tag = EntityTags.forEnclosure(enclosure);
+
+        // Act & Assert
+        assertTrue(EntityTags.matchedVersion(null, tag).isEmpty());
+        assertTrue(EntityTags.matchedVersion("*", tag).isEmpty());
+        assertTrue(EntityTags.matchedVersion("\"0-1\"", tag).isEmpty());
+    }
+}
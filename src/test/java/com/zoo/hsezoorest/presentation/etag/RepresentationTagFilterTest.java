@@ -0,0 +1,80 @@
+package com.zoo.hsezoorest.presentation.etag;
+
+import com.zoo.hsezoorest.presentation.advice.LeanResponseAdvice;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RepresentationTagFilterTest {
+
+    private static final String ETAG = "\"3-5eed\"";
+
+    private final RepresentationTagFilter filter = new RepresentationTagFilter();
+
+    @Test
+    void doFilter_shouldTagEveryNegotiatedRepresentationSeparately() throws Exception {
+        // Act
+        MockHttpServletResponse json = send(request(MediaType.APPLICATION_JSON_VALUE, null));
+        MockHttpServletResponse any = send(request(null, null));
+        MockHttpServletResponse lean = send(request(LeanResponseAdvice.LEAN_JSON_VALUE, null));
+        MockHttpServletResponse cbor = send(request(MediaType.APPLICATION_CBOR_VALUE, null));
+        MockHttpServletResponse smile = send(request("application/x-jackson-smile", null));
+
+        // Assert
+        assertEquals(ETAG, json.getHeader(HttpHeaders.ETAG));
+        assertEquals(ETAG, any.getHeader(HttpHeaders.ETAG));
+        assertEquals("\"3-5eed-lean\"", lean.getHeader(HttpHeaders.ETAG));
+        assertEquals("\"3-5eed-cbor\"", cbor.getHeader(HttpHeaders.ETAG));
+        assertEquals("\"3-5eed-smile\"", smile.getHeader(HttpHeaders.ETAG));
+        assertEquals(HttpHeaders.ACCEPT, cbor.getHeader(HttpHeaders.VARY));
+        assertEquals(HttpHeaders.ACCEPT, json.getHeader(HttpHeaders.VARY));
+    }
+
+    @Test
+    void doFilter_shouldOnlyValidateTagsIssuedForTheNegotiatedRepresentation() throws Exception {
+        // Act
+        MockHttpServletResponse cborRevalidated = send(request(MediaType.APPLICATION_CBOR_VALUE, "\"3-5eed-cbor\""));
+        MockHttpServletResponse cborWithJsonTag = send(request(MediaType.APPLICATION_CBOR_VALUE, ETAG));
+        MockHttpServletResponse jsonWithCborTag = send(request(MediaType.APPLICATION_JSON_VALUE, "\"3-5eed-cbor\""));
+        MockHttpServletResponse leanWithCborTag = send(request(LeanResponseAdvice.LEAN_JSON_VALUE, "\"3-5eed-cbor\""));
+
+        // Assert
+        assertEquals(HttpServletResponse.SC_NOT_MODIFIED, cborRevalidated.getStatus());
+        assertEquals("\"3-5eed-cbor\"", cborRevalidated.getHeader(HttpHeaders.ETAG));
+        assertEquals(HttpServletResponse.SC_OK, cborWithJsonTag.getStatus());
+        assertEquals(HttpServletResponse.SC_OK, jsonWithCborTag.getStatus());
+        assertEquals(HttpServletResponse.SC_OK, leanWithCborTag.getStatus());
+    }
+
+    private MockHttpServletRequest request(String accept, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/zoo/api/animals/1");
+        if (accept != null) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return request;
+    }
+
+    // Stands in for a controller that tags the entity before the body is negotiated
+    private MockHttpServletResponse send(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain handler = (req, res) -> {
+            if (new ServletWebRequest((HttpServletRequest) req, (HttpServletResponse) res).checkNotModified(ETAG)) {
+                return;
+            }
+            res.getOutputStream().write(new byte[]{1});
+        };
+        filter.doFilter(request, response, handler);
+        return response;
+    }
+}
@@ -0,0 +1,142 @@
+package com.zoo.hsezoorest.presentation.mapper;
+
+import com.zoo.hsezoorest.domain.model.animal.Animal;
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.domain.model.animal.FavoriteFood;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.animal.HealthStatus;
+import com.zoo.hsezoorest.domain.model.animal.Species;
+import com.zoo.hsezoorest.domain.model.enclosure.Capacity;
+import com.zoo.hsezoorest.domain.model.enclosure.Enclosure;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureId;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import com.zoo.hsezoorest.domain.model.feeding.Feeding;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingId;
+import com.zoo.hsezoorest.domain.model.feeding.FeedingTime;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import com.zoo.hsezoorest.presentation.response.AnimalResponse;
+import com.zoo.hsezoorest.presentation.response.EnclosureResponse;
+import com.zoo.hsezoorest.presentation.response.FeedingResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseMapperTest {
+
+    private AnimalResponseMapper animalMapper;
+    private EnclosureResponseMapper enclosureMapper;
+    private FeedingResponseMapper feedingMapper;
+    private Animal lion;
+    private Enclosure enclosure;
+
+    @BeforeEach
+    void setUp() {
+        animalMapper = new AnimalResponseMapper(100);
+        enclosureMapper = new EnclosureResponseMapper(100);
+        feedingMapper = new FeedingResponseMapper(100);
+        lion = new Animal(AnimalId.create(), Species.predator("Lion"), "Simba",
+                LocalDate.of(2020, 1, 1), Gender.MALE, FavoriteFood.of("Meat"));
+        enclosure = new Enclosure(EnclosureId.create(), EnclosureType.PREDATOR, Capacity.of(4));
+        lion.moveToEnclosure(enclosure);
+    }
+
+    @Test
+    void animalMapper_shouldReuseProjection_whileAnimalIsUnchanged() {
+        // Act
+        AnimalResponse first = animalMapper.toResponse(lion);
+        List<AnimalResponse> list = animalMapper.toResponses(List.of(lion));
+
+        // Assert
+        assertSame(first, list.get(0));
+        assertEquals("Simba", first.getName());
+        assertEquals(enclosure.getId().getValue(), first.getCurrentEnclosure().getId());
+    }
+
+    @Test
+    void animalMapper_shouldRebuild_whenAnimalOrItsEnclosureChanges() {
+        // Arrange
+        AnimalResponse initial = animalMapper.toResponse(lion);
+
+        // Act
+        lion.markAsSick();
+        AnimalResponse afterSick = animalMapper.toResponse(lion);
+        enclosure.reconfigure(EnclosureType.MIXED, Capacity.of(4));
+        AnimalResponse afterReconfigure = animalMapper.toResponse(lion);
+
+        // Assert
+        assertNotSame(initial, afterSick);
+        assertEquals(HealthStatus.SICK, afterSick.getHealthStatus());
+        assertNotSame(afterSick, afterReconfigure);
+        assertEquals(EnclosureType.MIXED.getDisplayName(), afterReconfigure.getCurrentEnclosure().getType());
+    }
+
+    @Test
+    void enclosureMapper_shouldReportCountsOnly_unlessExpanded() {
+        // Act
+        EnclosureResponse summary = enclosureMapper.toResponse(enclosure);
+        lion.markAsSick();
+        EnclosureResponse afterSick = enclosureMapper.toResponse(enclosure);
+        EnclosureResponse capped = enclosureMapper.toExpandedResponse(enclosure, 0);
+
+        // Assert
+        assertNull(summary.getAnimals());
+        assertEquals(1, summary.getCurrentAnimalCount());
+        assertSame(summary, afterSick);
+        assertTrue(capped.getAnimals().isEmpty());
+        assertEquals(1, capped.getCurrentAnimalCount());
+    }
+
+    @Test
+    void enclosureMapper_shouldRebuild_whenMemberAnimalChanges() {
+        // Arrange
+        EnclosureResponse initial = enclosureMapper.toExpandedResponse(enclosure, 10);
+        assertSame(initial, enclosureMapper.toExpandedResponse(enclosure, 10));
+
+        // Act
+        lion.markAsSick();
+        EnclosureResponse afterSick = enclosureMapper.toExpandedResponse(enclosure, 10);
+
+        // Assert
+        assertNotSame(initial, afterSick);
+        assertEquals(EnclosureResponse.AnimalInfo.HealthStatus.SICK, afterSick.getAnimals().get(0).getStatus());
+    }
+
+    @Test
+    void feedingMapper_shouldRebuild_whenFeedingOrAnimalChanges() {
+        // Arrange
+        Feeding feeding = new Feeding(FeedingId.create(), lion, FeedingTime.of(9, 0), FoodType.MEAT);
+        FeedingResponse initial = feedingMapper.toResponse(feeding);
+        assertSame(initial, feedingMapper.toResponse(feeding));
+
+        // Act
+        feeding.markAsCompleted();
+        FeedingResponse afterCompleted = feedingMapper.toResponse(feeding);
+        lion.changeFavoriteFood(FavoriteFood.of("Fish"));
+        FeedingResponse afterAnimalChange = feedingMapper.toResponse(feeding);
+
+        // Assert
+        assertNotSame(initial, afterCompleted);
+        assertTrue(afterCompleted.isCompleted());
+        assertEquals(1, afterCompleted.getFeedingHistory().size());
+        assertNotSame(afterCompleted, afterAnimalChange);
+    }
+
+    @Test
+    void mappers_shouldReturnResponsesWhoseListsCannotBeModified() {
+        // Arrange
+        Feeding feeding = new Feeding(FeedingId.create(), lion, FeedingTime.of(9, 0), FoodType.MEAT);
+        feeding.markAsCompleted();
+
+        // Act
+        EnclosureResponse expanded = enclosureMapper.toExpandedResponse(enclosure, 10);
+        FeedingResponse response = feedingMapper.toResponse(feeding);
+
+        // Assert
+        assertThrows(UnsupportedOperationException.class, () -> expanded.getAnimals().clear());
+        assertThrows(UnsupportedOperationException.class, () -> response.getFeedingHistory().add("2020-01-01"));
+    }
+}
@@ -0,0 +1,100 @@
+package com.zoo.hsezoorest.presentation.request;
+
+import com.zoo.hsezoorest.application.service.EnclosureDashboardService;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import com.zoo.hsezoorest.domain.repository.EnclosureRepository;
+import com.zoo.hsezoorest.infrastructure.cache.QueryCache;
+import com.zoo.hsezoorest.presentation.advice.GlobalExceptionHandler;
+import com.zoo.hsezoorest.presentation.controller.EnclosureController;
+import com.zoo.hsezoorest.presentation.mapper.EnclosureResponseMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class RequestValidationTest {
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @Mock
+    private EnclosureRepository mockEnclosureRepository;
+    @Mock
+    private EnclosureDashboardService mockDashboardService;
+    @Mock
+    private QueryCache mockQueryCache;
+    @Mock
+    private EnclosureResponseMapper mockEnclosureResponseMapper;
+
+    @Test
+    void validate_shouldRejectIncompleteAnimalRequest() {
+        // Arrange
+        AnimalRequest request = new AnimalRequest(" ", "Lion", true, LocalDate.now().plusDays(1), null, "", null);
+
+        // Act
+        Set<String> invalid = invalidFields(request);
+
+        // Assert
+        assertEquals(Set.of("name", "birthDate", "gender", "favoriteFood"), invalid);
+        assertTrue(invalidFields(new AnimalRequest("Leo", "Lion", true, LocalDate.of(2020, 1, 1),
+                Gender.MALE, "Meat", null)).isEmpty());
+    }
+
+    @Test
+    void validate_shouldRejectEnclosureRequestWithoutRoom() {
+        // Act & Assert
+        assertEquals(Set.of("type", "capacity"), invalidFields(new EnclosureRequest(null, 0)));
+        assertEquals(Set.of("capacity"), invalidFields(new EnclosureRequest(EnclosureType.MIXED, null)));
+        assertTrue(invalidFields(new EnclosureRequest(EnclosureType.MIXED, 1)).isEmpty());
+    }
+
+    @Test
+    void validate_shouldRejectTransferRequestWithoutIds() {
+        // Act & Assert
+        assertEquals(Set.of("animalId", "enclosureId"), invalidFields(new AnimalTransferRequest("", null, "Checkup")));
+        assertTrue(invalidFields(new AnimalTransferRequest("a-1", "e-1", null)).isEmpty());
+    }
+
+    @Test
+    void createEnclosure_shouldAnswerBadRequestBeforeTouchingTheRepository_whenBodyIsInvalid() throws Exception {
+        // Arrange
+        MockMvc mockMvc = MockMvcBuilders
+                .standaloneSetup(new EnclosureController(mockEnclosureRepository, mockDashboardService,
+                        mockQueryCache, mockEnclosureResponseMapper))
+                .setControllerAdvice(new GlobalExceptionHandler(Duration.ofSeconds(10)))
+                .build();
+
+        // Act & Assert
+        mockMvc.perform(post("/api/enclosures")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"type\":\"MIXED\",\"capacity\":0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.capacity").value("Capacity must be at least 1"));
+        verifyNoInteractions(mockEnclosureRepository);
+    }
+
+    private Set<String> invalidFields(Object request) {
+        return validator.validate(request).stream()
+                .map(ConstraintViolation::getPropertyPath)
+                .map(Object::toString)
+                .collect(Collectors.toSet());
+    }
+}
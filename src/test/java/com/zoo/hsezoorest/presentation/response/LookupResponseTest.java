@@ -0,0 +1,46 @@
+package com.zoo.hsezoorest.presentation.response;
+
+import com.zoo.hsezoorest.domain.model.animal.AnimalId;
+import com.zoo.hsezoorest.presentation.request.IdsRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LookupResponseTest {
+
+    @Test
+    void of_shouldKeepRequestOrderAndReportMissingIds() {
+        // Arrange
+        AnimalId first = AnimalId.create();
+        AnimalId missing = AnimalId.create();
+        AnimalId last = AnimalId.create();
+        Set<AnimalId> requested = IdsRequest.parse(
+                List.of(first.getValue(), missing.getValue(), last.getValue(), first.getValue()), AnimalId::of);
+
+        // Act
+        LookupResponse<String> response = LookupResponse.of(requested, List.of(first, last),
+                id -> id, ids -> ids.stream().map(AnimalId::getValue).toList());
+
+        // Assert
+        assertEquals(3, requested.size());
+        assertEquals(List.of(first.getValue(), last.getValue()), response.getItems());
+        assertEquals(List.of(missing.getValue()), response.getMissingIds());
+    }
+
+    @Test
+    void parse_shouldRejectEmptyAndOversizedRequests() {
+        List<String> tooMany = new ArrayList<>(Collections.nCopies(IdsRequest.MAX_IDS + 1, AnimalId.create().getValue()));
+
+        assertThrows(IllegalArgumentException.class, () -> IdsRequest.parse(List.of(), AnimalId::of));
+        assertThrows(IllegalArgumentException.class, () -> IdsRequest.parse(tooMany, AnimalId::of));
+        assertThrows(IllegalArgumentException.class, () -> IdsRequest.parse(List.of("not-an-id"), AnimalId::of));
+        assertThrows(IllegalArgumentException.class, () -> IdsRequest.parse(Arrays.asList(AnimalId.create().getValue(), null), AnimalId::of));
+        assertThrows(IllegalArgumentException.class, () -> IdsRequest.parse(List.of(" "), AnimalId::of));
+    }
+}
@@ -0,0 +1,89 @@
+package com.zoo.hsezoorest.presentation.serialization;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.zoo.hsezoorest.domain.model.animal.Gender;
+import com.zoo.hsezoorest.domain.model.animal.HealthStatus;
+import com.zoo.hsezoorest.domain.model.enclosure.EnclosureType;
+import com.zoo.hsezoorest.domain.model.feeding.FoodType;
+import com.zoo.hsezoorest.presentation.response.AnimalResponse;
+import com.zoo.hsezoorest.presentation.response.EnclosureResponse;
+import com.zoo.hsezoorest.presentation.response.FeedingResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseSerializerTest {
+
+    private ObjectMapper beanMapper;
+    private ObjectMapper customMapper;
+
+    @BeforeEach
+    void setUp() {
+        beanMapper = mapperBuilder().build();
+        customMapper = mapperBuilder()
+                .serializers(new AnimalResponseSerializer(), new EnclosureResponseSerializer(), new FeedingResponseSerializer())
+                .build();
+    }
+
+    @Test
+    void animalSerializer_shouldMatchBeanSerializer() throws Exception {
+        AnimalResponse full = AnimalResponse.builder()
+                .id("a-1").name("Simba \"the\" Lion").species("Lion").isPredator(true)
+                .birthDate(LocalDate.of(2018, 5, 15)).gender(Gender.MALE).favoriteFood("Meat")
+                .healthStatus(HealthStatus.SICK)
+                .currentEnclosure(AnimalResponse.EnclosureInfo.builder().id("e-1").type("Predator").build())
+                .build();
+        AnimalResponse sparse = AnimalResponse.builder().id("a-2").birthDate(LocalDate.of(12345, 1, 1)).build();
+
+        assertSameJson(List.of(full, sparse));
+    }
+
+    @Test
+    void enclosureSerializer_shouldMatchBeanSerializer() throws Exception {
+        EnclosureResponse full = EnclosureResponse.builder()
+                .id("e-1").type(EnclosureType.AVIARY).capacity(5).currentAnimalCount(1).remainingCapacity(4)
+                .isClean(true).lastCleaningTime(LocalDateTime.of(2025, 1, 2, 3, 4, 5, 816_466_573))
+                .animals(List.of(EnclosureResponse.AnimalInfo.builder()
+                        .id("a-1").name("Rio").species("Parrot")
+                        .status(EnclosureResponse.AnimalInfo.HealthStatus.UNDER_OBSERVATION).build()))
+                .build();
+        EnclosureResponse sparse = EnclosureResponse.builder()
+                .lastCleaningTime(LocalDateTime.of(2025, 1, 2, 3, 4)).animals(List.of()).build();
+
+        assertSameJson(List.of(full, sparse));
+    }
+
+    @Test
+    void feedingSerializer_shouldMatchBeanSerializer() throws Exception {
+        FeedingResponse full = FeedingResponse.builder()
+                .id("f-1")
+                .animal(FeedingResponse.AnimalInfo.builder().id("a-1").name("Dumbo").species("Elephant").build())
+                .feedingTime(LocalTime.of(9, 30)).foodType(FoodType.FRUITS).isCompleted(true)
+                .lastFedTime(LocalDateTime.of(2025, 1, 2, 9, 30, 0, 500_000_000))
+                .feedingHistory(Arrays.asList("2025-01-01", null))
+                .build();
+        FeedingResponse sparse = FeedingResponse.builder().feedingTime(LocalTime.of(8, 0, 0, 1_000)).build();
+
+        assertSameJson(List.of(full, sparse));
+    }
+
+    private void assertSameJson(Object value) throws Exception {
+        assertEquals(beanMapper.writeValueAsString(value), customMapper.writeValueAsString(value));
+    }
+
+    private static Jackson2ObjectMapperBuilder mapperBuilder() {
+        return new Jackson2ObjectMapperBuilder()
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}